@@ -0,0 +1,174 @@
+package home.frame;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Frame;
+import java.awt.KeyboardFocusManager;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Drives the animated backgrounds of the menus and dialogs from one Swing timer.
+ *
+ * Panels register with the frame interval they want and are repainted on the
+ * ticks that fall due, so every panel animating at the same time is repainted
+ * in the same pass on the EDT instead of on the beat of its own timer. A panel
+ * is only driven while it is showing, which skips panels that were swapped out
+ * of the frame but not cleaned up, and nothing is driven while the game's
+ * windows are minimised or another application has the focus. The timer only
+ * runs while some panel can be driven.
+ *
+ * Panels that only repaint are held weakly, so one that is dropped without
+ * unregistering doesn't stay alive. A step usually holds on to its panel, so
+ * panels with a step have to unregister. Used from the EDT.
+ */
+public class AnimationScheduler {
+
+    private static final AnimationScheduler instance = new AnimationScheduler();
+
+    private final Map<JComponent, Animation> animations = new WeakHashMap<>();
+    private final Timer timer;
+    private final HierarchyListener showingListener = event -> {
+        if ((event.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+            updateTimer();
+        }
+    };
+    private boolean updatePending;
+
+    private AnimationScheduler() {
+        timer = new Timer(0, e -> tick());
+        timer.setCoalesce(true);
+        // Minimising, restoring and focus changes start or stop the timer
+        Toolkit.getDefaultToolkit().addAWTEventListener(event -> scheduleUpdate(),
+                AWTEvent.WINDOW_EVENT_MASK | AWTEvent.WINDOW_STATE_EVENT_MASK | AWTEvent.WINDOW_FOCUS_EVENT_MASK);
+    }
+
+    public static AnimationScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Repaints the component every frame interval while it is showing
+     */
+    public void register(JComponent component, int frameMillis) {
+        register(component, frameMillis, null);
+    }
+
+    /**
+     * Steps the component's animation and repaints it every frame interval while
+     * it is showing
+     *
+     * @param step advances the animation before the repaint, may be null
+     */
+    public void register(JComponent component, int frameMillis, Runnable step) {
+        if (!animations.containsKey(component)) {
+            component.addHierarchyListener(showingListener);
+        }
+        animations.put(component, new Animation(Math.max(1, frameMillis), step));
+        updateTimer();
+    }
+
+    public void unregister(JComponent component) {
+        if (animations.remove(component) != null) {
+            component.removeHierarchyListener(showingListener);
+            updateTimer();
+        }
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        // Due a little early rather than a whole tick late
+        long tolerance = timer.getDelay() / 2;
+        for (Map.Entry<JComponent, Animation> entry : new ArrayList<>(animations.entrySet())) {
+            JComponent component = entry.getKey();
+            Animation animation = entry.getValue();
+            if (!isDriven(component) || now + tolerance < animation.nextFrame) {
+                continue;
+            }
+            animation.nextFrame = Math.max(animation.nextFrame + animation.frameMillis, now);
+            try {
+                if (animation.step != null) {
+                    animation.step.run();
+                }
+            } catch (Exception e) {
+                System.err.println("Error stepping animation: " + e.getMessage());
+            }
+            component.repaint();
+        }
+    }
+
+    /**
+     * Updates the timer once the window events being handled have settled, focus
+     * passing between the game's own windows briefly leaves none of them active
+     */
+    private void scheduleUpdate() {
+        if (updatePending) {
+            return;
+        }
+        updatePending = true;
+        SwingUtilities.invokeLater(() -> {
+            updatePending = false;
+            updateTimer();
+        });
+    }
+
+    /**
+     * Runs the timer at the shortest interval of the panels that can be driven,
+     * stops it when there are none
+     */
+    private void updateTimer() {
+        int delay = Integer.MAX_VALUE;
+        for (Map.Entry<JComponent, Animation> entry : animations.entrySet()) {
+            if (isDriven(entry.getKey())) {
+                delay = Math.min(delay, entry.getValue().frameMillis);
+            }
+        }
+        if (delay == Integer.MAX_VALUE) {
+            timer.stop();
+            return;
+        }
+        if (timer.getDelay() != delay) {
+            timer.setDelay(delay);
+            timer.setInitialDelay(delay);
+            timer.restart();
+        } else if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    /**
+     * Checks if the component is on screen in a window that isn't minimised while
+     * the game has the focus
+     */
+    private boolean isDriven(Component component) {
+        if (!component.isShowing() || KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow() == null) {
+            return false;
+        }
+        for (Window window = SwingUtilities.getWindowAncestor(component); window != null; window = window.getOwner()) {
+            if (window instanceof Frame && (((Frame) window).getExtendedState() & Frame.ICONIFIED) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Animation {
+        final int frameMillis;
+        final Runnable step;
+        long nextFrame;
+
+        Animation(int frameMillis, Runnable step) {
+            this.frameMillis = frameMillis;
+            this.step = step;
+        }
+    }
+}
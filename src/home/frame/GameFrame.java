@@ -1,5 +1,6 @@
 package home.frame;
 
+import java.awt.Dimension;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
@@ -26,11 +27,15 @@ public class GameFrame extends JFrame {
     private ShopMenu shopMenu;
     private SettingsMenu settingsMenu;
     private HelpMenu helpMenu;
+    private final Dimension minimumGameSize; // Smallest window while the game screen shows
 
     public GameFrame(Game game) {
         super("Planet Conquest");
         this.game = game;
-        setSize(GameConstants.getGameWidth() + 10, GameConstants.getGameHeight() + 30);
+        // Size the inside of the window to the game, the game screen scales to fit when it is resized
+        getContentPane().setPreferredSize(new Dimension(GameConstants.getGameWidth(), GameConstants.getGameHeight()));
+        pack();
+        minimumGameSize = new Dimension(getWidth() / 2, getHeight() / 2);
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent windowEvent) {
@@ -60,11 +65,28 @@ public class GameFrame extends JFrame {
         getContentPane().removeAll();
         game = new Game(difficulty); // Create fresh game instance with difficulty
         GameMenu menu = createGameMenu(difficulty);
+        setGameScreenShowing(true);
         add(menu);
         revalidate();
         repaint();
     }
 
+    /**
+     * Only the game screen scales to the window, the menus are drawn at the game
+     * size. Going back to a menu puts the window back to that size.
+     */
+    private void setGameScreenShowing(boolean showing) {
+        if (showing) {
+            setMinimumSize(minimumGameSize);
+            setResizable(true);
+        } else if (isResizable()) {
+            setExtendedState(NORMAL);
+            setResizable(false);
+            setMinimumSize(null);
+            pack();
+        }
+    }
+
     // Keep the old method for backward compatibility
     public void openGameMenu() {
         openGameMenu(Difficulty.MEDIUM); // Default to medium difficulty
@@ -77,6 +99,7 @@ public class GameFrame extends JFrame {
         }
 
         getContentPane().removeAll();
+        setGameScreenShowing(false);
         // Clean up previous menu if it exists
         if (mainMenu != null) {
             mainMenu.cleanup();
@@ -94,6 +117,7 @@ public class GameFrame extends JFrame {
         }
 
         getContentPane().removeAll();
+        setGameScreenShowing(false);
         // Clean up previous menu if it exists
         if (shopMenu != null) {
             shopMenu.cleanup();
@@ -111,6 +135,7 @@ public class GameFrame extends JFrame {
         }
 
         getContentPane().removeAll();
+        setGameScreenShowing(false);
         AchievementMenu achievementMenu = new AchievementMenu(this);
         add(achievementMenu);
         revalidate();
@@ -124,6 +149,7 @@ public class GameFrame extends JFrame {
         }
 
         getContentPane().removeAll();
+        setGameScreenShowing(false);
         // Clean up previous menu if it exists
         if (settingsMenu != null) {
             settingsMenu.cleanup();
@@ -141,6 +167,7 @@ public class GameFrame extends JFrame {
         }
 
         getContentPane().removeAll();
+        setGameScreenShowing(false);
         // Clean up previous menu if it exists
         if (helpMenu != null) {
             helpMenu.cleanup();
@@ -22,9 +22,8 @@ public class Asteroid {
     private int[] shapeYPoints;
     private int numShapePoints;
 
-    public Asteroid() {
+    public Asteroid(Random random) {
         // Random spawn location (start from edges)
-        Random random = new Random();
         int edge = random.nextInt(4);
 
         switch (edge) {
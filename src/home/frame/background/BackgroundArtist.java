@@ -3,21 +3,36 @@ package home.frame.background;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Iterator;
+import java.util.Random;
 
 import home.game.GameConstants;
+import home.game.QualityGovernor;
 
+/**
+ * Draws the space background in two layers: a static layer (nebula gradient and
+ * dim distant stars) rendered once per resolution, and a dynamic layer of moving
+ * stars and asteroids drawn on top every frame.
+ */
 public class BackgroundArtist {
 
-    private List<Star> stars;
+    private static final int DIM_STAR_COUNT = 250;
+    private static final long DIM_STAR_SEED = 7351;
+
+    private StarField stars;
     private List<Asteroid> asteroids;
     private java.util.Random random;
 
+    // Static layer, rebuilt when the game resolution changes
+    private BufferedImage staticLayer;
+
     public BackgroundArtist() {
-        stars = new ArrayList<>();
+        stars = new StarField(320);
         asteroids = new ArrayList<>();
         random = new java.util.Random(4596);
 
@@ -26,12 +41,11 @@ public class BackgroundArtist {
             int x = random.nextInt(GameConstants.getGameWidth());
             int y = random.nextInt(GameConstants.getGameHeight());
             int size = random.nextInt(3) + 1;
-            int brightness = random.nextInt(156) + 100;
 
             // Determine star type based on rarity
-            Star.StarType type = getRandomStarType();
+            StarField.StarType type = getRandomStarType();
 
-            stars.add(new Star(x, y, size, brightness, type));
+            stars.addStar(x, y, size, type, random);
         }
 
         // Generate star clusters (5-8 clusters)
@@ -41,18 +55,18 @@ public class BackgroundArtist {
         }
     }
 
-    private Star.StarType getRandomStarType() {
+    private StarField.StarType getRandomStarType() {
         double roll = random.nextDouble();
 
         // Rarity distribution: Common 60%, Uncommon 25%, Rare 10%, Very Rare 5%
         if (roll < 0.60) {
-            return Star.StarType.COMMON;
+            return StarField.StarType.COMMON;
         } else if (roll < 0.85) {
-            return Star.StarType.UNCOMMON;
+            return StarField.StarType.UNCOMMON;
         } else if (roll < 0.95) {
-            return Star.StarType.RARE;
+            return StarField.StarType.RARE;
         } else {
-            return Star.StarType.VERY_RARE;
+            return StarField.StarType.VERY_RARE;
         }
     }
 
@@ -64,7 +78,7 @@ public class BackgroundArtist {
         int numStars = 8 + random.nextInt(15); // 8-22 stars per cluster
 
         // Determine cluster star type (clusters tend to have similar star types)
-        Star.StarType clusterType = getRandomStarType();
+        StarField.StarType clusterType = getRandomStarType();
 
         for (int i = 0; i < numStars; i++) {
             // Generate star position within cluster radius using polar coordinates
@@ -78,129 +92,59 @@ public class BackgroundArtist {
             starX = Math.max(0, Math.min(GameConstants.getGameWidth() - 1, starX));
             starY = Math.max(0, Math.min(GameConstants.getGameHeight() - 1, starY));
 
-            // Cluster stars are typically smaller and slightly dimmer
+            // Cluster stars are typically smaller
             int size = 1 + random.nextInt(3); // 1-3 pixels (slightly larger range)
-            int brightness = 130 + random.nextInt(90); // Slightly dimmer but not too much
 
             // 70% chance to use cluster type, 30% chance for random type
-            Star.StarType type = (random.nextDouble() < 0.7) ? clusterType : getRandomStarType();
+            StarField.StarType type = (random.nextDouble() < 0.7) ? clusterType : getRandomStarType();
 
-            stars.add(new Star(starX, starY, size, brightness, type));
+            stars.addStar(starX, starY, size, type, random);
         }
     }
 
-    private void renderStar(Graphics2D g, Star star) {
-        int x = star.getX();
-        int y = star.getY();
-        int size = star.getSize();
-
-        // Apply transparency to star colors (70% opacity)
-        Color starColor = star.getCurrentColor();
-        Color transparentColor = new Color(
-                starColor.getRed(),
-                starColor.getGreen(),
-                starColor.getBlue(),
-                (int) (255 * 0.7f) // 70% opacity
-        );
-
-        // Add glow effect for larger stars (similar to MainMenu)
-        if (size > 1) {
-            // Draw outer glow first
-            Color glowColor = new Color(
-                    starColor.getRed(),
-                    starColor.getGreen(),
-                    starColor.getBlue(),
-                    (int) (255 * 0.15f) // Subtle glow
-            );
-            g.setColor(glowColor);
-
-            switch (star.getShape()) {
-                case DIAMOND:
-                    drawDiamondShape(g, x + size / 2, y + size / 2, size * 2);
-                    break;
-                case OVAL:
-                    g.fillOval(x - size / 2, y - size / 2, size * 2, size * 2);
-                    break;
-                case STAR:
-                    drawStarShape(g, x + size / 2, y + size / 2, size * 2);
-                    break;
-            }
-        }
-
-        // Draw main star
-        g.setColor(transparentColor);
-        switch (star.getShape()) {
-            case DIAMOND:
-                drawDiamondShape(g, x + size / 2, y + size / 2, size);
-                break;
-
-            case OVAL:
-                g.fillOval(x, y, size, size);
-                break;
+    /**
+     * Renders the gradient and dim distant stars that never change
+     */
+    private BufferedImage createStaticLayer(Graphics2D g, int width, int height) {
+        BufferedImage layer = g.getDeviceConfiguration().createCompatibleImage(width, height, Transparency.OPAQUE);
+        Graphics2D layerGraphics = layer.createGraphics();
 
-            case STAR:
-                drawStarShape(g, x + size / 2, y + size / 2, size);
-                break;
+        // Create gradient background similar to MainMenu
+        GradientPaint gradient = new GradientPaint(
+                0, 0, new Color(5, 5, 20),
+                width, height, new Color(20, 20, 50));
+        layerGraphics.setPaint(gradient);
+        layerGraphics.fillRect(0, 0, width, height);
+
+        // Faint single pixel stars far behind the moving ones
+        Random dimStarRandom = new Random(DIM_STAR_SEED);
+        for (int i = 0; i < DIM_STAR_COUNT; i++) {
+            int brightness = 60 + dimStarRandom.nextInt(70);
+            layerGraphics.setColor(new Color(brightness, brightness, brightness + dimStarRandom.nextInt(30)));
+            layerGraphics.fillRect(dimStarRandom.nextInt(width), dimStarRandom.nextInt(height), 1, 1);
         }
+        layerGraphics.dispose();
+        return layer;
     }
 
-    private void drawDiamondShape(Graphics2D g, int centerX, int centerY, int size) {
-        // Draw a diamond (rotated square)
-        int halfSize = size / 2;
-        int[] xPoints = {
-                centerX, // top
-                centerX + halfSize, // right
-                centerX, // bottom
-                centerX - halfSize // left
-        };
-        int[] yPoints = {
-                centerY - halfSize, // top
-                centerY, // right
-                centerY + halfSize, // bottom
-                centerY // left
-        };
-
-        g.fillPolygon(xPoints, yPoints, 4);
-    }
-
-    private void drawStarShape(Graphics2D g, int centerX, int centerY, int size) {
-        // Draw a 5-pointed star
-        int[] xPoints = new int[10];
-        int[] yPoints = new int[10];
-
-        double outerRadius = size / 2.0;
-        double innerRadius = outerRadius * 0.4;
-
-        for (int i = 0; i < 10; i++) {
-            double angle = Math.PI * i / 5.0 - Math.PI / 2; // Start from top
-            double radius = (i % 2 == 0) ? outerRadius : innerRadius;
+    public void renderBackground(Graphics2D g) {
+        int width = GameConstants.getGameWidth();
+        int height = GameConstants.getGameHeight();
 
-            xPoints[i] = (int) (centerX + radius * Math.cos(angle));
-            yPoints[i] = (int) (centerY + radius * Math.sin(angle));
+        // Static layer
+        if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height) {
+            staticLayer = createStaticLayer(g, width, height);
         }
-
-        g.fillPolygon(xPoints, yPoints, 10);
-    }
-
-    public void renderBackground(Graphics2D g) {
-        // Create gradient background similar to MainMenu
-        GradientPaint gradient = new GradientPaint(
-                0, 0, new Color(5, 5, 20),
-                GameConstants.getGameWidth(), GameConstants.getGameHeight(), new Color(20, 20, 50));
-        g.setPaint(gradient);
-        g.fillRect(0, 0, GameConstants.getGameWidth(), GameConstants.getGameHeight());
+        g.drawImage(staticLayer, 0, 0, null);
 
         // Render and update stars
-        for (Star star : stars) {
-            star.update(GameConstants.getGameWidth());
-
-            // Render star based on its shape (color with opacity is handled in renderStar)
-            renderStar(g, star);
-        }
+        // Thin the star field out when frames run long
+        boolean thinned = QualityGovernor.getInstance().isReduced(QualityGovernor.Reduction.BACKGROUND_STARS);
+        stars.updateAndRender(g, width, height, thinned ? 2 : 1);
 
         // Randomly spawn asteroids (about 1 every 3 seconds at 60fps)
         if (random.nextInt(180) == 0) {
-            asteroids.add(new Asteroid());
+            asteroids.add(new Asteroid(random)); // Same seeded generator, so exported clips repeat
         }
 
         // Update and render asteroids
@@ -0,0 +1,305 @@
+package home.frame.background;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The moving, twinkling background stars.
+ *
+ * Star state lives in parallel primitive arrays rather than one object per star,
+ * and every star is drawn by blitting a prerendered sprite. Each type, shape and
+ * size has a strip of sprites covering its twinkle cycle, so a frame costs one
+ * drawImage per star and a few table lookups instead of several Math.sin calls.
+ */
+public class StarField {
+
+    public enum StarType {
+        COMMON, UNCOMMON, RARE, VERY_RARE
+    }
+
+    public enum StarShape {
+        DIAMOND, OVAL, STAR
+    }
+
+    private static final int TWINKLE_LEVELS = 16; // Frames in each sprite strip
+    private static final int MAX_SIZE = 4; // Largest size a star can twinkle up to
+    private static final int SPRITE_SIZE = MAX_SIZE * 3 + 2; // Fits the glow of the largest star
+    private static final int SPRITE_OFFSET = MAX_SIZE + 1; // Star position inside its sprite
+
+    private static final int SINE_TABLE_SIZE = 4096; // Must be a power of two
+    private static final double[] SINE_TABLE = new double[SINE_TABLE_SIZE];
+    static {
+        for (int i = 0; i < SINE_TABLE_SIZE; i++) {
+            SINE_TABLE[i] = Math.sin(i * 2 * Math.PI / SINE_TABLE_SIZE);
+        }
+    }
+
+    private int count;
+    private double[] x;
+    private double[] baseY;
+    private int[] baseSize;
+    private byte[] type;
+    private byte[] shape;
+    private double[] twinkle;
+    private double[] twinkleRate;
+    private double[] movementSpeed;
+    private double[] sineOffset;
+    private double[] sineAmplitude;
+    private double[] secondarySineOffset;
+    private double[] secondaryAmplitude;
+    private double[] verticalDrift;
+
+    private BufferedImage[][][][] sprites; // [type][shape][size][twinkle level]
+
+    public StarField(int capacity) {
+        x = new double[capacity];
+        baseY = new double[capacity];
+        baseSize = new int[capacity];
+        type = new byte[capacity];
+        shape = new byte[capacity];
+        twinkle = new double[capacity];
+        twinkleRate = new double[capacity];
+        movementSpeed = new double[capacity];
+        sineOffset = new double[capacity];
+        sineAmplitude = new double[capacity];
+        secondarySineOffset = new double[capacity];
+        secondaryAmplitude = new double[capacity];
+        verticalDrift = new double[capacity];
+    }
+
+    public void addStar(int starX, int starY, int size, StarType starType, Random random) {
+        if (count == x.length) {
+            grow(count * 2 + 1);
+        }
+        int i = count++;
+        x[i] = starX;
+        baseY[i] = starY;
+        baseSize[i] = size;
+        type[i] = (byte) starType.ordinal();
+
+        // Smaller stars are further away, so they twinkle slower
+        twinkleRate[i] = 0.1 / size; // Larger size = faster twinkle
+        twinkle[i] = random.nextDouble() * Math.PI * 2; // Random starting phase
+
+        // Movement properties - slower for smaller (distant) stars
+        movementSpeed[i] = 0.1 + (size * 0.05); // 0.1 to 0.25 pixels per frame
+        sineOffset[i] = random.nextDouble() * Math.PI * 2; // Random sine wave offset
+        sineAmplitude[i] = 10 + (size * 5); // 10-25 pixel amplitude based on size
+
+        // Secondary sine wave for more complex movement
+        secondarySineOffset[i] = random.nextDouble() * Math.PI * 2;
+        secondaryAmplitude[i] = 5 + (size * 2); // Smaller secondary amplitude
+
+        // Slow vertical drift
+        verticalDrift[i] = (random.nextDouble() - 0.5) * 0.02; // -0.01 to +0.01 pixels per frame
+
+        // Random star shape
+        shape[i] = (byte) random.nextInt(StarShape.values().length);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Advances every star by one frame and draws every stride-th one
+     */
+    public void updateAndRender(Graphics2D g, int screenWidth, int screenHeight, int stride) {
+        if (sprites == null) {
+            createSprites(g.getDeviceConfiguration());
+        }
+
+        for (int i = 0; i < count; i++) {
+            int size = baseSize[i];
+
+            // Move horizontally and wrap around screen
+            x[i] += movementSpeed[i];
+            if (x[i] > screenWidth + size) {
+                x[i] = -size;
+            }
+
+            // Add vertical drift over time, wrapping if it goes too far off screen
+            baseY[i] += verticalDrift[i];
+            if (baseY[i] < -50)
+                baseY[i] = screenHeight + 50;
+            if (baseY[i] > screenHeight + 50)
+                baseY[i] = -50;
+
+            // Complex sine wave vertical movement with secondary wave
+            double y = baseY[i]
+                    + sin((x[i] * 0.01) + sineOffset[i]) * sineAmplitude[i]
+                    + sin((x[i] * 0.03) + secondarySineOffset[i]) * secondaryAmplitude[i];
+
+            // Vary size by a smaller amount to ensure stars stay visible
+            double maxVariation = Math.min(0.8, size * 0.3);
+            int currentSize = (int) Math.round(size + sin(twinkle[i] * 1.5) * maxVariation);
+            currentSize = Math.max(1, Math.min(MAX_SIZE, currentSize));
+
+            // Brightness and colour follow the twinkle phase
+            int level = (int) ((sin(twinkle[i]) + 1) * 0.5 * (TWINKLE_LEVELS - 1) + 0.5);
+
+            if (i % stride == 0) {
+                g.drawImage(sprites[type[i]][shape[i]][currentSize - 1][level],
+                        (int) x[i] - SPRITE_OFFSET, (int) y - SPRITE_OFFSET, null);
+            }
+
+            // Advance twinkle animation at the star's specific rate
+            twinkle[i] += twinkleRate[i];
+        }
+    }
+
+    /**
+     * Renders the sprite strips for every star type, shape and size
+     */
+    private void createSprites(GraphicsConfiguration gc) {
+        StarType[] types = StarType.values();
+        StarShape[] shapes = StarShape.values();
+        sprites = new BufferedImage[types.length][shapes.length][MAX_SIZE][TWINKLE_LEVELS];
+        for (StarType starType : types) {
+            Color baseColor = getBaseColor(starType);
+            for (StarShape starShape : shapes) {
+                for (int size = 1; size <= MAX_SIZE; size++) {
+                    for (int level = 0; level < TWINKLE_LEVELS; level++) {
+                        double twinkleSine = level * 2.0 / (TWINKLE_LEVELS - 1) - 1;
+                        BufferedImage sprite = gc.createCompatibleImage(SPRITE_SIZE, SPRITE_SIZE,
+                                Transparency.TRANSLUCENT);
+                        Graphics2D spriteGraphics = sprite.createGraphics();
+                        drawStar(spriteGraphics, SPRITE_OFFSET, SPRITE_OFFSET, size, starShape,
+                                getTwinkleColor(baseColor, twinkleSine));
+                        spriteGraphics.dispose();
+                        sprites[starType.ordinal()][starShape.ordinal()][size - 1][level] = sprite;
+                    }
+                }
+            }
+        }
+    }
+
+    private Color getBaseColor(StarType starType) {
+        switch (starType) {
+            case UNCOMMON:
+                return Color.RED;
+            case RARE:
+                return Color.BLUE;
+            case VERY_RARE:
+                return Color.WHITE;
+            case COMMON:
+            default:
+                return Color.YELLOW;
+        }
+    }
+
+    /**
+     * Gets a star's colour at a point of its twinkle cycle
+     */
+    private Color getTwinkleColor(Color baseColor, double twinkleSine) {
+        // Calculate color shift based on twinkle
+        double colorShift = twinkleSine * 0.3; // 30% max shift
+        int r = Math.max(0, Math.min(255, (int) (baseColor.getRed() * (1 + colorShift * 0.5))));
+        int g = Math.max(0, Math.min(255, (int) (baseColor.getGreen() * (1 + colorShift * 0.5))));
+        int b = Math.max(0, Math.min(255, (int) (baseColor.getBlue() * (1 + colorShift * 0.5))));
+
+        // Apply brightness, base brightness 200 +/- 30
+        int brightness = Math.max(100, Math.min(255, (int) (200 + twinkleSine * 30)));
+        float brightnessFactor = brightness / 255.0f;
+        return new Color((int) (r * brightnessFactor), (int) (g * brightnessFactor), (int) (b * brightnessFactor));
+    }
+
+    private void drawStar(Graphics2D g, int x, int y, int size, StarShape starShape, Color starColor) {
+        // Add glow effect for larger stars
+        if (size > 1) {
+            g.setColor(new Color(starColor.getRed(), starColor.getGreen(), starColor.getBlue(),
+                    (int) (255 * 0.15f))); // Subtle glow
+            switch (starShape) {
+                case DIAMOND:
+                    drawDiamondShape(g, x + size / 2, y + size / 2, size * 2);
+                    break;
+                case OVAL:
+                    g.fillOval(x - size / 2, y - size / 2, size * 2, size * 2);
+                    break;
+                case STAR:
+                    drawStarShape(g, x + size / 2, y + size / 2, size * 2);
+                    break;
+            }
+        }
+
+        // Draw main star at 70% opacity
+        g.setColor(new Color(starColor.getRed(), starColor.getGreen(), starColor.getBlue(), (int) (255 * 0.7f)));
+        switch (starShape) {
+            case DIAMOND:
+                drawDiamondShape(g, x + size / 2, y + size / 2, size);
+                break;
+            case OVAL:
+                g.fillOval(x, y, size, size);
+                break;
+            case STAR:
+                drawStarShape(g, x + size / 2, y + size / 2, size);
+                break;
+        }
+    }
+
+    private void drawDiamondShape(Graphics2D g, int centerX, int centerY, int size) {
+        // Draw a diamond (rotated square)
+        int halfSize = size / 2;
+        int[] xPoints = {
+                centerX, // top
+                centerX + halfSize, // right
+                centerX, // bottom
+                centerX - halfSize // left
+        };
+        int[] yPoints = {
+                centerY - halfSize, // top
+                centerY, // right
+                centerY + halfSize, // bottom
+                centerY // left
+        };
+
+        g.fillPolygon(xPoints, yPoints, 4);
+    }
+
+    private void drawStarShape(Graphics2D g, int centerX, int centerY, int size) {
+        // Draw a 5-pointed star
+        int[] xPoints = new int[10];
+        int[] yPoints = new int[10];
+
+        double outerRadius = size / 2.0;
+        double innerRadius = outerRadius * 0.4;
+
+        for (int i = 0; i < 10; i++) {
+            double angle = Math.PI * i / 5.0 - Math.PI / 2; // Start from top
+            double radius = (i % 2 == 0) ? outerRadius : innerRadius;
+
+            xPoints[i] = (int) (centerX + radius * Math.cos(angle));
+            yPoints[i] = (int) (centerY + radius * Math.sin(angle));
+        }
+
+        g.fillPolygon(xPoints, yPoints, 10);
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        baseY = Arrays.copyOf(baseY, capacity);
+        baseSize = Arrays.copyOf(baseSize, capacity);
+        type = Arrays.copyOf(type, capacity);
+        shape = Arrays.copyOf(shape, capacity);
+        twinkle = Arrays.copyOf(twinkle, capacity);
+        twinkleRate = Arrays.copyOf(twinkleRate, capacity);
+        movementSpeed = Arrays.copyOf(movementSpeed, capacity);
+        sineOffset = Arrays.copyOf(sineOffset, capacity);
+        sineAmplitude = Arrays.copyOf(sineAmplitude, capacity);
+        secondarySineOffset = Arrays.copyOf(secondarySineOffset, capacity);
+        secondaryAmplitude = Arrays.copyOf(secondaryAmplitude, capacity);
+        verticalDrift = Arrays.copyOf(verticalDrift, capacity);
+    }
+
+    /**
+     * Table based sine, accurate enough for background motion
+     */
+    private static double sin(double angle) {
+        return SINE_TABLE[(int) (angle * (SINE_TABLE_SIZE / (2 * Math.PI))) & (SINE_TABLE_SIZE - 1)];
+    }
+}
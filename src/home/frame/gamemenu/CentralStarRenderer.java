@@ -6,17 +6,119 @@ import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import home.game.GameClock;
 import home.game.GameConstants;
-
+import home.game.PaintCache;
+
+/**
+ * Renders the central star. The animation is periodic, so by default it is
+ * baked once into a loop of frames on a background thread and each frame is a
+ * single blit. Live rendering is used while the frames are being baked, or
+ * always when CENTRAL_STAR_LIVE_RENDERING is set. Frames are baked at
+ * CENTRAL_STAR_FRAME_SCALE and don't follow RENDER_SCALE, set both to match
+ * for a sharp star at a higher render scale.
+ */
 public class CentralStarRenderer {
 
+    private static final long ANIMATION_LOOP = 15000; // Every animation cycle divides this evenly
+    private static final int FRAME_SIZE = 240; // Fits the outer glow and corona at scale 1
+
+    // Baked frames are shared by every renderer since the star is the same in every game
+    private static AtomicReferenceArray<BufferedImage> frames;
+    private static double framesScale;
+    private static Thread baker;
+
     /**
      * Renders a high-quality central star that planets orbit around
      */
     public void renderCentralStar(Graphics2D g) {
         int centerX = GameConstants.getGameWidth() / 2;
         int centerY = GameConstants.getGameHeight() / 2;
+        long currentTime = GameClock.currentTimeMillis();
+
+        if (!GameConstants.isCentralStarLiveRendering()) {
+            AtomicReferenceArray<BufferedImage> bakedFrames = getFrames();
+            int index = (int) ((currentTime % ANIMATION_LOOP) * bakedFrames.length() / ANIMATION_LOOP);
+            BufferedImage frame = bakedFrames.get(index);
+            if (frame != null) {
+                int size = (int) Math.round(FRAME_SIZE * framesScale);
+                if (size == FRAME_SIZE) {
+                    g.drawImage(frame, centerX - FRAME_SIZE / 2, centerY - FRAME_SIZE / 2, null);
+                } else {
+                    // Frames were baked at a different resolution, stretch them back
+                    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    g.drawImage(frame, centerX - FRAME_SIZE / 2, centerY - FRAME_SIZE / 2, FRAME_SIZE, FRAME_SIZE,
+                            null);
+                }
+                return;
+            }
+        }
+
+        renderStar(g, centerX, centerY, currentTime);
+    }
+
+    /**
+     * Starts baking the frame loop if it isn't baked yet and waits for the bake to
+     * finish, so which frames are drawn live doesn't depend on how far the bake
+     * got. Used by the frame exporter.
+     */
+    public static void awaitFrames() throws InterruptedException {
+        Thread bake;
+        synchronized (CentralStarRenderer.class) {
+            getFrames();
+            bake = baker;
+        }
+        bake.join();
+    }
+
+    /**
+     * Gets the baked frame loop, starting a new bake if there is none yet or the
+     * frame settings changed. Frames that aren't baked yet are null.
+     */
+    private static synchronized AtomicReferenceArray<BufferedImage> getFrames() {
+        int frameCount = GameConstants.getCentralStarFrames();
+        double scale = GameConstants.getCentralStarFrameScale();
+        if (frames == null || frames.length() != frameCount || framesScale != scale) {
+            if (baker != null) {
+                baker.interrupt();
+            }
+            AtomicReferenceArray<BufferedImage> newFrames = new AtomicReferenceArray<>(frameCount);
+            frames = newFrames;
+            framesScale = scale;
+            baker = new Thread(() -> bakeFrames(newFrames, scale), "Central Star Baker");
+            baker.setDaemon(true);
+            baker.setPriority(Thread.MIN_PRIORITY);
+            baker.start();
+        }
+        return frames;
+    }
+
+    /**
+     * Renders every frame of the animation loop into its slot
+     */
+    private static void bakeFrames(AtomicReferenceArray<BufferedImage> target, double scale) {
+        CentralStarRenderer renderer = new CentralStarRenderer();
+        int size = (int) Math.round(FRAME_SIZE * scale);
+        for (int i = 0; i < target.length(); i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                return; // Settings changed, a new bake took over
+            }
+            BufferedImage frame = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D frameGraphics = frame.createGraphics();
+            frameGraphics.scale(scale, scale);
+            renderer.renderStar(frameGraphics, FRAME_SIZE / 2, FRAME_SIZE / 2, i * ANIMATION_LOOP / target.length());
+            frameGraphics.dispose();
+            target.set(i, frame);
+        }
+    }
+
+    /**
+     * Draws the star live at the given point of its animation
+     */
+    private void renderStar(Graphics2D g, int centerX, int centerY, long currentTime) {
         int starSize = 36; // Slightly larger for better visibility
 
         // Enable high-quality rendering
@@ -24,13 +126,11 @@ public class CentralStarRenderer {
         g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         g.setRenderingHint(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_QUALITY);
 
-        long currentTime = System.currentTimeMillis();
-
         // Multiple animation phases for complex motion
         double primaryPulse = (currentTime % 5000) / 5000.0 * 2 * Math.PI; // 5-second primary cycle
         double secondaryPulse = (currentTime % 7500) / 7500.0 * 2 * Math.PI; // 7.5-second secondary cycle
-        double coronaPulse = (currentTime % 3200) / 3200.0 * 2 * Math.PI; // Corona animation
-        double flarePhase = (currentTime % 12000) / 12000.0 * 2 * Math.PI; // Solar flare cycle
+        double coronaPulse = (currentTime % 3000) / 3000.0 * 2 * Math.PI; // Corona animation
+        double flarePhase = (currentTime % 15000) / 15000.0 * 2 * Math.PI; // Solar flare cycle
 
         float glowIntensity = (float) (0.4 + 0.15 * Math.sin(primaryPulse) + 0.05 * Math.sin(secondaryPulse));
 
@@ -55,7 +155,7 @@ public class CentralStarRenderer {
             int green = Math.max(60, (int) (180 - i * 8));
             int blue = Math.max(0, (int) (30 - i * 2));
 
-            g.setColor(new Color(red, green, blue, (int) (255 * alpha)));
+            g.setColor(PaintCache.color(red, green, blue, (int) (255 * alpha)));
             g.fillOval(centerX - glowSize / 2 + layerOffsetX, centerY - glowSize / 2, glowSize, glowSize);
         }
 
@@ -119,9 +219,9 @@ public class CentralStarRenderer {
             float gradientRadius = glowSize / 2.0f;
             GradientPaint layerGradient = new GradientPaint(
                     centerX + layerOffsetX, centerY,
-                    new Color(red, green, blue, (int) (255 * alpha)),
+                    PaintCache.color(red, green, blue, (int) (255 * alpha)),
                     centerX + layerOffsetX + gradientRadius * 0.8f, centerY + gradientRadius * 0.8f,
-                    new Color(red, green, blue, 0) // Fade to transparent at edges
+                    PaintCache.color(red, green, blue, 0) // Fade to transparent at edges
             );
 
             g.setPaint(layerGradient);
@@ -146,10 +246,10 @@ public class CentralStarRenderer {
 
             GradientPaint starGradient = new GradientPaint(
                     centerX - gradientRadius + offsetX, centerY - gradientRadius + offsetY,
-                    new Color(255, 255, (int) (200 + 40 * photosphereIntensity), (int) (200 - layer * 50)), // Hot white
+                    PaintCache.color(255, 255, (int) (200 + 40 * photosphereIntensity), (int) (200 - layer * 50)), // Hot white
                                                                                                             // center
                     centerX + gradientRadius - offsetX, centerY + gradientRadius - offsetY,
-                    new Color(255, (int) (140 + 60 * photosphereIntensity), (int) (20 + layer * 10),
+                    PaintCache.color(255, (int) (140 + 60 * photosphereIntensity), (int) (20 + layer * 10),
                             (int) (180 - layer * 40))); // Orange-red edge
 
             // Create subtle wavy edges for photosphere
@@ -191,12 +291,12 @@ public class CentralStarRenderer {
         drawProminenceLoops(g, centerX, centerY, starSize, coronaPulse, glowIntensity);
 
         // Final stellar limb with subtle texture glow
-        g.setColor(new Color(255, 200, 80, 60));
-        g.setStroke(new BasicStroke(1.5f));
+        g.setColor(PaintCache.color(255, 200, 80, 60));
+        g.setStroke(PaintCache.stroke(1.5f));
         g.drawOval(centerX - starSize / 2, centerY - starSize / 2, starSize, starSize);
 
         // Reset rendering settings
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
     }
 
@@ -217,7 +317,7 @@ public class CentralStarRenderer {
             int blue = Math.max(60, 120 - layer * 15); // Lower blue for warm yellow
             float alpha = 0.8f + layer * 0.05f;
 
-            g.setColor(new Color(red, green, blue, (int) (255 * alpha)));
+            g.setColor(PaintCache.color(red, green, blue, (int) (255 * alpha)));
             g.fillOval(centerX - layerSize / 2, centerY - layerSize / 2, layerSize, layerSize);
         }
 
@@ -246,7 +346,7 @@ public class CentralStarRenderer {
                     int cellSize = (int) (3 + 2 * cellIntensity);
 
                     // Bright convection cells
-                    g.setColor(new Color(255, 220, 120, (int) (80 * cellIntensity)));
+                    g.setColor(PaintCache.color(255, 220, 120, (int) (80 * cellIntensity)));
                     g.fillOval(cellX - cellSize / 2, cellY - cellSize / 2, cellSize, cellSize);
                 }
             }
@@ -276,11 +376,11 @@ public class CentralStarRenderer {
 
             // Draw streamer with reduced alpha
             float alpha = (0.05f + 0.025f * streamerIntensity) * intensity;
-            g.setColor(new Color(255, 200, 100, (int) (255 * alpha)));
-            g.setStroke(new BasicStroke(streamWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g.setColor(PaintCache.color(255, 200, 100, (int) (255 * alpha)));
+            g.setStroke(PaintCache.stroke(streamWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
             g.drawLine(x1, y1, x2, y2);
         }
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
     }
 
     /**
@@ -305,18 +405,18 @@ public class CentralStarRenderer {
                     int endY = (int) (centerY + Math.sin(flareAngle) * flareLength);
 
                     // Subtle white-hot flare core with reduced opacity
-                    g.setColor(new Color(255, 255, 255, (int) (120 * flareIntensity * intensity)));
-                    g.setStroke(new BasicStroke(flareWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g.setColor(PaintCache.color(255, 255, 255, (int) (120 * flareIntensity * intensity)));
+                    g.setStroke(PaintCache.stroke(flareWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
                     g.drawLine(startX, startY, endX, endY);
 
                     // Subtle orange outer glow
-                    g.setColor(new Color(255, 180, 80, (int) (80 * flareIntensity * intensity)));
-                    g.setStroke(new BasicStroke(flareWidth + 1, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g.setColor(PaintCache.color(255, 180, 80, (int) (80 * flareIntensity * intensity)));
+                    g.setStroke(PaintCache.stroke(flareWidth + 1, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
                     g.drawLine(startX, startY, endX, endY);
                 }
             }
         }
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
     }
 
     /**
@@ -325,7 +425,7 @@ public class CentralStarRenderer {
     private void drawChromosphere(Graphics2D g, int centerX, int centerY, int starSize, double phase, float intensity) {
         // Chromosphere appears as a thin reddish layer
         float chromosphereAlpha = (float) (0.15 * intensity * (0.8 + 0.2 * Math.sin(phase * 1.5)));
-        g.setColor(new Color(255, 80, 80, (int) (255 * chromosphereAlpha)));
+        g.setColor(PaintCache.color(255, 80, 80, (int) (255 * chromosphereAlpha)));
 
         int chromosphereSize = (int) (starSize * 1.1);
         g.fillOval(centerX - chromosphereSize / 2, centerY - chromosphereSize / 2, chromosphereSize, chromosphereSize);
@@ -351,11 +451,11 @@ public class CentralStarRenderer {
             int alpha = (int) (220 - layer * 40);
             Color coreColor;
             if (layer == 1) {
-                coreColor = new Color(255, 255, 255, alpha); // Pure white center
+                coreColor = PaintCache.color(255, 255, 255, alpha); // Pure white center
             } else if (layer == 2) {
-                coreColor = new Color(255, 255, 240, alpha); // Slight warm tint
+                coreColor = PaintCache.color(255, 255, 240, alpha); // Slight warm tint
             } else {
-                coreColor = new Color(255, 245, 200, alpha); // Warmer outer core
+                coreColor = PaintCache.color(255, 245, 200, alpha); // Warmer outer core
             }
 
             // Create very subtle wavy edges for stellar core (minimal distortion)
@@ -389,7 +489,7 @@ public class CentralStarRenderer {
     private void drawSurfaceGranulation(Graphics2D g, int centerX, int centerY, int starSize, long currentTime) {
         // Small convection cells on the visible surface
         int granuleSize = 3;
-        double granulePhase = (currentTime % 8000) / 8000.0 * 2 * Math.PI;
+        double granulePhase = (currentTime % 7500) / 7500.0 * 2 * Math.PI;
 
         for (int i = 0; i < 15; i++) {
             double angle = (i * Math.PI * 2 / 15) + granulePhase * 0.1;
@@ -399,7 +499,7 @@ public class CentralStarRenderer {
             int granuleY = (int) (centerY + Math.sin(angle) * distance);
 
             float granuleIntensity = (float) (0.3 + 0.2 * Math.sin(granulePhase * 2 + i * 0.7));
-            g.setColor(new Color(255, 255, 200, (int) (100 * granuleIntensity)));
+            g.setColor(PaintCache.color(255, 255, 200, (int) (100 * granuleIntensity)));
             g.fillOval(granuleX - granuleSize / 2, granuleY - granuleSize / 2, granuleSize, granuleSize);
         }
     }
@@ -422,8 +522,8 @@ public class CentralStarRenderer {
                 int startY = (int) (centerY + Math.sin(startAngle) * starSize * 0.45);
 
                 // Draw curved prominence arc with solar colors
-                g.setColor(new Color(255, 120, 80, (int) (180 * loopIntensity * intensity)));
-                g.setStroke(new BasicStroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                g.setColor(PaintCache.color(255, 120, 80, (int) (180 * loopIntensity * intensity)));
+                g.setStroke(PaintCache.stroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
 
                 // Simple arc approximation
                 for (int j = 0; j < loopHeight; j += 2) {
@@ -434,18 +534,18 @@ public class CentralStarRenderer {
                     int arcY = (int) (startY + Math.sin(startAngle + Math.PI / 2) * j - arcCurve * 10);
 
                     // Add inner glow to prominence
-                    g.setColor(new Color(255, 200, 150, (int) (120 * loopIntensity * intensity)));
-                    g.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g.setColor(PaintCache.color(255, 200, 150, (int) (120 * loopIntensity * intensity)));
+                    g.setStroke(PaintCache.stroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
                     g.drawLine(arcX, arcY, arcX + 1, arcY + 1);
 
                     // Outer prominence color
-                    g.setColor(new Color(255, 120, 80, (int) (180 * loopIntensity * intensity)));
-                    g.setStroke(new BasicStroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g.setColor(PaintCache.color(255, 120, 80, (int) (180 * loopIntensity * intensity)));
+                    g.setStroke(PaintCache.stroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
                     g.drawLine(arcX, arcY, arcX + 1, arcY + 1);
                 }
             }
         }
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
     }
 
 }
@@ -1,14 +1,27 @@
 package home.frame.gamemenu;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import home.game.Game;
+import home.game.GameClock;
+import home.game.GameConstants;
+import home.game.PaintCache;
+import home.game.ParticleLayer;
+import home.game.QualityGovernor;
 import home.game.abilities.BlackHole;
 import home.game.abilities.AbilityManager;
 import home.game.abilities.AbilityType;
@@ -27,19 +40,71 @@ public class EffectsArtist {
     private Map<Planet, Long> healingAnimations = new HashMap<>();
     private static final long HEALING_ANIMATION_DURATION = 2000; // 2 seconds
 
+    // Planet effects that loop, drawn from baked animation strips. Every animation
+    // runs at a whole multiple of 0.001 radians per millisecond, so all of them
+    // repeat after 2000 * PI milliseconds.
+    private static final double ANIMATION_LOOP = 2000 * Math.PI;
+    private static final int MAX_EFFECT_STRIPS = 48; // Effect and radius combinations kept before starting over
+    private static final int EFFECT_REACH = 100; // Furthest any planet effect extends past the planet, flames included
+
+    private enum Effect {
+        FREEZE(10), ORBITAL_FREEZE(12), SHIELD(10), FACTORY_HYPE(16), IMPROVED_FACTORIES(12), CURSE(24, true),
+        INFECTION(12), MISSILE_BARRAGE(28), ANSWERED_PRAYERS(26), UNSTOPPABLE_SHIPS(22);
+
+        final int margin; // How far the effect reaches past the planet's edge
+        final boolean particles; // Drawn differently while effect particles are given up
+
+        Effect(int margin) {
+            this(margin, false);
+        }
+
+        Effect(int margin, boolean particles) {
+            this.margin = margin;
+            this.particles = particles;
+        }
+    }
+
+    // Baked at 1x, a RENDER_SCALE above 1 upscales them rather than adding detail. Shared
+    // by the artists drawing bands of one screen, which bake missing frames without
+    // locking; racing bakes of a frame make equal images.
+    private final Map<Long, AtomicReferenceArray<BufferedImage>> effectStrips;
+
+    // Bots with planet-wide abilities running, gathered once per frame
+    private Set<Bot> bots = new HashSet<>();
+    private List<Bot> freezingBots = new ArrayList<>();
+    private List<Bot> cursingBots = new ArrayList<>();
+
     private Game game;
+    private WorldCapture world = WorldCapture.LIVE;
 
     public EffectsArtist(Game game) {
+        this(game, null);
+    }
+
+    /**
+     * Creates an artist that draws from another artist's effect strips, so
+     * artists drawing parts of the same screen on different threads bake every
+     * frame once
+     */
+    public EffectsArtist(Game game, EffectsArtist stripSource) {
         this.game = game;
+        effectStrips = stripSource != null ? stripSource.effectStrips : new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Draws from positions captured for the frame instead of the live objects
+     */
+    void setWorldCapture(WorldCapture world) {
+        this.world = world;
     }
 
     /**
      * Main method to render all ability effects on planets
      */
     public void renderAbilityEffects(Graphics2D g) {
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        QualityGovernor.getInstance().setAntialiasing(g);
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         AbilityManager abilityManager = game.getAbilityManager();
 
         // Check if Answered Prayers was just activated to start healing animations
@@ -52,11 +117,32 @@ public class EffectsArtist {
             }
         }
 
-        // Render effects for each planet
+        // Find the bots once instead of rescanning every planet for every planet
+        bots.clear();
+        freezingBots.clear();
+        cursingBots.clear();
         for (Planet planet : game.getPlanets()) {
-            int planetX = planet.getX();
-            int planetY = planet.getY();
-            int planetRadius = (int) planet.getActualRadius();
+            if (planet.getOperator() instanceof Bot && bots.add((Bot) planet.getOperator())) {
+                Bot bot = (Bot) planet.getOperator();
+                if (bot.isBotFreezeActive()) {
+                    freezingBots.add(bot);
+                }
+                if (bot.isBotCurseActive()) {
+                    cursingBots.add(bot);
+                }
+            }
+        }
+
+        // Render effects for each planet, skipping planets whose effects can't reach the clip
+        Rectangle clip = g.getClipBounds();
+        for (Planet planet : game.getPlanets()) {
+            int planetX = world.getX(planet);
+            int planetY = world.getY(planet);
+            int planetRadius = (int) world.getActualRadius(planet);
+            int reach = planetRadius + EFFECT_REACH;
+            if (clip != null && !clip.intersects(planetX - reach, planetY - reach, reach * 2, reach * 2)) {
+                continue;
+            }
 
             boolean isPlayerPlanet = planet.getOperator() instanceof Player;
             boolean isEmptyPlanet = planet.getOperator() == null;
@@ -70,26 +156,18 @@ public class EffectsArtist {
                 }
                 // Check if any bot freeze affects this planet (if it's not that bot's planet)
                 if (!showFreeze) {
-                    for (Planet otherPlanet : game.getPlanets()) {
-                        if (otherPlanet.getOperator() instanceof Bot) {
-                            Bot bot = (Bot) otherPlanet.getOperator();
-                            if (bot.isBotFreezeActive() && planet.getOperator() != bot) {
-                                showFreeze = true;
-                                break;
-                            }
-                        }
-                    }
+                    showFreeze = affectsOthers(freezingBots, planet.getOperator());
                 }
             }
 
             // Freeze effect - blue crystalline overlay on affected planets
             if (showFreeze) {
-                renderFreezeEffect(g, planetX, planetY, planetRadius, currentTime);
+                drawEffect(g, Effect.FREEZE, planetX, planetY, planetRadius, currentTime);
             }
 
             // Orbital freeze effect - totally encased in ice
             if (abilityManager.isPlanetOrbitallyFrozen(planet)) {
-                renderOrbitalFreezeEffect(g, planetX, planetY, planetRadius, currentTime);
+                drawEffect(g, Effect.ORBITAL_FREEZE, planetX, planetY, planetRadius, currentTime);
             }
 
             // Check if this planet is cursed by ANY operator
@@ -100,38 +178,30 @@ public class EffectsArtist {
 
                 // Check bot curses
                 if (!planetCursed) {
-                    for (Planet otherPlanet : game.getPlanets()) {
-                        if (otherPlanet.getOperator() instanceof Bot) {
-                            Bot bot = (Bot) otherPlanet.getOperator();
-                            if (bot.isBotCurseActive() && planet.getOperator() != bot) {
-                                planetCursed = true;
-                                break;
-                            }
-                        }
-                    }
+                    planetCursed = affectsOthers(cursingBots, planet.getOperator());
                 }
             }
 
             // Curse effect - purple smoke on cursed planets
             if (planetCursed) {
-                renderCurseEffect(g, planetX, planetY, planetRadius, currentTime);
+                drawEffect(g, Effect.CURSE, planetX, planetY, planetRadius, currentTime);
             }
 
             // Effects that only show on player-owned planets
             if (isPlayerPlanet) {
                 // Shield effect - blue energy bubble
                 if (abilityManager.isShieldActive()) {
-                    renderShieldEffect(g, planetX, planetY, planetRadius, currentTime);
+                    drawEffect(g, Effect.SHIELD, planetX, planetY, planetRadius, currentTime);
                 }
 
                 // Factory Hype effect - electric sparks
                 if (abilityManager.isFactoryHypeActive()) {
-                    renderFactoryHypeEffect(g, planetX, planetY, planetRadius, currentTime);
+                    drawEffect(g, Effect.FACTORY_HYPE, planetX, planetY, planetRadius, currentTime);
                 }
 
                 // Improved Factories effect - mechanical gears
                 if (abilityManager.isImprovedFactoriesActive()) {
-                    renderImprovedFactoriesEffect(g, planetX, planetY, planetRadius, currentTime);
+                    drawEffect(g, Effect.IMPROVED_FACTORIES, planetX, planetY, planetRadius, currentTime);
                 }
 
                 // Planetary Flame effect - rotating flame towers
@@ -208,13 +278,10 @@ public class EffectsArtist {
 
                 // Check bot infections using AbilityManager
                 if (!planetInfected) {
-                    for (Planet otherPlanet : game.getPlanets()) {
-                        if (otherPlanet.getOperator() instanceof Bot) {
-                            Bot bot = (Bot) otherPlanet.getOperator();
-                            if (abilityManager.isOperatorPlanetInfected(bot, planet)) {
-                                planetInfected = true;
-                                break;
-                            }
+                    for (Bot bot : bots) {
+                        if (abilityManager.isOperatorPlanetInfected(bot, planet)) {
+                            planetInfected = true;
+                            break;
                         }
                     }
                 }
@@ -222,7 +289,7 @@ public class EffectsArtist {
 
             // Planetary Infection effect - dark green infection on infected planets
             if (planetInfected) {
-                renderPlanetaryInfectionEffect(g, planetX, planetY, planetRadius, currentTime);
+                drawEffect(g, Effect.INFECTION, planetX, planetY, planetRadius, currentTime);
             }
 
             // Check if any player planets have unstoppable ships active for visual effects
@@ -248,10 +315,71 @@ public class EffectsArtist {
         }
     }
 
+    /**
+     * Checks if a planet-wide ability of any of the bots reaches the owner's
+     * planets, which it does unless the owner is the only bot using it
+     */
+    private boolean affectsOthers(List<Bot> activeBots, Operator owner) {
+        return activeBots.size() > 1 || (activeBots.size() == 1 && activeBots.get(0) != owner);
+    }
+
+    /**
+     * Draws a looping planet effect from its animation strip, baking the frame
+     * on first use
+     */
+    private void drawEffect(Graphics2D g, Effect effect, int x, int y, int radius, long time) {
+        if (GameConstants.isEffectLiveRendering()) {
+            paintEffect(g, effect, x, y, radius, time);
+            return;
+        }
+
+        boolean particles = effect.particles
+                && !QualityGovernor.getInstance().isReduced(QualityGovernor.Reduction.EFFECT_PARTICLES);
+        long key = ((long) effect.ordinal() << 40) | (particles ? 1L << 32 : 0) | radius;
+        int frameCount = GameConstants.getEffectAnimationFrames();
+        AtomicReferenceArray<BufferedImage> strip = effectStrips.get(key);
+        if (strip == null || strip.length() != frameCount) {
+            if (effectStrips.size() >= MAX_EFFECT_STRIPS) {
+                effectStrips.clear(); // Planets came in many sizes, start over
+            }
+            strip = new AtomicReferenceArray<>(frameCount);
+            effectStrips.put(key, strip);
+        }
+
+        int frame = Math.min(frameCount - 1, (int) (time % ANIMATION_LOOP * frameCount / ANIMATION_LOOP));
+        int half = radius + effect.margin;
+        BufferedImage image = strip.get(frame);
+        if (image == null) {
+            image = g.getDeviceConfiguration().createCompatibleImage(half * 2, half * 2,
+                    Transparency.TRANSLUCENT);
+            Graphics2D imageGraphics = image.createGraphics();
+            imageGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            paintEffect(imageGraphics, effect, half, half, radius, Math.round(frame * ANIMATION_LOOP / frameCount));
+            imageGraphics.dispose();
+            strip.set(frame, image);
+        }
+        g.drawImage(image, x - half, y - half, null);
+    }
+
+    private void paintEffect(Graphics2D g, Effect effect, int x, int y, int radius, long time) {
+        switch (effect) {
+            case FREEZE -> renderFreezeEffect(g, x, y, radius, time);
+            case ORBITAL_FREEZE -> renderOrbitalFreezeEffect(g, x, y, radius, time);
+            case SHIELD -> renderShieldEffect(g, x, y, radius, time);
+            case FACTORY_HYPE -> renderFactoryHypeEffect(g, x, y, radius, time);
+            case IMPROVED_FACTORIES -> renderImprovedFactoriesEffect(g, x, y, radius, time);
+            case CURSE -> renderCurseEffect(g, x, y, radius, time);
+            case INFECTION -> renderPlanetaryInfectionEffect(g, x, y, radius, time);
+            case MISSILE_BARRAGE -> renderMissileBarrageEffect(g, x, y, radius, time);
+            case ANSWERED_PRAYERS -> renderAnsweredPrayersEffect(g, x, y, radius, time);
+            case UNSTOPPABLE_SHIPS -> renderUnstoppableShipsEffect(g, x, y, radius, time);
+        }
+    }
+
     private void renderFreezeEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Create pulsing ice crystals
         float alpha = 0.3f + 0.2f * (float) Math.sin(time * 0.005);
-        g.setColor(new Color(150, 200, 255, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(150, 200, 255, (int) (alpha * 255)));
 
         // Draw ice crystal overlay
         int crystalSize = radius + 5;
@@ -276,15 +404,15 @@ public class EffectsArtist {
 
         // Main ice ball - solid ice blue with transparency
         float alpha = 0.8f + 0.1f * (float) Math.sin(time * 0.003); // Slow pulsing
-        g.setColor(new Color(180, 220, 255, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(180, 220, 255, (int) (alpha * 255)));
 
         // Draw solid ice sphere over the entire planet
         int iceRadius = radius + 8; // Slightly larger than planet
         g.fillOval(x - iceRadius, y - iceRadius, iceRadius * 2, iceRadius * 2);
 
         // Ice crystal facet lines for definition
-        g.setColor(new Color(120, 180, 220, (int) (alpha * 200)));
-        g.setStroke(new BasicStroke(2.0f));
+        g.setColor(PaintCache.color(120, 180, 220, (int) (alpha * 200)));
+        g.setStroke(PaintCache.stroke(2.0f));
 
         // Vertical crystal lines
         g.drawLine(x - iceRadius / 3, y - iceRadius + 2, x - iceRadius / 3, y + iceRadius - 2);
@@ -300,24 +428,24 @@ public class EffectsArtist {
 
         // Ice highlights - bright white spots that shimmer
         float highlightAlpha = 0.4f + 0.3f * (float) Math.sin(time * 0.007 + 1.0);
-        g.setColor(new Color(255, 255, 255, (int) (highlightAlpha * 255)));
+        g.setColor(PaintCache.color(255, 255, 255, (int) (highlightAlpha * 255)));
         g.fillOval(x - iceRadius / 2, y - iceRadius / 2, 4, 4);
         g.fillOval(x + iceRadius / 3, y - iceRadius / 3, 3, 3);
         g.fillOval(x - iceRadius / 4, y + iceRadius / 4, 3, 3);
 
         // Outer ice rim with subtle glow
-        g.setColor(new Color(200, 240, 255, (int) (alpha * 150)));
-        g.setStroke(new BasicStroke(1.5f));
+        g.setColor(PaintCache.color(200, 240, 255, (int) (alpha * 150)));
+        g.setStroke(PaintCache.stroke(1.5f));
         g.drawOval(x - iceRadius - 2, y - iceRadius - 2, (iceRadius + 2) * 2, (iceRadius + 2) * 2);
 
         // Reset stroke
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
     }
 
     private void renderShieldEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Create shimmering energy shield
         float alpha = 0.4f + 0.3f * (float) Math.sin(time * 0.008);
-        g.setColor(new Color(100, 150, 255, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(100, 150, 255, (int) (alpha * 255)));
 
         int shieldRadius = radius + 8;
 
@@ -341,7 +469,7 @@ public class EffectsArtist {
 
     private void renderFactoryHypeEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Create electric lightning effect
-        g.setColor(new Color(255, 255, 100, 200));
+        g.setColor(PaintCache.color(255, 255, 100, 200));
 
         // Draw random lightning bolts around planet
         Random rand = new Random(time / 100); // Seed with time for animation
@@ -368,7 +496,7 @@ public class EffectsArtist {
 
     private void renderImprovedFactoriesEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Create rotating gear effect
-        g.setColor(new Color(150, 150, 150, 180));
+        g.setColor(PaintCache.color(150, 150, 150, 180));
 
         double rotation = (time * 0.002) % (2 * Math.PI);
 
@@ -401,7 +529,7 @@ public class EffectsArtist {
 
     private void renderHealingAnimation(Graphics2D g, int x, int y, int radius, long animationAge) {
         // Create floating healing crosses
-        g.setColor(new Color(100, 255, 100, 200));
+        g.setColor(PaintCache.color(100, 255, 100, 200));
 
         float progress = (float) animationAge / HEALING_ANIMATION_DURATION;
         int numCrosses = 3;
@@ -417,7 +545,7 @@ public class EffectsArtist {
 
             // Fade out as animation progresses
             float alpha = 1.0f - progress;
-            g.setColor(new Color(100, 255, 100, (int) (alpha * 200)));
+            g.setColor(PaintCache.color(100, 255, 100, (int) (alpha * 200)));
 
             // Draw cross (+ symbol)
             int crossSize = 4;
@@ -428,7 +556,7 @@ public class EffectsArtist {
 
     private void renderCurseEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Create swirling purple smoke effect
-        g.setColor(new Color(150, 50, 200, 150));
+        g.setColor(PaintCache.color(150, 50, 200, 150));
 
         // Draw wavy smoke particles rising
         for (int i = 0; i < 8; i++) {
@@ -442,9 +570,13 @@ public class EffectsArtist {
             // Draw small smoke particles
             g.fillOval(smokeX - 2, smokeY - 2, 4, 4);
 
+            if (QualityGovernor.getInstance().isReduced(QualityGovernor.Reduction.EFFECT_PARTICLES)) {
+                continue;
+            }
+
             // Draw wavy trails
             float alpha = 0.3f + 0.2f * (float) Math.sin(time * 0.004 + i);
-            g.setColor(new Color(150, 50, 200, (int) (alpha * 255)));
+            g.setColor(PaintCache.color(150, 50, 200, (int) (alpha * 255)));
 
             for (int j = 1; j < 6; j++) {
                 double trailAngle = angle + (j * 0.1);
@@ -471,15 +603,17 @@ public class EffectsArtist {
         double rotation = blackHole.rotationAngle;
 
         // Draw multiple layers of the accretion disk
+        boolean particles = !QualityGovernor.getInstance().isReduced(QualityGovernor.Reduction.EFFECT_PARTICLES);
+        ParticleLayer particleLayer = ParticleLayer.getInstance();
         for (int layer = 0; layer < 3; layer++) {
             int diskRadius = horizon / 2 + 10 + (layer * 8);
             float alpha = 0.8f - (layer * 0.2f);
 
             // Color gradient from hot center to cooler edges
             Color diskColor = switch (layer) {
-                case 0 -> new Color(255, 200, 100, (int) (alpha * 255));
-                case 1 -> new Color(255, 150, 50, (int) (alpha * 255));
-                default -> new Color(200, 100, 50, (int) (alpha * 255));
+                case 0 -> PaintCache.color(255, 200, 100, (int) (alpha * 255));
+                case 1 -> PaintCache.color(255, 150, 50, (int) (alpha * 255));
+                default -> PaintCache.color(200, 100, 50, (int) (alpha * 255));
             };
 
             g.setColor(diskColor);
@@ -493,8 +627,10 @@ public class EffectsArtist {
                 int spiralX = x + (int) (spiralRadius * Math.cos(spiralAngle));
                 int spiralY = y + (int) (spiralRadius * Math.sin(spiralAngle));
 
-                // Draw small particles in spiral
-                g.fillOval(spiralX - 2, spiralY - 2, 4, 4);
+                // Glowing particles in the spiral
+                if (particles) {
+                    particleLayer.splat(spiralX, spiralY, diskColor.getRGB(), alpha, 2);
+                }
 
                 // Connect to create spiral lines
                 if (i > 0) {
@@ -508,7 +644,7 @@ public class EffectsArtist {
         }
 
         // Draw gravitational lensing effect
-        g.setColor(new Color(255, 255, 255, 50));
+        g.setColor(PaintCache.color(255, 255, 255, 50));
         g.drawOval(x - horizon / 2 - 5, y - horizon / 2 - 5, horizon + 10, horizon + 10);
     }
 
@@ -519,6 +655,8 @@ public class EffectsArtist {
 
         // Calculate rotation for flame towers
         double rotation = time * 0.002; // Continuous rotation
+        ParticleLayer particleLayer = ParticleLayer.getInstance();
+        boolean particles = !QualityGovernor.getInstance().isReduced(QualityGovernor.Reduction.EFFECT_PARTICLES);
 
         // Draw two flame towers rotating around the planet
         for (int tower = 0; tower < 2; tower++) {
@@ -538,33 +676,32 @@ public class EffectsArtist {
                 float intensity = 1.0f - (i / (float) flameLength);
 
                 // Core flame (bright yellow/orange)
+                int flameColor;
                 if (intensity > 0.7f) {
-                    g.setColor(new Color(255, 255, 100, (int) (intensity * 255)));
+                    flameColor = 0xFFFF64;
                 } else if (intensity > 0.4f) {
-                    g.setColor(new Color(255, 150, 50, (int) (intensity * 255)));
+                    flameColor = 0xFF9632;
                 } else {
-                    g.setColor(new Color(200, 50, 50, (int) (intensity * 255)));
+                    flameColor = 0xC83232;
                 }
 
                 // Add flame flicker
                 int flicker = (int) (2 * Math.sin(time * 0.01 + i * 0.1));
-                int flameSize = 6 + flicker;
+                int flameSize = flicker > 0 ? 4 : 3;
 
-                g.fillOval((int) flameX - flameSize / 2, (int) flameY - flameSize / 2, flameSize, flameSize);
+                particleLayer.splat(flameX, flameY, flameColor, intensity, flameSize);
 
                 // Add some random flame particles
-                if (i % 6 == 0) {
+                if (i % 6 == 0 && particles) {
                     double particleAngle = towerAngle + (Math.sin(time * 0.005 + i) * 0.2);
-                    int particleX = (int) (flameX + 3 * Math.cos(particleAngle));
-                    int particleY = (int) (flameY + 3 * Math.sin(particleAngle));
-
-                    g.setColor(new Color(255, 200, 100, (int) (intensity * 200)));
-                    g.fillOval(particleX - 2, particleY - 2, 4, 4);
+                    double particleX = flameX + 3 * Math.cos(particleAngle);
+                    double particleY = flameY + 3 * Math.sin(particleAngle);
+                    particleLayer.splat(particleX, particleY, 0xFFC864, intensity * 0.8, 2);
                 }
             }
 
             // Draw flame tower base
-            g.setColor(new Color(100, 50, 50, 200));
+            g.setColor(PaintCache.color(100, 50, 50, 200));
             g.fillOval(towerX - 3, towerY - 3, 6, 6);
         }
     }
@@ -574,7 +711,7 @@ public class EffectsArtist {
         float alpha = 0.4f + 0.2f * (float) Math.sin(time * 0.006);
 
         // Main infection overlay - pulsing dark green
-        g.setColor(new Color(50, 120, 50, (int) (alpha * 180)));
+        g.setColor(PaintCache.color(50, 120, 50, (int) (alpha * 180)));
         g.fillOval(x - radius - 2, y - radius - 2, (radius + 2) * 2, (radius + 2) * 2);
 
         // Infection spikes/tendrils extending outward
@@ -588,8 +725,8 @@ public class EffectsArtist {
             int endX = x + (int) ((radius + spikeLength) * Math.cos(angle));
             int endY = y + (int) ((radius + spikeLength) * Math.sin(angle));
 
-            g.setColor(new Color(30, 80, 30, (int) (alpha * 200)));
-            g.setStroke(new BasicStroke(2));
+            g.setColor(PaintCache.color(30, 80, 30, (int) (alpha * 200)));
+            g.setStroke(PaintCache.stroke(2));
             g.drawLine(startX, startY, endX, endY);
 
             // Small infection dots at the tips
@@ -597,11 +734,11 @@ public class EffectsArtist {
         }
 
         // Restore default stroke
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
 
         // Pulsing infection core
         int coreSize = 4 + (int) (2 * Math.sin(time * 0.01));
-        g.setColor(new Color(20, 60, 20, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(20, 60, 20, (int) (alpha * 255)));
         g.fillOval(x - coreSize / 2, y - coreSize / 2, coreSize, coreSize);
     }
 
@@ -609,17 +746,17 @@ public class EffectsArtist {
 
     private void renderBotShieldEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
         // Render the standard shield effect (same as player)
-        renderShieldEffect(g, x, y, radius, time);
+        drawEffect(g, Effect.SHIELD, x, y, radius, time);
     }
 
     private void renderBotFactoryHypeEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
         // Render the standard factory hype effect (same as player)
-        renderFactoryHypeEffect(g, x, y, radius, time);
+        drawEffect(g, Effect.FACTORY_HYPE, x, y, radius, time);
     }
 
     private void renderBotImprovedFactoriesEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
         // Render the standard improved factories effect (same as player)
-        renderImprovedFactoriesEffect(g, x, y, radius, time);
+        drawEffect(g, Effect.IMPROVED_FACTORIES, x, y, radius, time);
     }
 
     private void renderBotBlackHoleEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
@@ -642,31 +779,39 @@ public class EffectsArtist {
 
     private void renderBotMissileBarrageEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
         // Bot missile barrage - missiles are created as actual projectiles in the field
+        drawEffect(g, Effect.MISSILE_BARRAGE, x, y, radius, time);
+    }
+
+    private void renderMissileBarrageEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Visual effect shows enhanced offensive capability with pulsing rings
-        g.setColor(new Color(255, 100, 100, 150));
+        g.setColor(PaintCache.color(255, 100, 100, 150));
 
         // Draw expanding rings to show missile launch activity
         for (int i = 0; i < 3; i++) {
             int ringRadius = radius + 5 + (i * 8) + (int) (4 * Math.sin(time * 0.008 + i));
-            g.setStroke(new BasicStroke(2));
+            g.setStroke(PaintCache.stroke(2));
             g.drawOval(x - ringRadius, y - ringRadius, ringRadius * 2, ringRadius * 2);
         }
 
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
     }
 
     private void renderBotAnsweredPrayersEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
+        drawEffect(g, Effect.ANSWERED_PRAYERS, x, y, radius, time);
+    }
+
+    private void renderAnsweredPrayersEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Bot answered prayers - create healing effect with gentle green healing aura
-        g.setColor(new Color(100, 255, 100, 150));
+        g.setColor(PaintCache.color(100, 255, 100, 150));
 
         // Draw healing rings
         for (int i = 0; i < 3; i++) {
             int ringRadius = radius + 8 + (i * 6) + (int) (3 * Math.sin(time * 0.008 + i));
-            g.setStroke(new BasicStroke(2));
+            g.setStroke(PaintCache.stroke(2));
             g.drawOval(x - ringRadius, y - ringRadius, ringRadius * 2, ringRadius * 2);
         }
 
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
     }
 
     private void renderBotCurseEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
@@ -676,19 +821,23 @@ public class EffectsArtist {
     }
 
     private void renderBotUnstoppableShipsEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
+        drawEffect(g, Effect.UNSTOPPABLE_SHIPS, x, y, radius, time);
+    }
+
+    private void renderUnstoppableShipsEffect(Graphics2D g, int x, int y, int radius, long time) {
         // Bot unstoppable ships - create enhanced ship production visual with bright
         // pulsing effect
         float alpha = 0.6f + 0.4f * (float) Math.sin(time * 0.01);
-        g.setColor(new Color(255, 255, 100, (int) (alpha * 200)));
+        g.setColor(PaintCache.color(255, 255, 100, (int) (alpha * 200)));
 
         // Draw enhancement rings
         for (int i = 0; i < 2; i++) {
             int ringRadius = radius + 10 + (i * 6) + (int) (3 * Math.sin(time * 0.012 + i));
-            g.setStroke(new BasicStroke(2));
+            g.setStroke(PaintCache.stroke(2));
             g.drawOval(x - ringRadius, y - ringRadius, ringRadius * 2, ringRadius * 2);
         }
 
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
     }
 
     private void renderBotOrbitalFreezeEffect(Graphics2D g, int x, int y, int radius, long time, Bot bot) {
@@ -702,7 +851,7 @@ public class EffectsArtist {
 
     public void renderMiniShieldEffect(Graphics2D g, int x, int y, int size, long time) {
         float alpha = 0.6f + 0.4f * (float) Math.sin(time * 0.008);
-        g.setColor(new Color(100, 150, 255, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(100, 150, 255, (int) (alpha * 255)));
         g.drawOval(x - size / 2, y - size / 2, size, size);
 
         // Mini hexagon
@@ -719,7 +868,7 @@ public class EffectsArtist {
     }
 
     public void renderMiniFactoryHypeEffect(Graphics2D g, int x, int y, int size, long time) {
-        g.setColor(new Color(255, 255, 100, 200));
+        g.setColor(PaintCache.color(255, 255, 100, 200));
 
         // Simple lightning bolts
         for (int i = 0; i < 2; i++) {
@@ -733,7 +882,7 @@ public class EffectsArtist {
     }
 
     public void renderMiniImprovedFactoriesEffect(Graphics2D g, int x, int y, int size, long time) {
-        g.setColor(new Color(150, 150, 150, 180));
+        g.setColor(PaintCache.color(150, 150, 150, 180));
         double rotation = (time * 0.002) % (2 * Math.PI);
 
         // Mini gear teeth
@@ -757,14 +906,14 @@ public class EffectsArtist {
             int flameX = x + (int) (size / 3 * Math.cos(towerAngle));
             int flameY = y + (int) (size / 3 * Math.sin(towerAngle));
 
-            g.setColor(new Color(255, 150, 50, 200));
+            g.setColor(PaintCache.color(255, 150, 50, 200));
             g.fillOval(flameX - 2, flameY - 2, 4, 4);
         }
     }
 
     public void renderMiniFreezeEffect(Graphics2D g, int x, int y, int size, long time) {
         float alpha = 0.5f + 0.3f * (float) Math.sin(time * 0.005);
-        g.setColor(new Color(150, 200, 255, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(150, 200, 255, (int) (alpha * 255)));
 
         // Ice crystal overlay
         g.drawOval(x - size / 2, y - size / 2, size, size);
@@ -785,11 +934,11 @@ public class EffectsArtist {
         float alpha = 0.8f + 0.2f * (float) Math.sin(time * 0.003);
 
         // Main curse circle background
-        g.setColor(new Color(120, 0, 150, (int) (alpha * 200)));
+        g.setColor(PaintCache.color(120, 0, 150, (int) (alpha * 200)));
         g.fillOval(x - size / 2, y - size / 2, size, size);
 
         // Bright purple border
-        g.setColor(new Color(200, 100, 255, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(200, 100, 255, (int) (alpha * 255)));
         g.drawOval(x - size / 2, y - size / 2, size, size);
 
         // Swirling purple particles - brighter and larger
@@ -797,7 +946,7 @@ public class EffectsArtist {
             double angle = (i * Math.PI / 2) + (time * 0.002);
             int smokeX = x + (int) (size / 3 * Math.cos(angle));
             int smokeY = y + (int) (size / 3 * Math.sin(angle));
-            g.setColor(new Color(255, 150, 255, (int) (alpha * 220)));
+            g.setColor(PaintCache.color(255, 150, 255, (int) (alpha * 220)));
             g.fillOval(smokeX - 1, smokeY - 1, 3, 3);
         }
     }
@@ -806,15 +955,15 @@ public class EffectsArtist {
         float alpha = 0.7f + 0.3f * (float) Math.sin(time * 0.006);
 
         // Main infection circle background - brighter green
-        g.setColor(new Color(80, 160, 80, (int) (alpha * 200)));
+        g.setColor(PaintCache.color(80, 160, 80, (int) (alpha * 200)));
         g.fillOval(x - size / 2, y - size / 2, size, size);
 
         // Bright green border
-        g.setColor(new Color(120, 255, 120, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(120, 255, 120, (int) (alpha * 255)));
         g.drawOval(x - size / 2, y - size / 2, size, size);
 
         // Infection spikes - brighter and thicker
-        g.setStroke(new BasicStroke(2));
+        g.setStroke(PaintCache.stroke(2));
         for (int i = 0; i < 4; i++) {
             double angle = (i * Math.PI / 2) + time * 0.002;
             int spikeLength = size / 3;
@@ -822,13 +971,13 @@ public class EffectsArtist {
             int y1 = y + (int) (size / 4 * Math.sin(angle));
             int x2 = x + (int) ((size / 4 + spikeLength) * Math.cos(angle));
             int y2 = y + (int) ((size / 4 + spikeLength) * Math.sin(angle));
-            g.setColor(new Color(150, 255, 150, (int) (alpha * 255)));
+            g.setColor(PaintCache.color(150, 255, 150, (int) (alpha * 255)));
             g.drawLine(x1, y1, x2, y2);
         }
-        g.setStroke(new BasicStroke(1)); // Reset stroke
+        g.setStroke(PaintCache.stroke(1)); // Reset stroke
 
         // Infection core - brighter
-        g.setColor(new Color(200, 255, 200, (int) (alpha * 255)));
+        g.setColor(PaintCache.color(200, 255, 200, (int) (alpha * 255)));
         g.fillOval(x - 2, y - 2, 4, 4);
     }
 
@@ -836,14 +985,14 @@ public class EffectsArtist {
         float alpha = 0.7f + 0.3f * (float) Math.sin(time * 0.01);
 
         // Bright yellow/gold core representing unstoppable force
-        g.setColor(new Color(255, 255, 150, (int) (alpha * 220)));
+        g.setColor(PaintCache.color(255, 255, 150, (int) (alpha * 220)));
         g.fillOval(x - size / 2, y - size / 2, size, size);
 
         // Golden border
-        g.setColor(new Color(255, 200, 0, (int) (alpha * 255)));
-        g.setStroke(new BasicStroke(2));
+        g.setColor(PaintCache.color(255, 200, 0, (int) (alpha * 255)));
+        g.setStroke(PaintCache.stroke(2));
         g.drawOval(x - size / 2, y - size / 2, size, size);
-        g.setStroke(new BasicStroke(1)); // Reset stroke
+        g.setStroke(PaintCache.stroke(1)); // Reset stroke
 
         // Energy sparks radiating outward
         for (int i = 0; i < 4; i++) {
@@ -853,7 +1002,7 @@ public class EffectsArtist {
             int sparkX = x + (int) (sparkDistance * Math.cos(sparkAngle));
             int sparkY = y + (int) (sparkDistance * Math.sin(sparkAngle));
 
-            g.setColor(new Color(255, 255, 100, (int) (alpha * 200)));
+            g.setColor(PaintCache.color(255, 255, 100, (int) (alpha * 200)));
             g.fillOval(sparkX - 1, sparkY - 1, 2, 2);
         }
     }
@@ -865,7 +1014,7 @@ public class EffectsArtist {
 
         // Mini accretion disk
         double rotation = time * 0.003;
-        g.setColor(new Color(255, 150, 50, 180));
+        g.setColor(PaintCache.color(255, 150, 50, 180));
 
         // Draw mini spiral
         for (int i = 0; i < 4; i++) {
@@ -882,7 +1031,7 @@ public class EffectsArtist {
      */
     public void renderAbilityEffectsOnIndicator(Graphics2D g, Operator operator, int x, int y) {
         AbilityManager abilityManager = game.getAbilityManager();
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
 
         // Small effect size for indicators (much smaller than on planets)
         int effectSize = 8;
@@ -0,0 +1,226 @@
+package home.frame.gamemenu;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Writes exported frames to disk on its own thread.
+ *
+ * Frames are drawn into images borrowed from a small pool with
+ * {@link #obtainFrame()} and handed back with {@link #submit(BufferedImage)}.
+ * Once a frame is written its image goes back to the pool, so the renderer only
+ * waits when the encoder is a whole pool behind, and nothing is allocated per
+ * frame.
+ */
+public class FrameEncoder {
+
+    public enum Format {
+        PNG, // Numbered images in a directory
+        GIF // One looping animated image
+    }
+
+    private static final int POOL_SIZE = 8; // Frames that can be drawn ahead of the encoder
+    private static final BufferedImage END_OF_FRAMES = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+
+    private final File output;
+    private final Format format;
+    private final int frameDelay; // Milliseconds each frame is shown for
+    private final BlockingQueue<BufferedImage> pendingFrames = new ArrayBlockingQueue<>(POOL_SIZE + 1);
+    private final BlockingQueue<BufferedImage> freeFrames = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final Thread thread;
+
+    private volatile IOException failure;
+    private volatile int framesWritten;
+
+    /**
+     * @param output     directory for PNG frames, file for a GIF
+     * @param frameDelay milliseconds between frames when played back
+     */
+    public FrameEncoder(File output, Format format, int frameDelay, int width, int height) {
+        this.output = output;
+        this.format = format;
+        this.frameDelay = frameDelay;
+        for (int i = 0; i < POOL_SIZE; i++) {
+            freeFrames.add(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+        }
+        thread = new Thread(this::run, "Frame Encoder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Borrows an image to draw the next frame into, waiting for the encoder if
+     * every image is in use
+     */
+    public BufferedImage obtainFrame() throws IOException {
+        checkFailure();
+        try {
+            return freeFrames.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the frame encoder", e);
+        }
+    }
+
+    /**
+     * Queues a frame obtained from this encoder to be written
+     */
+    public void submit(BufferedImage frame) throws IOException {
+        checkFailure();
+        try {
+            pendingFrames.put(frame);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while queueing a frame", e);
+        }
+    }
+
+    /**
+     * Writes the remaining frames and closes the output
+     */
+    public void finish() throws IOException {
+        try {
+            pendingFrames.put(END_OF_FRAMES);
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while finishing the export", e);
+        }
+        checkFailure();
+    }
+
+    public int getFramesWritten() {
+        return framesWritten;
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void run() {
+        try {
+            if (format == Format.GIF) {
+                writeGif();
+            } else {
+                writePngs();
+            }
+        } catch (IOException e) {
+            failure = e;
+            // Keep taking frames so the renderer doesn't block, it sees the failure next
+            drain();
+        } catch (InterruptedException e) {
+            failure = new IOException("Frame encoder interrupted", e);
+        }
+    }
+
+    private void writePngs() throws IOException, InterruptedException {
+        if (!output.isDirectory() && !output.mkdirs()) {
+            throw new IOException("Could not create " + output);
+        }
+        BufferedImage frame;
+        while ((frame = pendingFrames.take()) != END_OF_FRAMES) {
+            ImageIO.write(frame, "png", new File(output, String.format("frame_%05d.png", framesWritten)));
+            recycle(frame);
+        }
+    }
+
+    private void writeGif() throws IOException, InterruptedException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            if (stream == null) {
+                throw new IOException("Could not open " + output);
+            }
+            writer.setOutput(stream);
+            writer.prepareWriteSequence(null);
+
+            // The looping block belongs before the first frame only
+            IIOMetadata firstMetadata = null;
+            IIOMetadata metadata = null;
+            BufferedImage frame;
+            while ((frame = pendingFrames.take()) != END_OF_FRAMES) {
+                IIOMetadata frameMetadata = metadata;
+                if (firstMetadata == null) {
+                    firstMetadata = createGifMetadata(writer, frame, true);
+                    metadata = createGifMetadata(writer, frame, false);
+                    frameMetadata = firstMetadata;
+                }
+                writer.writeToSequence(new IIOImage(frame, null, frameMetadata), null);
+                recycle(frame);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Creates frame metadata that sets the frame delay
+     *
+     * @param loop also makes the animation loop forever, for the first frame
+     */
+    private IIOMetadata createGifMetadata(ImageWriter writer, BufferedImage frame, boolean loop)
+            throws IOException {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(frame),
+                null);
+        String formatName = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(formatName);
+
+        IIOMetadataNode control = getOrAddChild(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", Integer.toString(Math.max(1, frameDelay / 10))); // Hundredths of a second
+        control.setAttribute("transparentColorIndex", "0");
+
+        if (loop) {
+            IIOMetadataNode looping = new IIOMetadataNode("ApplicationExtension");
+            looping.setAttribute("applicationID", "NETSCAPE");
+            looping.setAttribute("authenticationCode", "2.0");
+            looping.setUserObject(new byte[] { 1, 0, 0 }); // Loop forever
+            getOrAddChild(root, "ApplicationExtensions").appendChild(looping);
+        }
+
+        metadata.setFromTree(formatName, root);
+        return metadata;
+    }
+
+    private static IIOMetadataNode getOrAddChild(IIOMetadataNode parent, String name) {
+        for (int i = 0; i < parent.getLength(); i++) {
+            if (parent.item(i).getNodeName().equals(name)) {
+                return (IIOMetadataNode) parent.item(i);
+            }
+        }
+        IIOMetadataNode child = new IIOMetadataNode(name);
+        parent.appendChild(child);
+        return child;
+    }
+
+    private void recycle(BufferedImage frame) {
+        framesWritten++;
+        freeFrames.offer(frame);
+    }
+
+    private void drain() {
+        try {
+            BufferedImage frame;
+            while ((frame = pendingFrames.take()) != END_OF_FRAMES) {
+                freeFrames.offer(frame);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package home.frame.gamemenu;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import home.frame.background.BackgroundArtist;
+import home.game.Explosion;
+import home.game.Game;
+import home.game.GameClock;
+import home.game.GameConstants;
+import home.game.GameRandom;
+import home.game.ParticleLayer;
+import home.game.QualityGovernor;
+import home.game.io.SaveLoadManager;
+import home.game.planets.Planet;
+
+/**
+ * Renders a game offscreen into images, without a window.
+ *
+ * The game is ticked by hand on simulated {@link GameClock} time, one tick
+ * interval per tick, and a frame is drawn every 1/frameRate seconds of game time.
+ * Clips therefore play back at the right speed no matter how long frames take
+ * to draw or encode, and a headless run measures the render pipeline on its own
+ * and can run faster than real time. Encoding happens on a
+ * {@link FrameEncoder} thread.
+ *
+ * The game is seeded through {@link GameRandom}, starts at a fixed time and has
+ * its bots plan inline, so the same seed gives the same clip on every run.
+ *
+ * Run headless with
+ * {@code java -Djava.awt.headless=true home.frame.gamemenu.FrameExporter <output> [frames] [frameRate] [png|gif] [seed]}
+ */
+public class FrameExporter {
+
+    private static final long START_TIME = 1_000_000_000_000L; // Simulated clock start, fixed so clips repeat
+
+    private final Game game;
+    private final BackgroundArtist backgroundArtist;
+    private final PlanetArtist planetArtist;
+    private final ShipArtist shipArtist;
+    private final EffectsArtist effectsArtist;
+    private final OperatorIndicatorRenderer operatorIndicatorRenderer;
+    private final IncomingPressureRenderer incomingPressureRenderer;
+    private TiledSceneRenderer tiledSceneRenderer; // Created when tiled rendering is first used
+
+    private long renderTime; // Nanoseconds spent drawing, without ticking or encoding
+
+    public FrameExporter(Game game) {
+        this.game = game;
+        backgroundArtist = new BackgroundArtist();
+        planetArtist = new PlanetArtist();
+        shipArtist = new ShipArtist(planetArtist);
+        shipArtist.setGame(game);
+        effectsArtist = new EffectsArtist(game);
+        operatorIndicatorRenderer = new OperatorIndicatorRenderer(game, GameConstants.getGameWidth(), planetArtist,
+                effectsArtist);
+        incomingPressureRenderer = new IncomingPressureRenderer(game);
+    }
+
+    /**
+     * Ticks the game and writes a frame at every frame interval of game time. The
+     * game clock has to be simulated already.
+     *
+     * @param frameCount frames to export
+     * @param frameRate  frames per second of game time
+     */
+    public void export(FrameEncoder encoder, int frameCount, int frameRate) throws IOException {
+        long tickInterval = 1000 / GameConstants.getTargetTPS();
+        long startTime = GameClock.currentTimeMillis();
+
+        for (int i = 0; i < frameCount && !game.isGameEnded(); i++) {
+            long frameTime = startTime + i * 1000L / frameRate;
+            while (GameClock.currentTimeMillis() + tickInterval <= frameTime) {
+                GameClock.advance(tickInterval);
+                game.tick();
+            }
+
+            BufferedImage frame = encoder.obtainFrame();
+            Graphics2D g = frame.createGraphics();
+            long frameStart = System.nanoTime();
+            RenderProfiler profiler = RenderProfiler.getInstance();
+            render(profiler.beginFrame(g));
+            profiler.endFrame();
+            renderTime += System.nanoTime() - frameStart;
+            g.dispose();
+            encoder.submit(frame);
+        }
+    }
+
+    /**
+     * Draws the game the way the game screen does, without the parts that follow
+     * the mouse or the player's HUD
+     */
+    public void render(Graphics2D g) {
+        RenderProfiler profiler = RenderProfiler.getInstance();
+        List<Planet> planetsSnapshot = new ArrayList<>(game.getPlanets());
+
+        profiler.begin(RenderProfiler.Layer.BACKGROUND);
+        backgroundArtist.renderBackground(g);
+        profiler.end(RenderProfiler.Layer.BACKGROUND);
+
+        if (GameConstants.isTiledRendering()) {
+            if (tiledSceneRenderer == null) {
+                tiledSceneRenderer = new TiledSceneRenderer(game, planetArtist, shipArtist, effectsArtist);
+            }
+            tiledSceneRenderer.setWorld(planetsSnapshot, new ArrayList<>(game.getShips()),
+                    new ArrayList<>(game.getProjectiles()), new ArrayList<>(game.getExplosions()));
+            profiler.begin(RenderProfiler.Layer.TILED_SCENE);
+            tiledSceneRenderer.render(g);
+            profiler.end(RenderProfiler.Layer.TILED_SCENE);
+        } else {
+            planetArtist.setPlanets(planetsSnapshot);
+            profiler.begin(RenderProfiler.Layer.PLANETS);
+            planetArtist.renderPlanets(g);
+            profiler.end(RenderProfiler.Layer.PLANETS);
+            profiler.begin(RenderProfiler.Layer.INCOMING_PRESSURE);
+            incomingPressureRenderer.renderIncomingPressure(g, planetsSnapshot);
+            profiler.end(RenderProfiler.Layer.INCOMING_PRESSURE);
+            profiler.begin(RenderProfiler.Layer.EFFECTS);
+            effectsArtist.renderAbilityEffects(g);
+            profiler.end(RenderProfiler.Layer.EFFECTS);
+
+            shipArtist.setShips(new ArrayList<>(game.getShips()));
+            shipArtist.setProjectiles(new ArrayList<>(game.getProjectiles()));
+            profiler.begin(RenderProfiler.Layer.SHIPS);
+            shipArtist.renderShips(g);
+            profiler.end(RenderProfiler.Layer.SHIPS);
+
+            profiler.begin(RenderProfiler.Layer.EXPLOSIONS);
+            for (Explosion explosion : new ArrayList<>(game.getExplosions())) {
+                explosion.render(g);
+            }
+            profiler.end(RenderProfiler.Layer.EXPLOSIONS);
+        }
+
+        profiler.begin(RenderProfiler.Layer.PARTICLES);
+        ParticleLayer.getInstance().render(g);
+        profiler.end(RenderProfiler.Layer.PARTICLES);
+
+        profiler.begin(RenderProfiler.Layer.OPERATOR_INDICATORS);
+        operatorIndicatorRenderer.renderOperatorIndicators(g);
+        profiler.end(RenderProfiler.Layer.OPERATOR_INDICATORS);
+    }
+
+    /**
+     * @return nanoseconds spent drawing frames so far
+     */
+    public long getRenderTime() {
+        return renderTime;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: FrameExporter <output> [frames] [frameRate] [png|gif] [seed]");
+            return;
+        }
+        File output = new File(args[0]);
+        int frameCount = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        int frameRate = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        FrameEncoder.Format format = args.length > 3 ? FrameEncoder.Format.valueOf(args[3].toUpperCase())
+                : FrameEncoder.Format.PNG;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 0;
+
+        SaveLoadManager.getInstance().loadGameConstants();
+        GameClock.useSimulatedTime(START_TIME);
+        GameRandom.setSeed(seed);
+        QualityGovernor.getInstance().reset(); // Clips are always at full detail
+        RenderProfiler.getInstance().setEnabled(true);
+
+        Game game = new Game();
+        game.getSoundManager().setEnabled(false);
+        game.getBotPlanner().setInline(true);
+        game.generate();
+
+        FrameExporter exporter = new FrameExporter(game);
+        FrameEncoder encoder = new FrameEncoder(output, format, 1000 / frameRate, GameConstants.getGameWidth(),
+                GameConstants.getGameHeight());
+
+        if (!GameConstants.isCentralStarLiveRendering()) {
+            CentralStarRenderer.awaitFrames(); // Every frame blits the same baked star on every run
+        }
+
+        long start = System.nanoTime();
+        try {
+            exporter.export(encoder, frameCount, frameRate);
+        } finally {
+            encoder.finish();
+            game.stop();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        double renderSeconds = exporter.getRenderTime() / 1_000_000_000.0;
+
+        int frames = encoder.getFramesWritten();
+        System.out.println(String.format("Exported %d frames to %s in %.1f s (%.1f fps)", frames, output, seconds,
+                frames / seconds));
+        System.out.println(String.format("Rendering alone: %.2f ms per frame (%.1f fps)",
+                renderSeconds * 1000 / Math.max(1, frames), frames / Math.max(renderSeconds, 1e-9)));
+        System.out.print(RenderProfiler.getInstance().getReport());
+    }
+}
@@ -1,22 +1,33 @@
 package home.frame.gamemenu;
 
+import java.awt.Canvas;
 import java.awt.Color;
+import java.awt.AWTEvent;
 import java.awt.Font;
 import java.awt.FontMetrics;
+import java.awt.Frame;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.KeyboardFocusManager;
 import java.awt.Point;
 import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 
-import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 import home.frame.CoinIcon;
 import home.frame.GameFrame;
@@ -24,7 +35,10 @@ import home.frame.background.BackgroundArtist;
 import home.game.Explosion;
 import home.game.Game;
 import home.game.GameConstants;
+import home.game.PaintCache;
+import home.game.ParticleLayer;
 import home.game.Projectile;
+import home.game.QualityGovernor;
 import home.game.Ship;
 import home.game.VisualSettings;
 import home.game.abilities.AbilityType;
@@ -36,18 +50,50 @@ import home.game.operators.player.Player;
 import home.game.operators.player.PlayerData;
 import home.game.planets.Planet;
 
-public class GameMenu extends JPanel implements MouseListener, MouseMotionListener, KeyListener {
+/**
+ * The game screen. Drawn by a {@link RenderLoop} straight into the canvas's
+ * buffers, which runs while the screen is part of the frame.
+ *
+ * While the game is paused, minimised or unfocused the screen goes idle: the
+ * last scene is kept in an image and the render loop only draws it again when
+ * the canvas needs it, and unless paused the engine is parked too.
+ */
+public class GameMenu extends Canvas implements MouseListener, MouseMotionListener, KeyListener {
 
     private Game game;
-    private Thread gameThread;
-    private int frameCount = 0;
-    private long lastTime = System.currentTimeMillis();
+    private RenderLoop renderLoop;
 
     private PlanetArtist planetArtist;
     private ShipArtist shipArtist;
     private BackgroundArtist backgroundArtist;
     private EffectsArtist effectsArtist;
     private OperatorIndicatorRenderer operatorIndicatorRenderer;
+    private IncomingPressureRenderer incomingPressureRenderer;
+    private TiledSceneRenderer tiledSceneRenderer; // Created when tiled rendering is first used
+
+    // Cached HUD parts, redrawn only when what they show changes
+    private static final int TIMER_LAYER_WIDTH = 460;
+    private static final int TIMER_LAYER_HEIGHT = 90;
+    private static final int ABILITY_LAYER_WIDTH = 90;
+    private static final int NOTIFICATION_LAYER_WIDTH = 380;
+    private final HudLayer timerLayer = new HudLayer();
+    private final HudLayer abilityLayer = new HudLayer();
+    private final HudLayer notificationLayer = new HudLayer();
+
+    // Scene drawn at the render scale when it or the window size differs from the game size
+    private VolatileImage sceneBuffer;
+
+    // Last scene drawn before the screen went idle, shown until it wakes up again. Render thread only.
+    private BufferedImage frozenScene;
+
+    // Wakes the screen up or lets it go idle when the game's windows are minimised, restored or change focus
+    private final AWTEventListener windowStateListener = event -> scheduleIdleUpdate();
+    private boolean idleUpdatePending; // EDT only
+
+    // Where the game area sits in the window, written by the render thread and read by input handlers
+    private volatile double viewScale = 1;
+    private volatile int viewX = 0;
+    private volatile int viewY = 0;
 
     // Menu instances
     private PauseMenu pauseMenu;
@@ -84,34 +130,18 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         effectsArtist = new EffectsArtist(game);
         operatorIndicatorRenderer = new OperatorIndicatorRenderer(game, GameConstants.getGameWidth(), planetArtist,
                 effectsArtist);
+        incomingPressureRenderer = new IncomingPressureRenderer(game);
+        QualityGovernor.getInstance().reset(); // Every game starts at full detail
+        ParticleLayer.getInstance().clear();
 
         // Initialize menu instances
         pauseMenu = new PauseMenu(game, frame, backgroundArtist);
         gameOverMenu = new GameOverMenu(game, frame, backgroundArtist, this);
 
-        gameThread = new Thread(() -> {
-            while (true) {
-                // Check for win condition
-                if (game.isGameEnded() && !winPopupShown) {
-                    winPopupShown = true;
-                    gameOverMenu.show();
-                }
-
-                repaint();
-                frameCount++;
-                if (System.currentTimeMillis() - lastTime >= 1000) {
-                    frame.setTitle("Space Game - FPS: " + frameCount);
-                    frameCount = 0;
-                    lastTime = System.currentTimeMillis();
-                }
-                try {
-                    Thread.sleep(1000 / GameConstants.getTargetTPS()); // target FPS
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-        });
-        gameThread.start();
+        renderLoop = new RenderLoop(this, this::renderFrame, framesPerSecond -> frame.setTitle(
+                "Space Game - FPS: " + framesPerSecond + (GameConstants.isUncappedFrameRate() ? " (uncapped)" : "")));
+        setIgnoreRepaint(true); // Everything is drawn by the render loop
+        setBackground(Color.BLACK);
         game.start();
 
         // Add mouse and key listeners
@@ -126,11 +156,205 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
     }
 
     @Override
-    protected void paintComponent(Graphics g2) {
-        super.paintComponent(g2);
-        Graphics2D g = (Graphics2D) g2;
-        backgroundArtist.renderBackground(g);
-        renderGame(g);
+    public void addNotify() {
+        super.addNotify();
+        renderLoop.start();
+        Toolkit.getDefaultToolkit().addAWTEventListener(windowStateListener,
+                AWTEvent.WINDOW_EVENT_MASK | AWTEvent.WINDOW_STATE_EVENT_MASK | AWTEvent.WINDOW_FOCUS_EVENT_MASK);
+        requestFocusInWindow();
+    }
+
+    @Override
+    public void removeNotify() {
+        // Leaving the game screen, the buffers go away with the peer
+        Toolkit.getDefaultToolkit().removeAWTEventListener(windowStateListener);
+        renderLoop.stop();
+        super.removeNotify();
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        // Only asked for while idle, the canvas was uncovered or resized and the render loop draws it again
+        renderLoop.requestFrame();
+    }
+
+    @Override
+    public void update(Graphics g) {
+        paint(g);
+    }
+
+    /**
+     * Updates the idle mode once the events being handled have settled. Focus
+     * passing between the game's windows, or a pause menu button that just
+     * stopped the game, briefly leaves none of them active. Called on the EDT.
+     */
+    private void scheduleIdleUpdate() {
+        if (idleUpdatePending) {
+            return;
+        }
+        idleUpdatePending = true;
+        SwingUtilities.invokeLater(() -> {
+            idleUpdatePending = false;
+            updateIdleMode();
+        });
+    }
+
+    /**
+     * Lets the screen go idle while the game is paused or not being watched and
+     * wakes it up otherwise. Does nothing once the screen was closed or the game
+     * has ended, the engine may already be stopped.
+     */
+    private void updateIdleMode() {
+        if (!isDisplayable() || game.isGameEnded()) {
+            return;
+        }
+        boolean unwatched = GameConstants.isIdleWhenInactive() && !isWatched();
+        game.setIdle(unwatched);
+        boolean idle = unwatched || game.isPaused();
+        if (idle != renderLoop.isIdle()) {
+            setIgnoreRepaint(!idle);
+            renderLoop.setIdle(idle);
+        }
+    }
+
+    /**
+     * Checks if the game's window isn't minimised and one of the game's windows
+     * has the focus
+     */
+    private boolean isWatched() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame && (((Frame) window).getExtendedState() & Frame.ICONIFIED) != 0) {
+            return false;
+        }
+        return KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow() != null;
+    }
+
+    private void renderFrame(Graphics2D g) {
+        // Check for win condition
+        if (game.isGameEnded() && !winPopupShown) {
+            winPopupShown = true;
+            SwingUtilities.invokeLater(gameOverMenu::show); // Modal, so keep it off the render thread
+        }
+
+        long frameStart = System.nanoTime();
+        int gameWidth = GameConstants.getGameWidth();
+        int gameHeight = GameConstants.getGameHeight();
+        double renderScale = GameConstants.getRenderScale();
+        int canvasWidth = getWidth();
+        int canvasHeight = getHeight();
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+
+        if (renderLoop.isIdle()) {
+            // Nothing moves while idle, draw the scene once and show that
+            if (frozenScene == null) {
+                frozenScene = freezeScene(configuration, gameWidth, gameHeight, renderScale);
+            }
+            if (canvasWidth > 0 && canvasHeight > 0) {
+                drawView(g, frozenScene, gameWidth, gameHeight, canvasWidth, canvasHeight);
+                RenderProfiler.getInstance().drawOverlay(g, canvasHeight);
+            }
+            return;
+        }
+        frozenScene = null;
+
+        if ((renderScale == 1 && canvasWidth == gameWidth && canvasHeight == gameHeight) || configuration == null
+                || canvasWidth <= 0 || canvasHeight <= 0) {
+            // Game size window, draw straight into the canvas
+            viewScale = 1;
+            viewX = 0;
+            viewY = 0;
+            renderScene(g, 1);
+        } else {
+            int bufferWidth = (int) Math.ceil(gameWidth * renderScale);
+            int bufferHeight = (int) Math.ceil(gameHeight * renderScale);
+            if (sceneBuffer == null || sceneBuffer.getWidth() != bufferWidth || sceneBuffer.getHeight() != bufferHeight
+                    || sceneBuffer.validate(configuration) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (sceneBuffer != null) {
+                    sceneBuffer.flush();
+                }
+                sceneBuffer = configuration.createCompatibleVolatileImage(bufferWidth, bufferHeight);
+            }
+            // The scene is redrawn every frame, so lost contents only cost the frame they are lost in
+            Graphics2D sceneGraphics = sceneBuffer.createGraphics();
+            try {
+                renderScene(sceneGraphics, renderScale);
+            } finally {
+                sceneGraphics.dispose();
+            }
+
+            drawView(g, sceneBuffer, gameWidth, gameHeight, canvasWidth, canvasHeight);
+        }
+
+        int entityCount = game.getShips().size() + game.getProjectiles().size() + game.getExplosions().size();
+        QualityGovernor.getInstance().recordFrame(System.nanoTime() - frameStart, entityCount);
+
+        RenderProfiler.getInstance().drawOverlay(g, canvasHeight);
+    }
+
+    /**
+     * Fits the drawn game area inside the window, keeping its shape
+     */
+    private void drawView(Graphics2D g, Image scene, int gameWidth, int gameHeight, int canvasWidth,
+            int canvasHeight) {
+        double fit = Math.min((double) canvasWidth / gameWidth, (double) canvasHeight / gameHeight);
+        int viewWidth = (int) Math.round(gameWidth * fit);
+        int viewHeight = (int) Math.round(gameHeight * fit);
+        int x = (canvasWidth - viewWidth) / 2;
+        int y = (canvasHeight - viewHeight) / 2;
+        if (viewWidth < canvasWidth || viewHeight < canvasHeight) {
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, canvasWidth, canvasHeight);
+        }
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                GameConstants.isSmoothUpscaling() ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                        : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(scene, x, y, viewWidth, viewHeight, null);
+        viewScale = fit;
+        viewX = x;
+        viewY = y;
+    }
+
+    /**
+     * Draws the scene into an image that stays on screen while the screen is idle
+     */
+    private BufferedImage freezeScene(GraphicsConfiguration configuration, int gameWidth, int gameHeight,
+            double renderScale) {
+        int width = (int) Math.ceil(gameWidth * renderScale);
+        int height = (int) Math.ceil(gameHeight * renderScale);
+        BufferedImage image = configuration != null ? configuration.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            renderScene(g, renderScale);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Draws the game area in game coordinates, scaled by the given factor
+     */
+    private void renderScene(Graphics2D g, double scale) {
+        if (scale != 1) {
+            g.scale(scale, scale);
+        }
+        RenderProfiler profiler = RenderProfiler.getInstance();
+        Graphics2D frameGraphics = profiler.beginFrame(g);
+        profiler.begin(RenderProfiler.Layer.BACKGROUND);
+        backgroundArtist.renderBackground(frameGraphics);
+        profiler.end(RenderProfiler.Layer.BACKGROUND);
+        renderGame(frameGraphics);
+        profiler.endFrame();
+    }
+
+    // Window positions to game coordinates, the simulation never sees the window size
+    private int toGameX(MouseEvent e) {
+        return (int) Math.floor((e.getX() - viewX) / viewScale);
+    }
+
+    private int toGameY(MouseEvent e) {
+        return (int) Math.floor((e.getY() - viewY) / viewScale);
     }
 
     private void renderGame(Graphics2D g) {
@@ -154,32 +378,70 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
             return;
         }
 
-        // Render planets
-        planetArtist.setPlanets(planetsSnapshot);
-        planetArtist.setHoveredPlanet(hoveredPlanet);
-        planetArtist.setClickedPlanet(clickedPlanet);
-        planetArtist.setSelectedPlanet(selectedPlanet);
-        planetArtist.renderPlanets(g);
-
-        // Render ability effects over planets
-        effectsArtist.renderAbilityEffects(g);
+        RenderProfiler profiler = RenderProfiler.getInstance();
 
-        // Render ships and projectiles
-        shipArtist.setShips(shipsSnapshot);
-        shipArtist.setProjectiles(projectilesSnapshot);
-        shipArtist.renderShips(g);
-
-        // Render explosions
-        List<Explosion> explosionsSnapshot;
-        try {
-            explosionsSnapshot = new ArrayList<>(game.getExplosions());
-            for (Explosion explosion : explosionsSnapshot) {
-                explosion.render(g);
+        if (GameConstants.isTiledRendering()) {
+            // Planets, effects, ships and explosions drawn in bands on several cores
+            List<Explosion> explosionsSnapshot;
+            try {
+                explosionsSnapshot = new ArrayList<>(game.getExplosions());
+            } catch (Exception e) {
+                explosionsSnapshot = new ArrayList<>();
             }
-        } catch (Exception e) {
-            // If we can't create explosion snapshot, skip explosion rendering
+            if (tiledSceneRenderer == null) {
+                tiledSceneRenderer = new TiledSceneRenderer(game, planetArtist, shipArtist, effectsArtist);
+            }
+            tiledSceneRenderer.setWorld(planetsSnapshot, shipsSnapshot, projectilesSnapshot, explosionsSnapshot);
+            tiledSceneRenderer.setHighlights(hoveredPlanet, clickedPlanet, selectedPlanet);
+            profiler.begin(RenderProfiler.Layer.TILED_SCENE);
+            tiledSceneRenderer.render(g);
+            profiler.end(RenderProfiler.Layer.TILED_SCENE);
+        } else {
+            // Render planets
+            planetArtist.setPlanets(planetsSnapshot);
+            planetArtist.setHoveredPlanet(hoveredPlanet);
+            planetArtist.setClickedPlanet(clickedPlanet);
+            planetArtist.setSelectedPlanet(selectedPlanet);
+            profiler.begin(RenderProfiler.Layer.PLANETS);
+            planetArtist.renderPlanets(g);
+            profiler.end(RenderProfiler.Layer.PLANETS);
+
+            // Render incoming hostile pressure on planet health bars
+            profiler.begin(RenderProfiler.Layer.INCOMING_PRESSURE);
+            incomingPressureRenderer.renderIncomingPressure(g, planetsSnapshot);
+            profiler.end(RenderProfiler.Layer.INCOMING_PRESSURE);
+
+            // Render ability effects over planets
+            profiler.begin(RenderProfiler.Layer.EFFECTS);
+            effectsArtist.renderAbilityEffects(g);
+            profiler.end(RenderProfiler.Layer.EFFECTS);
+
+            // Render ships and projectiles
+            shipArtist.setShips(shipsSnapshot);
+            shipArtist.setProjectiles(projectilesSnapshot);
+            profiler.begin(RenderProfiler.Layer.SHIPS);
+            shipArtist.renderShips(g);
+            profiler.end(RenderProfiler.Layer.SHIPS);
+
+            // Render explosions
+            List<Explosion> explosionsSnapshot;
+            profiler.begin(RenderProfiler.Layer.EXPLOSIONS);
+            try {
+                explosionsSnapshot = new ArrayList<>(game.getExplosions());
+                for (Explosion explosion : explosionsSnapshot) {
+                    explosion.render(g);
+                }
+            } catch (Exception e) {
+                // If we can't create explosion snapshot, skip explosion rendering
+            }
+            profiler.end(RenderProfiler.Layer.EXPLOSIONS);
         }
 
+        // Sparks, flames and glows added by the layers above, in one draw
+        profiler.begin(RenderProfiler.Layer.PARTICLES);
+        ParticleLayer.getInstance().render(g);
+        profiler.end(RenderProfiler.Layer.PARTICLES);
+
         // Draw connection line when dragging
         if (isDragging && selectedPlanet != null && mousePosition != null) {
             g.setColor(Color.WHITE);
@@ -194,26 +456,28 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         }
 
         // Render game timer and coin preview
+        profiler.begin(RenderProfiler.Layer.HUD_TIMER);
         renderGameTimer(g);
+        profiler.end(RenderProfiler.Layer.HUD_TIMER);
 
         // Render ability diamonds
+        profiler.begin(RenderProfiler.Layer.HUD_ABILITIES);
         renderAbilityDiamonds(g);
+        profiler.end(RenderProfiler.Layer.HUD_ABILITIES);
 
         // Render operator indicators
+        profiler.begin(RenderProfiler.Layer.OPERATOR_INDICATORS);
         operatorIndicatorRenderer.renderOperatorIndicators(g);
+        profiler.end(RenderProfiler.Layer.OPERATOR_INDICATORS);
 
         // Render achievement notifications
+        profiler.begin(RenderProfiler.Layer.HUD_NOTIFICATIONS);
         renderAchievementNotifications(g);
+        profiler.end(RenderProfiler.Layer.HUD_NOTIFICATIONS);
     }
 
     private void renderGameTimer(Graphics2D g) {
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        // Calculate elapsed time
         long elapsedTime = game.getElapsedTime();
-        int minutes = (int) (elapsedTime / 60000);
-        int seconds = (int) ((elapsedTime % 60000) / 1000);
-        String timeText = String.format("%d:%02d", minutes, seconds);
 
         // Calculate potential coin reward with aggressive conqueror bonus
         PlayerData playerData = PlayerData.getInstance();
@@ -232,6 +496,21 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         int bonusReward = playerData.calculatePotentialRewardWithBonus(elapsedTime, game.getDifficulty(), totalPlanets,
                 uncapturedPlanets);
 
+        // The timer only changes once a second, rewards and planet counts on events
+        long signature = HudLayer.sign(HudLayer.EMPTY_SIGNATURE, elapsedTime / 1000);
+        signature = HudLayer.sign(signature, baseReward);
+        signature = HudLayer.sign(signature, bonusReward);
+        signature = HudLayer.sign(signature, uncapturedPlanets);
+        timerLayer.draw(g, 0, 0, TIMER_LAYER_WIDTH, TIMER_LAYER_HEIGHT, signature,
+                layer -> drawGameTimer(layer, elapsedTime, baseReward, bonusReward, uncapturedPlanets));
+    }
+
+    private void drawGameTimer(Graphics2D g, long elapsedTime, int baseReward, int bonusReward,
+            int uncapturedPlanets) {
+        int minutes = (int) (elapsedTime / 60000);
+        int seconds = (int) ((elapsedTime % 60000) / 1000);
+        String timeText = String.format("%d:%02d", minutes, seconds);
+
         // Set up fonts and positions
         Font timeFont = new Font("Arial", Font.BOLD, 16);
         Font coinFont = new Font("Arial", Font.BOLD, 14);
@@ -250,23 +529,21 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         // Draw coin preview with icon
         g.setFont(coinFont);
         String coinText = "Base Reward: " + baseReward;
-        CoinIcon.drawCoinWithText(g, x, coinY, coinText, coinFont, new Color(255, 215, 0));
+        CoinIcon.drawCoinWithText(g, x, coinY, coinText, coinFont, PaintCache.color(255, 215, 0));
 
         // Draw aggressive conqueror bonus if applicable
         if (uncapturedPlanets > 0) {
             g.setFont(bonusFont);
             String bonusText = "Aggressive Bonus: +" + (bonusReward - baseReward) + " (" + uncapturedPlanets
                     + " uncaptured)";
-            CoinIcon.drawCoinWithText(g, x, bonusY, bonusText, bonusFont, new Color(255, 150, 0));
+            CoinIcon.drawCoinWithText(g, x, bonusY, bonusText, bonusFont, PaintCache.color(255, 150, 0));
         }
     }
 
     private void renderAchievementNotifications(Graphics2D g) {
         ChallengeManager challengeManager = ChallengeManager.getInstance();
 
-        int currentY = 20; // Starting Y position for notifications
-
-        // Render all active achievement completion notifications (higher priority)
+        // Collect all active achievement completion notifications (higher priority)
         Queue<AchievementNotification> achievementQueue = challengeManager.getPendingNotifications();
         List<AchievementNotification> activeAchievements = new ArrayList<>();
 
@@ -283,13 +560,7 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         }
         lastNotificationCount = activeAchievements.size();
 
-        // Render all achievement notifications
-        for (AchievementNotification achNotif : activeAchievements) {
-            renderCompletionNotification(g, achNotif, currentY);
-            currentY += 90; // Space between notifications (80 height + 10 margin)
-        }
-
-        // Then render all active progress notifications below achievement notifications
+        // Then collect all active progress notifications, shown below achievement notifications
         Queue<ProgressNotification> progressQueue = challengeManager.getPendingProgressNotifications();
         List<ProgressNotification> activeProgress = new ArrayList<>();
 
@@ -300,27 +571,50 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
             }
         }
 
-        // Render all progress notifications
+        if (activeAchievements.isEmpty() && activeProgress.isEmpty()) {
+            return;
+        }
+
+        // Notifications never change while shown, so they only need redrawing when one comes or goes
+        long signature = HudLayer.sign(HudLayer.EMPTY_SIGNATURE, activeAchievements.size());
+        for (AchievementNotification achNotif : activeAchievements) {
+            signature = HudLayer.sign(signature, System.identityHashCode(achNotif));
+        }
         for (ProgressNotification progNotif : activeProgress) {
-            renderProgressNotification(g, progNotif, currentY);
-            currentY += 80; // Space between notifications (70 height + 10 margin)
+            signature = HudLayer.sign(signature, System.identityHashCode(progNotif));
         }
+        int layerX = GameConstants.getGameWidth() - NOTIFICATION_LAYER_WIDTH;
+        notificationLayer.draw(g, layerX, 0, NOTIFICATION_LAYER_WIDTH, GameConstants.getGameHeight(), signature, layer -> {
+            int currentY = 20; // Starting Y position for notifications
+
+            // Render all achievement notifications
+            for (AchievementNotification achNotif : activeAchievements) {
+                renderCompletionNotification(layer, achNotif, currentY);
+                currentY += 90; // Space between notifications (80 height + 10 margin)
+            }
+
+            // Render all progress notifications
+            for (ProgressNotification progNotif : activeProgress) {
+                renderProgressNotification(layer, progNotif, currentY);
+                currentY += 80; // Space between notifications (70 height + 10 margin)
+            }
+        });
     }
 
     private void renderCompletionNotification(Graphics2D g, AchievementNotification notification, int y) {
         int width = 350;
         int height = 80;
-        int x = getWidth() - width - 20;
+        int x = GameConstants.getGameWidth() - width - 20;
 
         // Background with slight transparency and rarity color border
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(PaintCache.color(0, 0, 0, 200));
         g.fillRoundRect(x, y, width, height, 15, 15);
 
         // Border with rarity color
         g.setColor(notification.getRarity().getColor());
-        g.setStroke(new java.awt.BasicStroke(3));
+        g.setStroke(PaintCache.stroke(3));
         g.drawRoundRect(x, y, width, height, 15, 15);
-        g.setStroke(new java.awt.BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
 
         // Achievement completed text
         g.setFont(new Font("Arial", Font.BOLD, 16));
@@ -353,23 +647,22 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
     private void renderProgressNotification(Graphics2D g, ProgressNotification notification, int y) {
         int width = 300;
         int height = 70;
-        int x = getWidth() - width - 20;
+        int x = GameConstants.getGameWidth() - width - 20;
 
         // Background with slight transparency and rarity color border
-        g.setColor(new Color(0, 0, 0, 180));
+        g.setColor(PaintCache.color(0, 0, 0, 180));
         g.fillRoundRect(x, y, width, height, 12, 12);
 
         // Border with rarity color but dimmer
-        Color borderColor = new Color(notification.getRarity().getColor().getRed(),
-                notification.getRarity().getColor().getGreen(), notification.getRarity().getColor().getBlue(), 150);
+        Color borderColor = PaintCache.withAlpha(notification.getRarity().getColor(), 150);
         g.setColor(borderColor);
-        g.setStroke(new java.awt.BasicStroke(2));
+        g.setStroke(PaintCache.stroke(2));
         g.drawRoundRect(x, y, width, height, 12, 12);
-        g.setStroke(new java.awt.BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
 
         // Progress text
         g.setFont(new Font("Arial", Font.BOLD, 14));
-        g.setColor(new Color(200, 200, 255));
+        g.setColor(PaintCache.color(200, 200, 255));
         g.drawString("PROGRESS MADE", x + 15, y + 20);
 
         // Challenge name
@@ -388,13 +681,14 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         int progressBarHeight = 8;
 
         // Progress bar background
-        g.setColor(new Color(100, 100, 100, 150));
+        g.setColor(PaintCache.color(100, 100, 100, 150));
         g.fillRoundRect(progressBarX, progressBarY, progressBarWidth, progressBarHeight, 4, 4);
 
         // Progress bar fill
         int fillWidth = (int) (progressBarWidth * notification.getProgressPercentage());
-        Color progressColor = notification.getProgressPercentage() > 0.8f ? new Color(50, 200, 50)
-                : notification.getProgressPercentage() > 0.5f ? new Color(255, 200, 0) : new Color(100, 150, 255);
+        Color progressColor = notification.getProgressPercentage() > 0.8f ? PaintCache.color(50, 200, 50)
+                : notification.getProgressPercentage() > 0.5f ? PaintCache.color(255, 200, 0)
+                        : PaintCache.color(100, 150, 255);
         g.setColor(progressColor);
         g.fillRoundRect(progressBarX, progressBarY, fillWidth, progressBarHeight, 4, 4);
 
@@ -424,10 +718,10 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
     // MouseListener methods
     @Override
     public void mouseClicked(MouseEvent e) {
-        // Request focus when panel is clicked to ensure key events work
+        // Request focus when canvas is clicked to ensure key events work
         requestFocusInWindow();
 
-        click(e.getX(), e.getY());
+        click(toGameX(e), toGameY(e));
     }
 
     private void click(int x, int y) {
@@ -467,13 +761,13 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
 
     @Override
     public void mousePressed(MouseEvent e) {
-        selectedPlanet = findPlanetAt(e.getX(), e.getY());
+        selectedPlanet = findPlanetAt(toGameX(e), toGameY(e));
         pressedAt = System.currentTimeMillis();
         // Only allow drag connection creation from Player-owned planets if not in click
         // targeting mode
         if (selectedPlanet != null && selectedPlanet.getOperator() instanceof Player && clickedPlanet == null) {
             isDragging = true;
-            mousePosition = new Point(e.getX(), e.getY());
+            mousePosition = new Point(toGameX(e), toGameY(e));
             // Enable slow mode for precise targeting
             game.getEngine().enableSlowMode();
         } else {
@@ -484,7 +778,7 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
     @Override
     public void mouseReleased(MouseEvent e) {
         if (isDragging && selectedPlanet != null && selectedPlanet.getOperator() instanceof Player) {
-            Planet targetPlanet = findPlanetAt(e.getX(), e.getY());
+            Planet targetPlanet = findPlanetAt(toGameX(e), toGameY(e));
             if (targetPlanet != null && targetPlanet != selectedPlanet) {
                 selectedPlanet.attemptTargeting(targetPlanet);
             }
@@ -496,7 +790,7 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         }
 
         if (System.currentTimeMillis() - pressedAt < 300) {
-            click(e.getX(), e.getY());
+            click(toGameX(e), toGameY(e));
         }
         selectedPlanet = null;
         isDragging = false;
@@ -516,31 +810,31 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
     // MouseMotionListener methods
     @Override
     public void mouseDragged(MouseEvent e) {
-        Planet newHoveredPlanet = findPlanetAt(e.getX(), e.getY());
+        Planet newHoveredPlanet = findPlanetAt(toGameX(e), toGameY(e));
         if (newHoveredPlanet != hoveredPlanet) {
             hoveredPlanet = newHoveredPlanet;
         }
         if (isDragging && selectedPlanet != null) {
-            mousePosition = new Point(e.getX(), e.getY());
+            mousePosition = new Point(toGameX(e), toGameY(e));
         }
     }
 
     @Override
     public void mouseMoved(MouseEvent e) {
-        Planet newHoveredPlanet = findPlanetAt(e.getX(), e.getY());
+        Planet newHoveredPlanet = findPlanetAt(toGameX(e), toGameY(e));
         if (newHoveredPlanet != hoveredPlanet) {
             hoveredPlanet = newHoveredPlanet;
         }
 
         // Check for ability tooltip
-        AbilityType newHoveredAbility = getAbilityAtPoint(e.getX(), e.getY());
+        AbilityType newHoveredAbility = getAbilityAtPoint(toGameX(e), toGameY(e));
         if (newHoveredAbility != hoveredAbility) {
             hoveredAbility = newHoveredAbility;
             if (hoveredAbility != null) {
                 PlayerData playerData = PlayerData.getInstance();
                 showAbilityTooltip = true;
                 abilityTooltipText = hoveredAbility.getTooltipText(playerData.getAbilityLevel(hoveredAbility));
-                tooltipPosition = new Point(e.getX() + 15, e.getY() - 10);
+                tooltipPosition = new Point(toGameX(e) + 15, toGameY(e) - 10);
             } else {
                 showAbilityTooltip = false;
                 abilityTooltipText = "";
@@ -550,7 +844,7 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
 
         // Update tooltip position if hovering over ability
         if (showAbilityTooltip && hoveredAbility != null) {
-            tooltipPosition = new Point(e.getX() + 15, e.getY() - 10);
+            tooltipPosition = new Point(toGameX(e) + 15, toGameY(e) - 10);
         }
     }
 
@@ -576,6 +870,13 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
             // Toggle targeting line visibility
             VisualSettings settings = VisualSettings.getInstance();
             settings.setDisplayConnectionLines(!settings.isDisplayConnectionLines());
+        } else if (e.getKeyCode() == KeyEvent.VK_F3) {
+            // Toggle the render profiler overlay
+            RenderProfiler profiler = RenderProfiler.getInstance();
+            profiler.setEnabled(!profiler.isEnabled());
+        } else if (e.getKeyCode() == KeyEvent.VK_F4) {
+            // Write the render profile to the cache directory
+            RenderProfiler.getInstance().requestReport();
         } else {
             // Check for ability keybinds
             VisualSettings settings = VisualSettings.getInstance();
@@ -617,14 +918,35 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
     }
 
     private void renderAbilityDiamonds(Graphics2D g) {
+        // Diamonds change with unlocks, activations and the cooldown text, which shows tenths of a second
+        PlayerData playerData = PlayerData.getInstance();
+        long signature = HudLayer.EMPTY_SIGNATURE;
+        for (AbilityType abilityType : AbilityType.values()) {
+            if (playerData.isAbilityUnlocked(abilityType)) {
+                long remainingCooldown = game.getAbilityManager().getRemainingCooldown(abilityType);
+                signature = HudLayer.sign(signature, abilityType.ordinal());
+                signature = HudLayer.sign(signature, game.getAbilityManager().isAbilityActive(abilityType) ? 1 : 0);
+                signature = HudLayer.sign(signature, remainingCooldown > 0 ? (remainingCooldown + 99) / 100 : 0);
+            }
+        }
+        abilityLayer.draw(g, 0, 0, ABILITY_LAYER_WIDTH, GameConstants.getGameHeight(), signature,
+                this::drawAbilityDiamonds);
+
+        // Draw tooltip if hovering
+        if (showAbilityTooltip && tooltipPosition != null && !abilityTooltipText.isEmpty()) {
+            QualityGovernor.getInstance().setAntialiasing(g);
+            drawAbilityTooltip(g, tooltipPosition.x, tooltipPosition.y, abilityTooltipText);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        }
+    }
+
+    private void drawAbilityDiamonds(Graphics2D g) {
         PlayerData playerData = PlayerData.getInstance();
         int diamondSize = 50;
         int spacing = 10;
         int startX = 20;
         int startY = GameConstants.getGameHeight() - 80;
 
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
         int index = 0;
         for (AbilityType abilityType : AbilityType.values()) {
             if (!playerData.isAbilityUnlocked(abilityType)) {
@@ -642,11 +964,11 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
             // Draw diamond background
             Color diamondColor;
             if (abilityActive) {
-                diamondColor = new Color(0, 255, 0, 180); // Green when active
+                diamondColor = PaintCache.color(0, 255, 0, 180); // Green when active
             } else if (onCooldown) {
-                diamondColor = new Color(128, 128, 128, 180); // Gray when on cooldown
+                diamondColor = PaintCache.color(128, 128, 128, 180); // Gray when on cooldown
             } else {
-                diamondColor = new Color(0, 150, 255, 180); // Blue when ready
+                diamondColor = PaintCache.color(0, 150, 255, 180); // Blue when ready
             }
 
             g.setColor(diamondColor);
@@ -661,7 +983,7 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
             if (onCooldown) {
                 double cooldownPercent = remainingCooldown / (double) GameConstants.getBaseAbilityCooldown(); // base
                                                                                                               // cooldown
-                g.setColor(new Color(0, 0, 0, 150));
+                g.setColor(PaintCache.color(0, 0, 0, 150));
                 int overlayHeight = (int) (diamondSize * cooldownPercent);
                 g.fillRect(x, y + diamondSize - overlayHeight, diamondSize, overlayHeight);
 
@@ -678,13 +1000,6 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
 
             index++;
         }
-
-        // Draw tooltip if hovering
-        if (showAbilityTooltip && tooltipPosition != null && !abilityTooltipText.isEmpty()) {
-            drawAbilityTooltip(g, tooltipPosition.x, tooltipPosition.y, abilityTooltipText);
-        }
-
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
     }
 
     private void drawDiamond(Graphics2D g, int centerX, int centerY, int size) {
@@ -729,7 +1044,7 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         }
 
         // Draw tooltip background
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(PaintCache.color(0, 0, 0, 200));
         g.fillRect(x, y, tooltipWidth, tooltipHeight);
         g.setColor(Color.WHITE);
         g.drawRect(x, y, tooltipWidth, tooltipHeight);
@@ -784,7 +1099,9 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
         }
 
         game.pause();
-        pauseMenu.show();
+        scheduleIdleUpdate();
+        pauseMenu.show(); // Modal, returns once the pause menu is closed
+        scheduleIdleUpdate();
     }
 
     /**
@@ -793,6 +1110,7 @@ public class GameMenu extends JPanel implements MouseListener, MouseMotionListen
     private void resumeGame() {
         pauseMenu.hide();
         game.resume();
+        scheduleIdleUpdate();
         requestFocusInWindow(); // Restore focus for key events
     }
 
@@ -14,6 +14,7 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 
+import home.frame.AnimationScheduler;
 import home.frame.CoinIcon;
 import home.frame.GameFrame;
 import home.frame.SpaceButton;
@@ -122,15 +123,14 @@ public class GameOverMenu {
             }
         };
 
-        // Add animation timer for background
-        javax.swing.Timer animationTimer = new javax.swing.Timer(1000 / 60, e -> mainPanel.repaint());
-        animationTimer.start();
+        // Animate the background while the dialog is up
+        AnimationScheduler.getInstance().register(mainPanel, 1000 / 60);
 
         // Stop animation when dialog is closed
         popup.addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosed(WindowEvent e) {
-                animationTimer.stop();
+                AnimationScheduler.getInstance().unregister(mainPanel);
             }
         });
 
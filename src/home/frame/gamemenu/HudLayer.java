@@ -0,0 +1,77 @@
+package home.frame.gamemenu;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+/**
+ * A cached image of one part of the HUD.
+ *
+ * The HUD mostly shows values that change about once a second or on events, so
+ * instead of drawing its text and icons every frame each part is drawn into its
+ * own image and blitted. The caller passes a signature of everything the part
+ * displays, built with {@link #sign(long, long)}, and the image is only redrawn
+ * when the signature changes. Anything animated is drawn on top of the layer
+ * every frame instead of being part of it.
+ */
+public class HudLayer {
+
+    /** Starting value for a signature */
+    public static final long EMPTY_SIGNATURE = 0x5DEECE66DL;
+
+    private BufferedImage image;
+    private int x;
+    private int y;
+    private long signature;
+    private boolean valid;
+
+    /**
+     * Draws the layer over the screen area, redrawing it with the painter first if
+     * the area or the signature changed. The painter draws in screen
+     * coordinates.
+     */
+    public void draw(Graphics2D g, int x, int y, int width, int height, long signature,
+            Consumer<Graphics2D> painter) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = g.getDeviceConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+            valid = false;
+        }
+        if (!valid || this.signature != signature || this.x != x || this.y != y) {
+            Graphics2D layer = image.createGraphics();
+            layer.setComposite(AlphaComposite.Clear);
+            layer.fillRect(0, 0, width, height);
+            layer.setComposite(AlphaComposite.SrcOver);
+            layer.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            layer.translate(-x, -y);
+            painter.accept(layer);
+            layer.dispose();
+
+            this.x = x;
+            this.y = y;
+            this.signature = signature;
+            valid = true;
+        }
+        g.drawImage(image, x, y, null);
+    }
+
+    /**
+     * Forces the next draw to repaint the layer
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Folds one displayed value into a signature
+     */
+    public static long sign(long signature, long value) {
+        long h = (signature ^ value) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+}
@@ -0,0 +1,76 @@
+package home.frame.gamemenu;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.List;
+
+import home.game.Game;
+import home.game.GameConstants;
+import home.game.QualityGovernor;
+import home.game.combat.ArrivalForecast;
+import home.game.planets.Planet;
+
+/**
+ * Draws the incoming pressure on each planet: the part of its health bar that
+ * hostile ships already on their way will take off, and how many of them there
+ * are. Everything comes from the {@link ArrivalForecast}, so no ships are
+ * scanned while rendering.
+ */
+public class IncomingPressureRenderer {
+
+    private static final Color PRESSURE_COLOR = new Color(220, 40, 40, 200);
+    private static final Color LABEL_COLOR = new Color(255, 120, 120);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 10);
+
+    private Game game;
+    private WorldCapture world = WorldCapture.LIVE;
+
+    public IncomingPressureRenderer(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Draws from positions captured for the frame instead of the live objects
+     */
+    void setWorldCapture(WorldCapture world) {
+        this.world = world;
+    }
+
+    public void renderIncomingPressure(Graphics2D g, List<Planet> planets) {
+        if (!GameConstants.isDisplayArrivalForecast()) {
+            return;
+        }
+        QualityGovernor.getInstance().setAntialiasing(g);
+        g.setFont(LABEL_FONT);
+
+        ArrivalForecast forecast = game.getArrivalForecast();
+        for (Planet planet : planets) {
+            int hostileShips = forecast.getHostileIncomingCount(planet);
+            if (hostileShips <= 0 || planet.getMaxHealth() <= 0) {
+                continue;
+            }
+            int hostileDamage = forecast.getHostileIncomingDamage(planet);
+
+            // Same placement as the health bar drawn by PlanetArtist
+            int planetSize = (int) (GameConstants.getPlanetSize() * world.getDepthScale(planet));
+            int barWidth = planetSize;
+            int barHeight = Math.max(3, (int) (5 * world.getDepthScale(planet)));
+            int barX = world.getX(planet) - barWidth / 2;
+            int barY = world.getY(planet) + planetSize / 2 + (int) (5 * world.getDepthScale(planet));
+
+            // Mark the slice of current health the incoming ships will remove
+            int health = Math.max(0, planet.getHealth());
+            int projected = Math.max(0, health - hostileDamage);
+            int healthWidth = (int) ((health / (double) planet.getMaxHealth()) * barWidth);
+            int projectedWidth = (int) ((projected / (double) planet.getMaxHealth()) * barWidth);
+            if (healthWidth > projectedWidth) {
+                g.setColor(PRESSURE_COLOR);
+                g.fillRect(barX + projectedWidth, barY, healthWidth - projectedWidth, barHeight);
+            }
+
+            g.setColor(LABEL_COLOR);
+            g.drawString("▶" + hostileShips, barX + barWidth + 3, barY + barHeight + 1);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package home.frame.gamemenu;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
@@ -14,12 +13,29 @@ import java.util.List;
 import java.util.Map;
 
 import home.game.Game;
+import home.game.PaintCache;
+import home.game.QualityGovernor;
 import home.game.operators.Operator;
 import home.game.operators.player.Player;
 import home.game.planets.Planet;
 
+/**
+ * Draws the operator panels along the top of the screen. The panels themselves
+ * are kept in a {@link HudLayer} that is only redrawn when ownership or the
+ * health shown on a mini planet changes; the animated ability glyphs are drawn
+ * on top every frame.
+ */
 public class OperatorIndicatorRenderer {
 
+    private static final int INDICATOR_WIDTH = 140;
+    private static final int INDICATOR_HEIGHT = 50; // Increased height for horizontal effects row
+    private static final int INDICATOR_SPACING = 15;
+    private static final int INDICATOR_Y = 15; // Top of screen with some margin
+    private static final int MINI_PLANET_SIZE = 12;
+    private static final int MAX_VISIBLE_PLANETS = 10; // Show up to 2 rows (5 x 2)
+
+    private final HudLayer indicatorLayer = new HudLayer();
+
     private Game game;
     private int width;
     private PlanetArtist planetArtist;
@@ -33,8 +49,6 @@ public class OperatorIndicatorRenderer {
     }
 
     public void renderOperatorIndicators(Graphics2D g) {
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
         // Count planets for each operator first
         Map<Operator, Integer> planetCounts = new HashMap<>();
         Map<Operator, List<Planet>> operatorPlanets = new HashMap<>();
@@ -67,27 +81,46 @@ public class OperatorIndicatorRenderer {
         }
 
         // Enhanced indicator dimensions
-        int indicatorWidth = 140;
-        int indicatorHeight = 50; // Increased height for horizontal effects row
-        int indicatorSpacing = 15;
-        int totalWidth = (activeOperators.size() * indicatorWidth) + ((activeOperators.size() - 1) * indicatorSpacing);
+        int totalWidth = (activeOperators.size() * INDICATOR_WIDTH)
+                + ((activeOperators.size() - 1) * INDICATOR_SPACING);
         int startX = (width - totalWidth) / 2; // Center horizontally
-        int yPosition = 15; // Top of screen with some margin
 
-        // Render indicators for each active operator
-        for (int i = 0; i < activeOperators.size(); i++) {
-            Operator operator = activeOperators.get(i);
-            int x = startX + (i * (indicatorWidth + indicatorSpacing));
-
-            // Get operator color
-            Color operatorColor = planetArtist.getOperatorColor(operator);
-
-            renderEnhancedOperatorIndicator(g, operator, operatorColor, x, yPosition,
-                    indicatorWidth, indicatorHeight,
-                    planetCounts.get(operator),
-                    operatorPlanets.get(operator), i);
+        // The panels only change with ownership and the health bars of the mini planets
+        long signature = HudLayer.sign(HudLayer.EMPTY_SIGNATURE, activeOperators.size());
+        for (Operator operator : activeOperators) {
+            signature = HudLayer.sign(signature, System.identityHashCode(operator));
+            signature = HudLayer.sign(signature, planetArtist.getOperatorColor(operator).getRGB());
+            signature = HudLayer.sign(signature, planetCounts.get(operator));
+            List<Planet> planets = operatorPlanets.get(operator);
+            for (int i = 0; i < MAX_VISIBLE_PLANETS && i < planets.size(); i++) {
+                Planet planet = planets.get(i);
+                signature = HudLayer.sign(signature, System.identityHashCode(planet));
+                signature = HudLayer.sign(signature, getMiniHealthWidth(planet, MINI_PLANET_SIZE));
+            }
         }
+        indicatorLayer.draw(g, 0, 0, width, INDICATOR_Y + INDICATOR_HEIGHT + 5, signature, layer -> {
+            // Render indicators for each active operator
+            for (int i = 0; i < activeOperators.size(); i++) {
+                Operator operator = activeOperators.get(i);
+                int x = startX + (i * (INDICATOR_WIDTH + INDICATOR_SPACING));
+
+                // Get operator color
+                Color operatorColor = planetArtist.getOperatorColor(operator);
+
+                renderEnhancedOperatorIndicator(layer, operator, operatorColor, x, INDICATOR_Y,
+                        INDICATOR_WIDTH, INDICATOR_HEIGHT,
+                        planetCounts.get(operator),
+                        operatorPlanets.get(operator), i);
+            }
+        });
 
+        // Render ability effect indicators horizontally at the bottom, these animate every frame
+        QualityGovernor.getInstance().setAntialiasing(g);
+        for (int i = 0; i < activeOperators.size(); i++) {
+            int x = startX + (i * (INDICATOR_WIDTH + INDICATOR_SPACING));
+            renderHorizontalAbilityEffects(g, activeOperators.get(i), x + 8,
+                    INDICATOR_Y + INDICATOR_HEIGHT - 12, INDICATOR_WIDTH - 16);
+        }
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
     }
 
@@ -97,30 +130,29 @@ public class OperatorIndicatorRenderer {
 
         // Create gradient background
         GradientPaint bgGradient = new GradientPaint(
-                x, y, new Color(20, 20, 30, 180),
-                x, y + height, new Color(5, 5, 15, 200));
+                x, y, PaintCache.color(20, 20, 30, 180),
+                x, y + height, PaintCache.color(5, 5, 15, 200));
         g.setPaint(bgGradient);
         g.fillRoundRect(x, y, width, height, 12, 12);
 
         // Draw glowing border effect
-        Color glowColor = new Color(operatorColor.getRed(), operatorColor.getGreen(),
-                operatorColor.getBlue(), 100);
+        Color glowColor = PaintCache.withAlpha(operatorColor, 100);
         g.setColor(glowColor);
-        g.setStroke(new BasicStroke(3.0f));
+        g.setStroke(PaintCache.stroke(3.0f));
         g.drawRoundRect(x - 1, y - 1, width + 2, height + 2, 14, 14);
 
         // Draw main border
         g.setColor(operatorColor);
-        g.setStroke(new BasicStroke(2.0f));
+        g.setStroke(PaintCache.stroke(2.0f));
         g.drawRoundRect(x, y, width, height, 12, 12);
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
 
         // Draw operator name with enhanced styling
         g.setFont(new Font("Arial", Font.BOLD, 11));
         String operatorName = (operator instanceof Player) ? "PLAYER" : "BOT " + operatorIndex;
 
         // Text shadow
-        g.setColor(new Color(0, 0, 0, 150));
+        g.setColor(PaintCache.color(0, 0, 0, 150));
         g.drawString(operatorName, x + 9, y + 15);
 
         // Main text
@@ -128,10 +160,10 @@ public class OperatorIndicatorRenderer {
         g.drawString(operatorName, x + 8, y + 14);
 
         // Draw miniature planet representations with wrapping support
-        int miniPlanetSize = 12;
+        int miniPlanetSize = MINI_PLANET_SIZE;
         int miniPlanetSpacing = 2;
         int planetsPerRow = 5; // Maximum planets per row
-        int maxVisiblePlanets = 10; // Show up to 2 rows (5 x 2)
+        int maxVisiblePlanets = MAX_VISIBLE_PLANETS;
 
         int miniPlanetStartX = x + width - 90; // Moved further from edge for more spacing
         if (operator instanceof Player) {
@@ -164,16 +196,13 @@ public class OperatorIndicatorRenderer {
             int overflowY = miniPlanetStartY + 25; // Position below wrapped planets
 
             // Background for overflow text
-            g.setColor(new Color(0, 0, 0, 120));
+            g.setColor(PaintCache.color(0, 0, 0, 120));
             g.fillRoundRect(overflowX - 2, overflowY - 9, textWidth + 4, 12, 4, 4);
 
             // Overflow text
             g.setColor(Color.WHITE);
             g.drawString(overflowText, overflowX, overflowY);
         }
-
-        // Render ability effect indicators horizontally at the bottom
-        renderHorizontalAbilityEffects(g, operator, x + 8, y + height - 12, width - 16);
     }
 
     private void renderMiniaturePlanet(Graphics2D g, int x, int y, int size, Color teamColor, Planet planet) {
@@ -198,7 +227,7 @@ public class OperatorIndicatorRenderer {
         g.fillOval(x - halfSize, y - halfSize, size, size);
 
         // Add surface texture (simplified)
-        g.setColor(new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 40));
+        g.setColor(PaintCache.withAlpha(baseColor, 40));
         for (int i = 0; i < 3; i++) {
             int textureX = x - halfSize / 2 + (i * size / 4);
             int textureY = y - halfSize / 2 + ((i % 2) * size / 3);
@@ -206,20 +235,20 @@ public class OperatorIndicatorRenderer {
         }
 
         // Draw lighting highlight (mini version)
-        g.setColor(new Color(255, 255, 255, 60));
+        g.setColor(PaintCache.color(255, 255, 255, 60));
         g.fillOval(x - halfSize + 1, y - halfSize + 1, size / 3, size / 3);
 
         // Team color overlay (subtle)
-        g.setColor(new Color(teamColor.getRed(), teamColor.getGreen(), teamColor.getBlue(), 60));
+        g.setColor(PaintCache.withAlpha(teamColor, 60));
         g.fillOval(x - halfSize, y - halfSize, size, size);
 
         g.setClip(oldClip);
 
         // Planet outline
-        g.setColor(new Color(teamColor.getRed(), teamColor.getGreen(), teamColor.getBlue(), 180));
-        g.setStroke(new BasicStroke(1.5f));
+        g.setColor(PaintCache.withAlpha(teamColor, 180));
+        g.setStroke(PaintCache.stroke(1.5f));
         g.drawOval(x - halfSize, y - halfSize, size, size);
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
 
         // Health indicator (tiny bar under planet)
         if (planet != null) {
@@ -229,22 +258,25 @@ public class OperatorIndicatorRenderer {
             int healthBarY = y + halfSize + 1;
 
             // Background
-            g.setColor(new Color(0, 0, 0, 100));
+            g.setColor(PaintCache.color(0, 0, 0, 100));
             g.fillRect(healthBarX, healthBarY, healthBarWidth, healthBarHeight);
 
             // Health
             g.setColor(Color.RED);
             g.fillRect(healthBarX, healthBarY, healthBarWidth, healthBarHeight);
             g.setColor(Color.GREEN);
-            double healthPercent = planet.getHealth() / (double) planet.getMaxHealth();
-            int healthWidth = (int) (healthPercent * healthBarWidth);
-            g.fillRect(healthBarX, healthBarY, healthWidth, healthBarHeight);
+            g.fillRect(healthBarX, healthBarY, getMiniHealthWidth(planet, healthBarWidth), healthBarHeight);
         }
     }
 
+    private int getMiniHealthWidth(Planet planet, int healthBarWidth) {
+        double healthPercent = planet.getHealth() / (double) planet.getMaxHealth();
+        return (int) (healthPercent * healthBarWidth);
+    }
+
     private Color generateMiniPlanetBaseColor(home.game.planets.PlanetFeatures features) {
         if (features == null) {
-            return new Color(120, 100, 80);
+            return PaintCache.color(120, 100, 80);
         }
 
         // Use features to generate consistent base color (simplified version of full
@@ -255,7 +287,7 @@ public class OperatorIndicatorRenderer {
         }
 
         // Default rocky planet color
-        return new Color(120, 100, 80);
+        return PaintCache.color(120, 100, 80);
     }
 
     private void renderHorizontalAbilityEffects(Graphics2D g, Operator operator, int x, int y, int availableWidth) {
@@ -11,8 +11,8 @@ import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
-import javax.swing.Timer;
 
+import home.frame.AnimationScheduler;
 import home.frame.GameFrame;
 import home.frame.SpaceButton;
 import home.frame.background.BackgroundArtist;
@@ -69,15 +69,14 @@ public class PauseMenu {
             }
         };
 
-        // Add animation timer for background
-        Timer pauseAnimationTimer = new Timer(1000 / 60, e -> mainPanel.repaint());
-        pauseAnimationTimer.start();
+        // Animate the background while the dialog is up
+        AnimationScheduler.getInstance().register(mainPanel, 50);
 
         // Stop animation when dialog is closed
         pauseDialog.addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosed(WindowEvent e) {
-                pauseAnimationTimer.stop();
+                AnimationScheduler.getInstance().unregister(mainPanel);
             }
         });
 
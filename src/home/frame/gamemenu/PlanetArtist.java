@@ -1,20 +1,30 @@
 package home.frame.gamemenu;
 
-import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
+import java.awt.Transparency;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import home.game.GameClock;
 import home.game.GameConstants;
+import home.game.PaintCache;
+import home.game.QualityGovernor;
+import home.game.QualityGovernor.Reduction;
 import home.game.VisualSettings;
 import home.game.operators.Bot;
 import home.game.operators.Operator;
@@ -35,9 +45,41 @@ public class PlanetArtist {
     private List<Color> allBotColors;
     private CentralStarRenderer centralStarRenderer;
     private Color lastPlayerColor; // Track the last known player color
+    private final PlanetArtist source; // Assigns the bot colours and keeps the planet layers, null if this artist does
+    private WorldCapture world = WorldCapture.LIVE;
+
+    // Prerendered static planet layers, rebuilt when size or owner colour changes. One
+    // image pixel per game pixel whatever RENDER_SCALE is. Shared with the artists
+    // that use this one as their source, and filled by them without locking.
+    private static final int LAYER_PADDING = 2; // Room for the outline stroke
+    private static final int DECORATION_MARGIN = 40; // Reach of rings, moons, indicators and health bar past the size
+    private final Map<Planet, PlanetLayers> planetLayers;
+
+    // Arrowheads of the targeting lines, kept per link along the x axis and turned onto the line when drawn
+    private static final int ARROW_SIZE = 8;
+    private static final double ARROW_SPACING = 30.0; // Distance between arrows
+    private static final int ARROW_PHASES = 30; // Animation steps, one pixel each through the spacing
+    private static final double LINK_REBUILD_LENGTH = 3.0; // Pixels a line may stretch before its arrows are rebuilt
+    private Map<Planet, Map<Planet, TargetingLink>> targetingLinks;
+    private final Map<Planet, TargetList> targetLists = new HashMap<>(); // Copies of each planet's targets
+    private int linkFrame; // Marks the links used this frame, the others are dropped
 
     public PlanetArtist() {
+        this(null);
+    }
+
+    /**
+     * Creates an artist that uses the bot colours another artist assigned instead
+     * of assigning its own, so that artists drawing parts of the same screen on
+     * different threads colour every operator alike. It only reads them, the
+     * other artist has to have seen every operator first. The planet layers are
+     * the other artist's too, so each planet is baked once for the screen.
+     */
+    public PlanetArtist(PlanetArtist source) {
+        this.source = source;
         botColorMap = new HashMap<>();
+        planetLayers = source != null ? source.planetLayers : new ConcurrentHashMap<>();
+        targetingLinks = new HashMap<>();
         allBotColors = new ArrayList<>();
         for (Color color : VisualSettings.getAvailablePlanetColors()) {
             allBotColors.add(color);
@@ -45,6 +87,13 @@ public class PlanetArtist {
         centralStarRenderer = new CentralStarRenderer();
     }
 
+    /**
+     * Draws from positions captured for the frame instead of the live objects
+     */
+    void setWorldCapture(WorldCapture world) {
+        this.world = world;
+    }
+
     public void setPlanets(List<Planet> planets) {
         this.planets = planets;
     }
@@ -208,6 +257,10 @@ public class PlanetArtist {
      * Gets the color associated with an operator
      */
     public Color getOperatorColor(Operator operator) {
+        if (source != null) {
+            return source.getAssignedColor(operator);
+        }
+
         // Check if player color changed and update bot colors if needed
         checkAndUpdateBotColors();
 
@@ -225,119 +278,113 @@ public class PlanetArtist {
         }
     }
 
+    /**
+     * Gets the colour already assigned to an operator without assigning one
+     */
+    private Color getAssignedColor(Operator operator) {
+        if (operator instanceof Player) {
+            return VisualSettings.getInstance().getPlayerPlanetColor();
+        }
+        Color color = operator instanceof Bot ? botColorMap.get(operator) : null;
+        return color != null ? color : Color.LIGHT_GRAY;
+    }
+
     public void renderPlanets(Graphics2D g) {
         if (planets == null)
             return;
 
         // Draw central star first (behind planets)
+        RenderProfiler.getInstance().begin(RenderProfiler.Layer.CENTRAL_STAR);
         centralStarRenderer.renderCentralStar(g);
+        RenderProfiler.getInstance().end(RenderProfiler.Layer.CENTRAL_STAR);
 
         // Sort planets by z-index (render back-to-front: lowest z-index first)
         // planets is already a snapshot created in GameMenu, so no need for additional
         // snapshotting
         List<Planet> sortedPlanets = new ArrayList<>(planets);
-        sortedPlanets.sort((p1, p2) -> Double.compare(p1.getZIndex(), p2.getZIndex()));
+        sortedPlanets.sort((p1, p2) -> Double.compare(world.getZIndex(p1), world.getZIndex(p2)));
+
+        // Drop cached layers of planets that left the game
+        if (planetLayers.size() > sortedPlanets.size()) {
+            planetLayers.keySet().retainAll(sortedPlanets);
+        }
+
+        linkFrame++;
+        if (targetLists.size() > sortedPlanets.size()) {
+            targetLists.keySet().retainAll(sortedPlanets);
+        }
+
+        // Lines are only drawn from or to the hovered, clicked or selected planet
+        VisualSettings settings = VisualSettings.getInstance();
+        boolean drawLinks = settings.isDisplayConnectionLines() && (hoveredPlanet != null
+                || lastHoveredPlanet != null || clickedPlanet != null || selectedPlanet != null);
+        Color linkColor = PaintCache.color(255, 255, 255, (int) (255 * settings.getConnectionLineOpacity()));
+
+        // Planets outside the clip, a band of the screen when the scene is tiled, only draw their targeting lines
+        Rectangle clip = g.getClipBounds();
 
         for (Planet planet : sortedPlanets) {
-            int planetX = planet.getX();
-            int planetY = planet.getY();
+            int planetX = world.getX(planet);
+            int planetY = world.getY(planet);
             // Apply depth scaling to planet size
-            int planetSize = (int) (GameConstants.getPlanetSize() * planet.getDepthScale());
+            int planetSize = (int) (GameConstants.getPlanetSize() * world.getDepthScale(planet));
             // Planet color based on operator
-            Color planetColor;
-            if (planet.getOperator() instanceof Player) {
-                planetColor = VisualSettings.getInstance().getPlayerPlanetColor();
-            } else if (planet.getOperator() instanceof Bot) {
-                // Check for color conflicts before assigning bot color
-                checkAndUpdateBotColors();
-                Bot bot = (Bot) planet.getOperator();
-                if (!botColorMap.containsKey(bot)) {
-                    Color botColor = getAvailableBotColor();
-                    botColorMap.put(bot, botColor);
-                }
-                planetColor = botColorMap.get(bot);
-            } else {
-                planetColor = Color.LIGHT_GRAY;
-            }
-            drawEnhancedPlanet(g, planetX, planetY, planetSize, planetColor, planet.getRotationAngle(),
-                    planet.getFeatures());
+            Color planetColor = getOperatorColor(planet.getOperator());
+            int reach = planetSize + DECORATION_MARGIN;
+            if (clip == null || clip.intersects(planetX - reach, planetY - reach, reach * 2, reach * 2)) {
+                drawEnhancedPlanet(g, planet, planetX, planetY, planetSize, planetColor, world.getRotationAngle(planet),
+                        planet.getFeatures());
 
-            // Draw planet type icon over the center
-            drawPlanetTypeIcon(g, planetX, planetY, planetSize, planet.getType());
+                // Draw planet type icon over the center
+                drawPlanetTypeIcon(g, planetX, planetY, planetSize, planet.getType());
 
-            // Draw targeting indicators at the top of the planet
-            drawTargetingIndicators(g, planetX, planetY, planetSize, planet);
+                // Draw targeting indicators at the top of the planet
+                drawTargetingIndicators(g, planetX, planetY, planetSize, planet);
 
-            // Draw hover highlight if this planet is being hovered
-            if (planet == hoveredPlanet || planet == clickedPlanet) {
-                drawHoverHighlight(g, planetX, planetY, planetSize);
+                // Draw hover highlight if this planet is being hovered
+                if (planet == hoveredPlanet || planet == clickedPlanet) {
+                    drawHoverHighlight(g, planetX, planetY, planetSize);
+                }
+                // Draw health bar (scaled with planet)
+                int healthBarWidth = planetSize;
+                int healthBarHeight = Math.max(3, (int) (5 * world.getDepthScale(planet)));
+                int healthBarX = planetX - healthBarWidth / 2;
+                int healthBarY = planetY + planetSize / 2 + (int) (5 * world.getDepthScale(planet));
+                g.setColor(Color.DARK_GRAY);
+                g.fillRect(healthBarX, healthBarY, healthBarWidth, healthBarHeight);
+                g.setColor(Color.GREEN);
+                int healthWidth = (int) ((planet.getHealth() / (double) planet.getMaxHealth()) * healthBarWidth);
+                g.fillRect(healthBarX, healthBarY, healthWidth, healthBarHeight);
+                g.setColor(Color.BLACK);
+                g.drawRect(healthBarX, healthBarY, healthBarWidth, healthBarHeight);
             }
-            // Draw health bar (scaled with planet)
-            int healthBarWidth = planetSize;
-            int healthBarHeight = Math.max(3, (int) (5 * planet.getDepthScale()));
-            int healthBarX = planetX - healthBarWidth / 2;
-            int healthBarY = planetY + planetSize / 2 + (int) (5 * planet.getDepthScale());
-            g.setColor(Color.DARK_GRAY);
-            g.fillRect(healthBarX, healthBarY, healthBarWidth, healthBarHeight);
-            g.setColor(Color.GREEN);
-            int healthWidth = (int) ((planet.getHealth() / (double) planet.getMaxHealth()) * healthBarWidth);
-            g.fillRect(healthBarX, healthBarY, healthWidth, healthBarHeight);
-            g.setColor(Color.BLACK);
-            g.drawRect(healthBarX, healthBarY, healthBarWidth, healthBarHeight);
 
             // Draw lines to target planets with animated arrows (only when hovering)
-            // Check visual settings for connection lines
-            VisualSettings settings = VisualSettings.getInstance();
-            if (!settings.isDisplayConnectionLines()) {
-                continue; // Skip drawing connection lines if disabled
-            }
-
-            // Apply connection line opacity from settings
-            int opacity = (int) (255 * settings.getConnectionLineOpacity());
-            g.setColor(new Color(255, 255, 255, opacity));
-
-            // Create a snapshot to avoid concurrent modification
-            List<Planet> targetSnapshot;
-            try {
-                targetSnapshot = new ArrayList<>(planet.getTargets());
-            } catch (Exception e) {
-                // Skip drawing targets if there's any issue accessing them
+            if (!drawLinks) {
                 continue;
             }
-
-            for (Planet target : targetSnapshot) {
+            g.setColor(linkColor);
+            boolean planetHighlighted = isHighlighted(planet);
+
+            for (Planet target : getTargets(planet)) {
+                // Only draw targeting lines if either the current planet or target is being
+                // hovered, clicked, or selected (for drag operations)
+                if (!planetHighlighted && !isHighlighted(target)) {
+                    continue; // Skip drawing this targeting line
+                }
                 try {
-                    // Only draw targeting lines if either the current planet or target is being
-                    // hovered, clicked, or selected (for drag operations)
-                    boolean shouldDrawLine = (hoveredPlanet == planet || hoveredPlanet == target) ||
-                            (lastHoveredPlanet == planet || lastHoveredPlanet == target) ||
-                            (clickedPlanet == planet || clickedPlanet == target) ||
-                            (selectedPlanet == planet || selectedPlanet == target);
-
-                    if (!shouldDrawLine) {
-                        continue; // Skip drawing this targeting line
-                    }
-
-                    // Check if this is mutual targeting (both planets target each other)
-                    List<Planet> mutualTargetSnapshot;
-                    try {
-                        mutualTargetSnapshot = new ArrayList<>(target.getTargets());
-                    } catch (Exception e) {
-                        // Skip mutual check if targets can't be accessed
-                        continue;
-                    }
-                    boolean isMutualTargeting = mutualTargetSnapshot.contains(planet);
-
-                    if (isMutualTargeting) {
+                    TargetingLink link = getTargetingLink(planet, target);
+                    if (link.mutual) {
                         // For mutual targeting, only draw from the planet with lower memory address
                         // to avoid drawing the same line twice
                         if (System.identityHashCode(planet) < System.identityHashCode(target)) {
-                            drawMutualTargetingLine(g, planetX, planetY, target.getX(), target.getY(), planetColor,
-                                    getPlanetColor(target));
+                            drawMutualTargetingLine(g, link, planetX, planetY, world.getX(target),
+                                    world.getY(target), planetColor, getPlanetColor(target));
                         }
                     } else {
                         // Normal one-way targeting
-                        drawTargetingLineWithArrows(g, planetX, planetY, target.getX(), target.getY(), planetColor);
+                        drawTargetingLineWithArrows(g, link, planetX, planetY, world.getX(target),
+                                world.getY(target), planetColor);
                     }
                 } catch (Exception e) {
                     // Skip this target if there's any issue
@@ -345,14 +392,16 @@ public class PlanetArtist {
                 }
             }
         }
+
+        pruneTargetingLinks();
     }
 
-    private void drawEnhancedPlanet(Graphics2D g, int x, int y, int size, Color teamColor, double rotationAngle,
-            PlanetFeatures features) {
+    private void drawEnhancedPlanet(Graphics2D g, Planet planet, int x, int y, int size, Color teamColor,
+            double rotationAngle, PlanetFeatures features) {
         int halfSize = size / 2;
 
         // Enable anti-aliasing for smoother graphics
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        QualityGovernor.getInstance().setAntialiasing(g);
 
         // Draw rings that are behind the planet first
         if (VisualSettings.getInstance().isDisplayEffects()) {
@@ -362,7 +411,9 @@ public class PlanetArtist {
         }
 
         // Draw moons that are behind the planet
-        if (VisualSettings.getInstance().isDisplayPlanetMoons()) {
+        boolean drawMoons = VisualSettings.getInstance().isDisplayPlanetMoons()
+                && !QualityGovernor.getInstance().isReduced(Reduction.PLANET_MOONS);
+        if (drawMoons) {
             for (Moon moon : features.getMoons()) {
                 if (isMoonBehindPlanet(moon)) {
                     drawMoon(g, x, y, size, moon, true);
@@ -370,12 +421,93 @@ public class PlanetArtist {
             }
         }
 
-        // Set clipping to planet circle to prevent halo effects
-        Shape oldClip = g.getClip();
-        g.setClip(new Ellipse2D.Double(x - halfSize, y - halfSize, size, size));
+        // Static body (base, gradient and surface base) from the cache
+        PlanetLayers layers = getPlanetLayers(g.getDeviceConfiguration(), planet, size, teamColor, features);
+        g.drawImage(layers.body, x - layers.center, y - layers.center, null);
+
+        // The rotating detail is the first thing a planet loses when frames run long
+        if (!QualityGovernor.getInstance().isReduced(Reduction.PLANET_DETAIL)) {
+            // Set clipping to planet circle to prevent halo effects
+            Shape oldClip = g.getClip();
+            g.setClip(new Ellipse2D.Double(x - halfSize, y - halfSize, size, size));
+
+            // Draw the rotating surface texture layers
+            drawSurfaceTexture(g, x, y, size, features, rotationAngle);
+
+            // Draw craters with improved depth
+            for (Crater crater : features.getCraters()) {
+                drawEnhancedCrater(g, x, y, size, crater, rotationAngle, layers.baseColor);
+            }
+
+            // Draw atmospheric effects
+            if (VisualSettings.getInstance().isDisplayEffects()) {
+                drawEnhancedAtmosphericEffect(g, x, y, size, layers.baseColor, rotationAngle);
+            }
+
+            // Restore original clip
+            g.setClip(oldClip);
+        }
 
+        // Static lighting, team colour overlay and outline from the cache
+        g.drawImage(layers.shading, x - layers.center, y - layers.center, null);
+
+        // Draw rings that are in front of the planet
+        if (VisualSettings.getInstance().isDisplayEffects()) {
+            for (Ring ring : features.getRings()) {
+                drawRing(g, x, y, size, ring, rotationAngle, false); // Draw front portion
+            }
+        }
+
+        // Draw moons that are in front of the planet
+        if (drawMoons) {
+            for (Moon moon : features.getMoons()) {
+                if (!isMoonBehindPlanet(moon)) {
+                    drawMoon(g, x, y, size, moon, false);
+                }
+            }
+        }
+
+        // Reset rendering hints
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+    }
+
+    /**
+     * Gets the cached static layers of a planet, rendering them again if its size
+     * or owner colour changed since they were made
+     */
+    private PlanetLayers getPlanetLayers(GraphicsConfiguration gc, Planet planet, int size, Color teamColor,
+            PlanetFeatures features) {
+        PlanetLayers layers = planetLayers.get(planet);
+        if (layers == null || layers.size != size || !layers.teamColor.equals(teamColor)) {
+            layers = createPlanetLayers(gc, size, teamColor, features);
+            planetLayers.put(planet, layers);
+        }
+        return layers;
+    }
+
+    /**
+     * Renders the parts of a planet that don't rotate into two images: the body
+     * drawn under the rotating surface detail and the shading drawn over it
+     */
+    private PlanetLayers createPlanetLayers(GraphicsConfiguration gc, int size, Color teamColor,
+            PlanetFeatures features) {
+        PlanetLayers layers = new PlanetLayers();
+        layers.size = size;
+        layers.teamColor = teamColor;
         // Create realistic planet base colors instead of team colors
-        Color baseColor = generatePlanetBaseColor(features);
+        layers.baseColor = generatePlanetBaseColor(features);
+        layers.center = size / 2 + LAYER_PADDING;
+
+        int imageSize = size + LAYER_PADDING * 2;
+        int x = layers.center;
+        int y = layers.center;
+        int halfSize = size / 2;
+        Color baseColor = layers.baseColor;
+
+        layers.body = gc.createCompatibleImage(imageSize, imageSize, Transparency.TRANSLUCENT);
+        Graphics2D g = layers.body.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setClip(new Ellipse2D.Double(x - halfSize, y - halfSize, size, size));
 
         // Draw deep space shadow (black base)
         g.setColor(Color.BLACK);
@@ -392,69 +524,48 @@ public class PlanetArtist {
         g.setPaint(gradient);
         g.fillOval(x - halfSize, y - halfSize, size, size);
 
-        // Draw enhanced surface texture with multiple layers
-        drawSurfaceTexture(g, x, y, size, features, rotationAngle);
-
-        // Draw craters with improved depth
-        for (Crater crater : features.getCraters()) {
-            drawEnhancedCrater(g, x, y, size, crater, rotationAngle, baseColor);
-        }
+        // Base surface texture (darker), the rest of the texture rotates
+        g.setColor(features.getSurfaceTexture().darker());
+        g.setComposite(PaintCache.composite(0.4f));
+        g.fillOval(x - halfSize + 3, y - halfSize + 3, size - 6, size - 6);
+        g.dispose();
 
-        // Draw atmospheric effects
-        if (VisualSettings.getInstance().isDisplayEffects()) {
-            drawEnhancedAtmosphericEffect(g, x, y, size, baseColor, rotationAngle);
-        }
+        layers.shading = gc.createCompatibleImage(imageSize, imageSize, Transparency.TRANSLUCENT);
+        g = layers.shading.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setClip(new Ellipse2D.Double(x - halfSize, y - halfSize, size, size));
 
         // Draw enhanced 3D lighting with multiple highlights
         drawEnhancedLighting(g, x, y, size, baseColor);
 
         // Draw team color overlay (transparent)
-        g.setColor(new Color(teamColor.getRed(), teamColor.getGreen(), teamColor.getBlue(), 80));
+        g.setColor(PaintCache.withAlpha(teamColor, 80));
         g.fillOval(x - halfSize, y - halfSize, size, size);
-
-        // Restore original clip
-        g.setClip(oldClip);
+        g.setClip(null);
 
         // Draw planet outline with enhanced style
-        g.setColor(new Color(teamColor.getRed(), teamColor.getGreen(), teamColor.getBlue(), 150));
-        g.setStroke(new BasicStroke(2.0f));
+        g.setColor(PaintCache.withAlpha(teamColor, 150));
+        g.setStroke(PaintCache.stroke(2.0f));
         g.drawOval(x - halfSize, y - halfSize, size, size);
-        g.setStroke(new BasicStroke(1.0f));
-
-        // Draw rings that are in front of the planet
-        if (VisualSettings.getInstance().isDisplayEffects()) {
-            for (Ring ring : features.getRings()) {
-                drawRing(g, x, y, size, ring, rotationAngle, false); // Draw front portion
-            }
-        }
+        g.dispose();
 
-        // Draw moons that are in front of the planet
-        if (VisualSettings.getInstance().isDisplayPlanetMoons()) {
-            for (Moon moon : features.getMoons()) {
-                if (!isMoonBehindPlanet(moon)) {
-                    drawMoon(g, x, y, size, moon, false);
-                }
-            }
-        }
-
-        // Reset rendering hints
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        return layers;
     }
 
     private boolean isMoonBehindPlanet(Moon moon) {
-        return Math.sin(moon.currentAngle) < 0;
+        return Math.sin(world.getAngle(moon)) < 0;
     }
 
     private void drawMoon(Graphics2D g, int planetX, int planetY, int planetSize, Moon moon, boolean isBehind) {
-        double moonX = planetX + Math.cos(moon.currentAngle) * moon.orbitRadius * planetSize / 2;
-        double moonY = planetY + Math.sin(moon.currentAngle) * moon.orbitRadius * planetSize / 2 * 0.3;
+        double moonX = planetX + Math.cos(world.getAngle(moon)) * moon.orbitRadius * planetSize / 2;
+        double moonY = planetY + Math.sin(world.getAngle(moon)) * moon.orbitRadius * planetSize / 2 * 0.3;
         int moonSize = (int) (moon.size * planetSize);
-        double sinValue = Math.sin(moon.currentAngle);
+        double sinValue = Math.sin(world.getAngle(moon));
         float opacity = (float) (0.7f + 0.3f * sinValue);
 
         // Draw moon shadow
         g.setColor(moon.color.darker());
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
+        g.setComposite(PaintCache.composite(opacity));
         g.fillOval((int) moonX - moonSize / 2, (int) moonY - moonSize / 2, moonSize, moonSize);
 
         // Draw moon surface
@@ -463,21 +574,22 @@ public class PlanetArtist {
 
         // Draw moon outline
         g.setColor(Color.BLACK);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity * 0.8f));
+        g.setComposite(PaintCache.composite(opacity * 0.8f));
         g.drawOval((int) moonX - moonSize / 2, (int) moonY - moonSize / 2, moonSize, moonSize);
 
         // Reset composite
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+        g.setComposite(PaintCache.composite(1.0f));
     }
 
     /**
      * Draws a targeting line with animated arrows pointing from source to target
      */
-    private void drawTargetingLineWithArrows(Graphics2D g, int x1, int y1, int x2, int y2, Color lineColor) {
+    private void drawTargetingLineWithArrows(Graphics2D g, TargetingLink link, int x1, int y1, int x2, int y2,
+            Color lineColor) {
         // Draw the main line
         g.drawLine(x1, y1, x2, y2);
 
-        // Calculate line length and direction
+        // Calculate line length
         double dx = x2 - x1;
         double dy = y2 - y1;
         double lineLength = Math.sqrt(dx * dx + dy * dy);
@@ -485,63 +597,89 @@ public class PlanetArtist {
         if (lineLength < 20)
             return; // Don't draw arrows on very short lines
 
-        // Normalize direction vector
-        double unitX = dx / lineLength;
-        double unitY = dy / lineLength;
-
-        // Arrow properties
-        int arrowSize = 8;
-        double arrowSpacing = 30.0; // Distance between arrows
-        long currentTime = System.currentTimeMillis();
-        double animationOffset = (currentTime / 50.0) % arrowSpacing; // Animation speed
-
-        // Draw multiple arrows along the line
-        for (double distance = animationOffset; distance < lineLength - 20; distance += arrowSpacing) {
-            // Calculate arrow position
-            double arrowX = x1 + unitX * distance;
-            double arrowY = y1 + unitY * distance;
-
-            // Calculate arrow opacity based on distance (fade near end)
-            double fadeDistance = Math.min(distance, lineLength - distance);
-            float opacity = (float) Math.min(1.0, fadeDistance / 50.0);
-
-            if (opacity > 0.1f) {
-                // Set arrow color with opacity
-                g.setColor(new Color(lineColor.getRed(), lineColor.getGreen(), lineColor.getBlue(),
-                        (int) (255 * opacity * 0.6f)));
-
-                // Draw arrowhead
-                drawArrowHead(g, arrowX, arrowY, unitX, unitY, arrowSize);
+        drawArrows(g, link.getArrows(lineLength, getArrowPhase()), x1, y1, dx, dy, lineColor, lineColor, 0.6f);
+    }
+
+    private boolean isHighlighted(Planet planet) {
+        return planet == hoveredPlanet || planet == lastHoveredPlanet || planet == clickedPlanet
+                || planet == selectedPlanet;
+    }
+
+    /**
+     * Gets a copy of the planet's targets, copied again only after they changed
+     */
+    private List<Planet> getTargets(Planet planet) {
+        TargetList list = targetLists.computeIfAbsent(planet, key -> new TargetList());
+        int version = planet.getTargetsVersion();
+        if (list.version != version) {
+            try {
+                list.targets = new ArrayList<>(planet.getTargets());
+                list.version = version;
+            } catch (Exception e) {
+                // Changed while copying, keep the old copy and try again next frame
             }
         }
+        return list.targets;
+    }
+
+    /**
+     * Gets the cached link from planet to target, marking it as used this frame.
+     * Whether it is mutual is only checked again after either planet's targets
+     * changed.
+     */
+    private TargetingLink getTargetingLink(Planet planet, Planet target) {
+        TargetingLink link = targetingLinks.computeIfAbsent(planet, key -> new HashMap<>())
+                .computeIfAbsent(target, key -> new TargetingLink());
+        int planetVersion = planet.getTargetsVersion();
+        int targetVersion = target.getTargetsVersion();
+        if (link.planetVersion != planetVersion || link.targetVersion != targetVersion) {
+            link.setMutual(getTargets(target).contains(planet));
+            link.planetVersion = planetVersion;
+            link.targetVersion = targetVersion;
+        }
+        link.frame = linkFrame;
+        return link;
+    }
+
+    /**
+     * Drops the links that weren't drawn this frame
+     */
+    private void pruneTargetingLinks() {
+        targetingLinks.values().removeIf(links -> {
+            links.values().removeIf(link -> link.frame != linkFrame);
+            return links.isEmpty();
+        });
     }
 
     /**
-     * Draws an arrowhead at the specified position pointing in the given direction
+     * Gets the current animation step of the arrows moving along the lines
      */
-    private void drawArrowHead(Graphics2D g, double x, double y, double dirX, double dirY, int size) {
-        // Calculate perpendicular vector for arrow wings
-        double perpX = -dirY;
-        double perpY = dirX;
-
-        // Arrow tip point
-        int tipX = (int) (x + dirX * size);
-        int tipY = (int) (y + dirY * size);
-
-        // Arrow wing points
-        int wing1X = (int) (x - dirX * size * 0.5 + perpX * size * 0.5);
-        int wing1Y = (int) (y - dirY * size * 0.5 + perpY * size * 0.5);
-        int wing2X = (int) (x - dirX * size * 0.5 - perpX * size * 0.5);
-        int wing2Y = (int) (y - dirY * size * 0.5 - perpY * size * 0.5);
-
-        // Draw filled arrowhead
-        int[] xPoints = { tipX, wing1X, wing2X };
-        int[] yPoints = { tipY, wing1Y, wing2Y };
-        g.fillPolygon(xPoints, yPoints, 3);
-
-        // Draw arrow outline for better visibility
-        g.setColor(new Color(0, 0, 0, 100));
-        g.drawPolygon(xPoints, yPoints, 3);
+    private static int getArrowPhase() {
+        return (int) ((GameClock.currentTimeMillis() / 50) % ARROW_PHASES);
+    }
+
+    /**
+     * Draws prebuilt arrowheads turned onto the line from (x1, y1) along (dx, dy)
+     *
+     * @param color1       colour of the arrows on the first half
+     * @param color2       colour of the arrows on the second half of a mutual line
+     * @param opacityScale opacity of arrows away from the line ends
+     */
+    private void drawArrows(Graphics2D g, ArrowSet arrows, int x1, int y1, double dx, double dy, Color color1,
+            Color color2, float opacityScale) {
+        AffineTransform originalTransform = g.getTransform();
+        g.translate(x1, y1);
+        g.rotate(Math.atan2(dy, dx));
+        for (int i = 0; i < arrows.fills.length; i++) {
+            Color color = arrows.secondHalf[i] ? color2 : color1;
+            g.setColor(PaintCache.withAlpha(color, (int) (255 * arrows.opacities[i] * opacityScale)));
+            g.fill(arrows.fills[i]);
+        }
+
+        // Draw arrow outlines for better visibility
+        g.setColor(PaintCache.color(0, 0, 0, 100));
+        g.draw(arrows.outline);
+        g.setTransform(originalTransform);
     }
 
     /**
@@ -552,23 +690,23 @@ public class PlanetArtist {
         int highlightHalfSize = highlightSize / 2;
 
         // Enable anti-aliasing for smooth highlight
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        QualityGovernor.getInstance().setAntialiasing(g);
 
         // Draw pulsating glow effect
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         double pulsePhase = (currentTime % 1000) / 1000.0 * 2 * Math.PI; // Complete cycle every second
         float pulseAlpha = (float) (0.3 + 0.2 * Math.sin(pulsePhase)); // Alpha between 0.1 and 0.5
 
         // Outer glow
-        g.setColor(new Color(255, 255, 255, (int) (255 * pulseAlpha * 0.5f)));
+        g.setColor(PaintCache.color(255, 255, 255, (int) (255 * pulseAlpha * 0.5f)));
         g.fillOval(x - highlightHalfSize - 4, y - highlightHalfSize - 4, highlightSize + 8, highlightSize + 8);
 
         // Inner glow
-        g.setColor(new Color(255, 255, 255, (int) (255 * pulseAlpha)));
+        g.setColor(PaintCache.color(255, 255, 255, (int) (255 * pulseAlpha)));
         g.fillOval(x - highlightHalfSize, y - highlightHalfSize, highlightSize, highlightSize);
 
         // Highlight ring
-        g.setColor(new Color(255, 255, 255, (int) (255 * (pulseAlpha + 0.3f))));
+        g.setColor(PaintCache.color(255, 255, 255, (int) (255 * (pulseAlpha + 0.3f))));
         g.drawOval(x - highlightHalfSize, y - highlightHalfSize, highlightSize, highlightSize);
 
         // Reset rendering hints
@@ -580,13 +718,13 @@ public class PlanetArtist {
      */
     private void drawPlanetTypeIcon(Graphics2D g, int planetX, int planetY, int planetSize, PlanetType planetType) {
         // Enable anti-aliasing for smooth icons
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        QualityGovernor.getInstance().setAntialiasing(g);
 
         // Icon size should scale with planet size but have a reasonable minimum/maximum
         int iconSize = Math.max(12, Math.min(32, planetSize / 3));
 
         // Set icon color to white with slight transparency for good visibility
-        g.setColor(new Color(255, 255, 255, 220));
+        g.setColor(PaintCache.color(255, 255, 255, 220));
 
         switch (planetType) {
             case ATTACK:
@@ -622,10 +760,10 @@ public class PlanetArtist {
             return; // No targeting indicators if no targets possible
 
         // Enable anti-aliasing for smooth circles
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        QualityGovernor.getInstance().setAntialiasing(g);
 
         // Calculate indicator properties
-        int indicatorRadius = Math.max(3, (int) (4 * planet.getDepthScale())); // Scale with planet depth
+        int indicatorRadius = Math.max(3, (int) (4 * world.getDepthScale(planet))); // Scale with planet depth
         int spacing = indicatorRadius + 4; // Space between indicators
         int totalWidth = maxTargets * (indicatorRadius * 2) + (maxTargets - 1) * 2; // Total width of all indicators
 
@@ -643,7 +781,7 @@ public class PlanetArtist {
             if (isFilled) {
                 // Draw filled circle with soft glow for used target slots
                 // Create glow effect
-                g.setColor(new Color(255, 255, 255, 60));
+                g.setColor(PaintCache.color(255, 255, 255, 60));
                 g.fillOval(indicatorX - indicatorRadius - 1, indicatorY - indicatorRadius - 1,
                         (indicatorRadius + 1) * 2, (indicatorRadius + 1) * 2);
 
@@ -654,13 +792,13 @@ public class PlanetArtist {
             } else {
                 // Draw empty circle with soft glow for unused target slots
                 // Create glow effect
-                g.setColor(new Color(255, 255, 255, 40));
+                g.setColor(PaintCache.color(255, 255, 255, 40));
                 g.fillOval(indicatorX - indicatorRadius - 1, indicatorY - indicatorRadius - 1,
                         (indicatorRadius + 1) * 2, (indicatorRadius + 1) * 2);
 
                 // Draw main empty circle (outline only)
                 g.setColor(Color.WHITE);
-                g.setStroke(new BasicStroke(1.5f));
+                g.setStroke(PaintCache.stroke(1.5f));
                 g.drawOval(indicatorX - indicatorRadius, indicatorY - indicatorRadius,
                         indicatorRadius * 2, indicatorRadius * 2);
             }
@@ -668,7 +806,7 @@ public class PlanetArtist {
 
         // Reset rendering hints and stroke
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
-        g.setStroke(new BasicStroke(1.0f));
+        g.setStroke(PaintCache.stroke(1.0f));
     }
 
     /**
@@ -678,7 +816,7 @@ public class PlanetArtist {
         int halfSize = size / 2;
 
         // Draw sword blade (diagonal line from top-left to bottom-right)
-        g.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g.setStroke(PaintCache.stroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
         g.drawLine(x - halfSize + 4, y - halfSize + 4, x + halfSize - 4, y + halfSize - 4);
 
         // Draw sword crossguard (horizontal line)
@@ -688,7 +826,7 @@ public class PlanetArtist {
         g.fillOval(x + halfSize - 6, y + halfSize - 6, 4, 4);
 
         // Reset stroke
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
     }
 
     /**
@@ -698,7 +836,7 @@ public class PlanetArtist {
         int halfSize = size / 2;
 
         // Draw shield outline (rounded rectangle)
-        g.setStroke(new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g.setStroke(PaintCache.stroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
         g.drawRoundRect(x - halfSize + 2, y - halfSize + 2, size - 4, size - 4, 6, 6);
 
         // Draw cross pattern inside shield
@@ -706,7 +844,7 @@ public class PlanetArtist {
         g.drawLine(x - halfSize + 4, y, x + halfSize - 4, y); // Horizontal line
 
         // Reset stroke
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(PaintCache.stroke(1));
     }
 
     /**
@@ -733,38 +871,26 @@ public class PlanetArtist {
         g.fillPolygon(xPoints, yPoints, 4);
 
         // Draw outline for better definition
-        g.setColor(new Color(0, 0, 0, 100));
+        g.setColor(PaintCache.color(0, 0, 0, 100));
         g.drawPolygon(xPoints, yPoints, 4);
 
         // Reset color
-        g.setColor(new Color(255, 255, 255, 220));
+        g.setColor(PaintCache.color(255, 255, 255, 220));
     }
 
     /**
      * Gets the color for a planet based on its operator
      */
     private Color getPlanetColor(Planet planet) {
-        if (planet.getOperator() instanceof Player) {
-            return VisualSettings.getInstance().getPlayerPlanetColor();
-        } else if (planet.getOperator() instanceof Bot) {
-            // Check for color conflicts before assigning bot color
-            checkAndUpdateBotColors();
-            Bot bot = (Bot) planet.getOperator();
-            if (!botColorMap.containsKey(bot)) {
-                Color botColor = getAvailableBotColor();
-                botColorMap.put(bot, botColor);
-            }
-            return botColorMap.get(bot);
-        } else {
-            return Color.LIGHT_GRAY;
-        }
+        return getOperatorColor(planet.getOperator());
     }
 
     /**
      * Draws a mutual targeting line that meets in the middle with arrows pointing
      * in both directions
      */
-    private void drawMutualTargetingLine(Graphics2D g, int x1, int y1, int x2, int y2, Color color1, Color color2) {
+    private void drawMutualTargetingLine(Graphics2D g, TargetingLink link, int x1, int y1, int x2, int y2,
+            Color color1, Color color2) {
         // Calculate the midpoint
         int midX = (x1 + x2) / 2;
         int midY = (y1 + y2) / 2;
@@ -778,58 +904,18 @@ public class PlanetArtist {
         if (lineLength < 20)
             return;
 
-        // Normalize direction vector
-        double unitX = dx / lineLength;
-        double unitY = dy / lineLength;
-
         // Draw the complete line first
-        g.setColor(new Color(255, 255, 255, 100));
+        g.setColor(PaintCache.color(255, 255, 255, 100));
         g.drawLine(x1, y1, x2, y2);
 
-        // Arrow properties
-        int arrowSize = 8;
-        double arrowSpacing = 30.0;
-        long currentTime = System.currentTimeMillis();
-        double animationOffset = (currentTime / 50.0) % arrowSpacing;
-
-        // Draw arrows on first half (pointing toward middle) with color1
-        for (double distance = animationOffset; distance < lineLength / 2 - 10; distance += arrowSpacing) {
-            double arrowX = x1 + unitX * distance;
-            double arrowY = y1 + unitY * distance;
-
-            double fadeDistance = Math.min(distance, lineLength / 2 - distance);
-            float opacity = (float) Math.min(1.0, fadeDistance / 50.0);
-
-            if (opacity > 0.1f) {
-                g.setColor(new Color(color1.getRed(), color1.getGreen(), color1.getBlue(),
-                        (int) (255 * opacity * 0.8f)));
-                drawArrowHead(g, arrowX, arrowY, unitX, unitY, arrowSize);
-            }
-        }
-
-        // Draw arrows on second half (pointing toward center from planet 2) with color2
-        double halfLength = lineLength / 2;
-        for (double distance = halfLength + (animationOffset % arrowSpacing); distance < lineLength
-                - 10; distance += arrowSpacing) {
-            double arrowX = x1 + unitX * distance;
-            double arrowY = y1 + unitY * distance;
-
-            double fadeDistance = Math.min(distance - halfLength, lineLength - distance);
-            float opacity = (float) Math.min(1.0, fadeDistance / 50.0);
-
-            if (opacity > 0.1f) {
-                g.setColor(new Color(color2.getRed(), color2.getGreen(), color2.getBlue(),
-                        (int) (255 * opacity * 0.8f)));
-                // For second half, arrows should point in opposite direction (toward center)
-                drawArrowHead(g, arrowX, arrowY, -unitX, -unitY, arrowSize);
-            }
-        }
+        // Arrows on each half point toward the middle in that planet's color
+        drawArrows(g, link.getArrows(lineLength, getArrowPhase()), x1, y1, dx, dy, color1, color2, 0.8f);
 
         // Draw a small connector circle at the midpoint to show the connection
-        g.setColor(new Color(255, 255, 255, 180));
+        g.setColor(PaintCache.color(255, 255, 255, 180));
         int connectorSize = 6;
         g.fillOval(midX - connectorSize / 2, midY - connectorSize / 2, connectorSize, connectorSize);
-        g.setColor(new Color(0, 0, 0, 100));
+        g.setColor(PaintCache.color(0, 0, 0, 100));
         g.drawOval(midX - connectorSize / 2, midY - connectorSize / 2, connectorSize, connectorSize);
     }
 
@@ -842,36 +928,31 @@ public class PlanetArtist {
         int red = Math.max(50, Math.min(200, surfaceTexture.getRed() + 50));
         int green = Math.max(40, Math.min(180, surfaceTexture.getGreen() + 30));
         int blue = Math.max(30, Math.min(160, surfaceTexture.getBlue() + 20));
-        return new Color(red, green, blue);
+        return PaintCache.color(red, green, blue);
     }
 
     /**
-     * Draws enhanced surface texture with multiple layers for more detail
+     * Draws the rotating surface texture layers over the cached base texture
      */
     private void drawSurfaceTexture(Graphics2D g, int x, int y, int size, PlanetFeatures features,
             double rotationAngle) {
         int halfSize = size / 2;
         Color surfaceTexture = features.getSurfaceTexture();
 
-        // Layer 1: Base texture (darker)
-        g.setColor(surfaceTexture.darker());
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.4f));
-        g.fillOval(x - halfSize + 3, y - halfSize + 3, size - 6, size - 6);
-
         // Layer 2: Mid texture with rotation effect
         int offsetX = (int) (Math.cos(rotationAngle) * 2);
         int offsetY = (int) (Math.sin(rotationAngle) * 2);
         g.setColor(surfaceTexture);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
+        g.setComposite(PaintCache.composite(0.3f));
         g.fillOval(x - halfSize + 4 + offsetX, y - halfSize + 4 + offsetY, size - 8, size - 8);
 
         // Layer 3: Surface highlights
         g.setColor(surfaceTexture.brighter());
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.2f));
+        g.setComposite(PaintCache.composite(0.2f));
         g.fillOval(x - halfSize + 6, y - halfSize + 6, size - 12, size - 12);
 
         // Reset composite
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+        g.setComposite(PaintCache.composite(1.0f));
     }
 
     /**
@@ -891,21 +972,21 @@ public class PlanetArtist {
 
             // Draw crater shadow (deeper)
             g.setColor(Color.BLACK);
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) crater.depth * 0.6f));
+            g.setComposite(PaintCache.composite((float) crater.depth * 0.6f));
             g.fillOval(craterX - craterSize / 2, craterY - craterSize / 2, craterSize, craterSize);
 
             // Draw crater rim (lighter)
             g.setColor(planetColor.brighter());
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) crater.depth * 0.4f));
+            g.setComposite(PaintCache.composite((float) crater.depth * 0.4f));
             g.drawOval(craterX - craterSize / 2, craterY - craterSize / 2, craterSize, craterSize);
 
             // Draw inner crater details
             int innerSize = craterSize / 3;
             g.setColor(planetColor.darker().darker());
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) crater.depth * 0.8f));
+            g.setComposite(PaintCache.composite((float) crater.depth * 0.8f));
             g.fillOval(craterX - innerSize / 2, craterY - innerSize / 2, innerSize, innerSize);
 
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+            g.setComposite(PaintCache.composite(1.0f));
         }
     }
 
@@ -917,7 +998,7 @@ public class PlanetArtist {
         // Multiple atmospheric layers for depth
         for (int layer = 0; layer < 3; layer++) {
             float alpha = 0.06f - (layer * 0.02f);
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+            g.setComposite(PaintCache.composite(alpha));
             g.setColor(color.brighter());
 
             // Create shifting highlights that suggest rotation and atmosphere
@@ -930,7 +1011,7 @@ public class PlanetArtist {
                     effectSize, effectSize / 2);
         }
 
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+        g.setComposite(PaintCache.composite(1.0f));
     }
 
     /**
@@ -942,21 +1023,21 @@ public class PlanetArtist {
         // Main highlight (larger, more subtle)
         int ellipseHeight = size / 4;
         g.setColor(baseColor.brighter().brighter());
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.2f));
+        g.setComposite(PaintCache.composite(0.2f));
         g.fillOval(x - halfSize + 8, y - halfSize + 5, size - 16, ellipseHeight);
 
         // Secondary highlight (smaller, brighter)
         ellipseHeight = size / 6;
         g.setColor(Color.WHITE);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.15f));
+        g.setComposite(PaintCache.composite(0.15f));
         g.fillOval(x - halfSize + 12, y - halfSize + 8, size - 24, ellipseHeight);
 
         // Specular highlight (very small, very bright)
         ellipseHeight = size / 8;
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
+        g.setComposite(PaintCache.composite(0.3f));
         g.fillOval(x - halfSize + 15, y - halfSize + 10, size - 30, ellipseHeight);
 
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+        g.setComposite(PaintCache.composite(1.0f));
     }
 
     /**
@@ -968,7 +1049,7 @@ public class PlanetArtist {
         int outerRadius = (int) (ring.outerRadius * size / 2);
 
         // Calculate animated tilt - slow seesaw oscillation over time
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         double tiltCycle = (currentTime % 15000) / 15000.0 * 2 * Math.PI; // 15-second cycle
         double animatedTilt = ring.getTilt() + Math.sin(tiltCycle) * 0.15; // Base tilt + gentle seesaw oscillation
 
@@ -982,7 +1063,7 @@ public class PlanetArtist {
         }
 
         // Enable anti-aliasing for smooth rings
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        QualityGovernor.getInstance().setAntialiasing(g);
 
         // Save the current graphics transform
         AffineTransform originalTransform = g.getTransform();
@@ -992,33 +1073,18 @@ public class PlanetArtist {
 
         // Draw ring shadow (if behind)
         if (isBehind) {
-            g.setColor(new Color(0, 0, 0, (int) (100 * opacity)));
-            g.fillOval(x - outerRadius + 2, y - ellipseHeight / 2 + 2,
-                    outerRadius * 2, ellipseHeight);
-            // Cut out inner part
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR));
-            g.fillOval(x - innerRadius + 2, y - ellipseHeight / 2 + 2,
-                    innerRadius * 2, ellipseHeight);
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER));
+            g.setColor(PaintCache.color(0, 0, 0, (int) (100 * opacity)));
+            g.fill(ringShape(x + 2, y + 2, innerRadius, outerRadius, ellipseHeight));
         }
 
         // Draw main ring with seesaw tilt rotation
         Color ringColor = ring.color;
-        g.setColor(new Color(ringColor.getRed(), ringColor.getGreen(), ringColor.getBlue(),
-                (int) (255 * opacity)));
-
-        // Draw outer ring (now rotated)
-        g.fillOval(x - outerRadius, y - ellipseHeight / 2, outerRadius * 2, ellipseHeight);
-
-        // Cut out inner part to create ring effect
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR));
-        g.fillOval(x - innerRadius, y - ellipseHeight / 2, innerRadius * 2, ellipseHeight);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER));
+        g.setColor(PaintCache.withAlpha(ringColor, (int) (255 * opacity)));
+        g.fill(ringShape(x, y, innerRadius, outerRadius, ellipseHeight));
 
         // Add ring detail lines
         if (!isBehind) {
-            g.setColor(new Color(ringColor.getRed(), ringColor.getGreen(), ringColor.getBlue(),
-                    (int) (100 * opacity)));
+            g.setColor(PaintCache.withAlpha(ringColor, (int) (100 * opacity)));
             g.drawOval(x - outerRadius, y - ellipseHeight / 2, outerRadius * 2, ellipseHeight);
             g.drawOval(x - innerRadius, y - ellipseHeight / 2, innerRadius * 2, ellipseHeight);
         }
@@ -1028,4 +1094,153 @@ public class PlanetArtist {
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
     }
 
+    /**
+     * Gets a flat ellipse with the inner part left open, so the planet and
+     * whatever else is underneath shows through the hole
+     */
+    private static Shape ringShape(int x, int y, int innerRadius, int outerRadius, int ellipseHeight) {
+        Path2D.Double ring = new Path2D.Double(Path2D.WIND_EVEN_ODD);
+        ring.append(new Ellipse2D.Double(x - outerRadius, y - ellipseHeight / 2, outerRadius * 2, ellipseHeight),
+                false);
+        ring.append(new Ellipse2D.Double(x - innerRadius, y - ellipseHeight / 2, innerRadius * 2, ellipseHeight),
+                false);
+        return ring;
+    }
+
+    /**
+     * Cached images of the parts of a planet that only change with its size or
+     * owner colour
+     */
+    private static class PlanetLayers {
+        int size;
+        Color teamColor;
+        Color baseColor;
+        int center; // Offset from the planet centre to the image corner
+        BufferedImage body;
+        BufferedImage shading;
+    }
+
+    /**
+     * A planet's targets as of a version of them
+     */
+    private static class TargetList {
+        int version = -1;
+        List<Planet> targets = new ArrayList<>();
+    }
+
+    /**
+     * Arrowhead geometry of the targeting line between two planets. Arrows are
+     * laid out along the x axis from the origin, so the link only changes when
+     * the line stretches or shrinks, not when the planets orbit. Each animation
+     * step is built the first time it is drawn.
+     */
+    private static class TargetingLink {
+        boolean mutual;
+        int planetVersion = -1; // Versions of both planets' targets when mutual was checked
+        int targetVersion = -1;
+        double length = -1;
+        int frame; // Last frame the link was drawn in
+        final ArrowSet[] phases = new ArrowSet[ARROW_PHASES];
+
+        void setMutual(boolean mutual) {
+            if (this.mutual != mutual) {
+                this.mutual = mutual;
+                length = -1;
+            }
+        }
+
+        ArrowSet getArrows(double lineLength, int phase) {
+            if (Math.abs(lineLength - length) > LINK_REBUILD_LENGTH) {
+                length = lineLength;
+                Arrays.fill(phases, null);
+            }
+            if (phases[phase] == null) {
+                phases[phase] = mutual ? buildMutualArrows(phase) : buildArrows(phase);
+            }
+            return phases[phase];
+        }
+
+        private ArrowSet buildArrows(int phase) {
+            ArrowSet arrows = new ArrowSet();
+            for (double distance = phase; distance < length - 20; distance += ARROW_SPACING) {
+                // Fade near the ends
+                double fadeDistance = Math.min(distance, length - distance);
+                arrows.add(distance, 1, (float) Math.min(1.0, fadeDistance / 50.0), false);
+            }
+            return arrows.finish();
+        }
+
+        private ArrowSet buildMutualArrows(int phase) {
+            ArrowSet arrows = new ArrowSet();
+            double halfLength = length / 2;
+            // First half points toward the middle
+            for (double distance = phase; distance < halfLength - 10; distance += ARROW_SPACING) {
+                double fadeDistance = Math.min(distance, halfLength - distance);
+                arrows.add(distance, 1, (float) Math.min(1.0, fadeDistance / 50.0), false);
+            }
+            // Second half points back toward the middle
+            for (double distance = halfLength + phase; distance < length - 10; distance += ARROW_SPACING) {
+                double fadeDistance = Math.min(distance - halfLength, length - distance);
+                arrows.add(distance, -1, (float) Math.min(1.0, fadeDistance / 50.0), true);
+            }
+            return arrows.finish();
+        }
+    }
+
+    /**
+     * The arrowheads of one animation step. Neighbouring arrows of the same
+     * opacity share a fill, and all outlines are one shape.
+     */
+    private static class ArrowSet {
+        Path2D[] fills;
+        float[] opacities;
+        boolean[] secondHalf;
+        final Path2D outline = new Path2D.Float();
+
+        private final List<Path2D> fillList = new ArrayList<>();
+        private final List<Float> opacityList = new ArrayList<>();
+        private final List<Boolean> halfList = new ArrayList<>();
+
+        /**
+         * Adds an arrowhead at the distance along the x axis
+         *
+         * @param direction 1 to point along the axis, -1 to point back
+         */
+        void add(double distance, int direction, float opacity, boolean onSecondHalf) {
+            if (opacity <= 0.1f) {
+                return;
+            }
+            Path2D arrow = new Path2D.Float();
+            arrow.moveTo(distance + direction * ARROW_SIZE, 0);
+            arrow.lineTo(distance - direction * ARROW_SIZE * 0.5, direction * ARROW_SIZE * 0.5);
+            arrow.lineTo(distance - direction * ARROW_SIZE * 0.5, -direction * ARROW_SIZE * 0.5);
+            arrow.closePath();
+            outline.append(arrow, false);
+
+            int last = fillList.size() - 1;
+            if (last >= 0 && opacityList.get(last) == opacity && halfList.get(last) == onSecondHalf) {
+                fillList.get(last).append(arrow, false);
+            } else {
+                fillList.add(arrow);
+                opacityList.add(opacity);
+                halfList.add(onSecondHalf);
+            }
+        }
+
+        ArrowSet finish() {
+            int count = fillList.size();
+            fills = fillList.toArray(new Path2D[count]);
+            opacities = new float[count];
+            secondHalf = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                opacities[i] = opacityList.get(i);
+                secondHalf[i] = halfList.get(i);
+            }
+            fillList.clear();
+            opacityList.clear();
+            halfList.clear();
+            return this;
+        }
+    }
+
 }
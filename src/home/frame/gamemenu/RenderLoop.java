@@ -0,0 +1,211 @@
+package home.frame.gamemenu;
+
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import home.game.GameConstants;
+
+/**
+ * Actively renders a canvas from a dedicated thread.
+ *
+ * Every frame is drawn straight into the canvas's buffer strategy and shown, so
+ * nothing waits for Swing to coalesce repaints on the EDT. Frames are paced
+ * against a running deadline rather than a fixed sleep, which means a slow frame
+ * is followed by a shorter wait and the frame rate holds steady. With
+ * {@link GameConstants#isUncappedFrameRate()} set the loop draws as fast as it
+ * can, which is meant for benchmarking.
+ *
+ * In idle mode the thread waits without waking up and only draws a frame when
+ * one is requested, for a screen that isn't changing or isn't being watched.
+ *
+ * The loop has to be started once the canvas is displayable and stopped before
+ * it goes away, see {@link GameMenu#addNotify()}.
+ */
+public class RenderLoop {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SPIN_THRESHOLD = 1_000_000L; // Sleep until this close to the deadline, then spin
+
+    private final Canvas canvas;
+    private final Consumer<Graphics2D> renderer;
+    private final IntConsumer frameRateListener;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    private final Object idleLock = new Object();
+    private volatile boolean idle;
+    private boolean frameRequested; // Guarded by idleLock
+
+    /**
+     * @param renderer          draws one frame
+     * @param frameRateListener told the measured frames per second once a second
+     */
+    public RenderLoop(Canvas canvas, Consumer<Graphics2D> renderer, IntConsumer frameRateListener) {
+        this.canvas = canvas;
+        this.renderer = renderer;
+        this.frameRateListener = frameRateListener;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        canvas.createBufferStrategy(2);
+        running = true;
+        thread = new Thread(this::run, "Render Loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the loop and waits for the frame in progress to finish
+     */
+    public synchronized void stop() {
+        running = false;
+        Thread stopping = thread;
+        thread = null;
+        if (stopping == null || stopping == Thread.currentThread()) {
+            return;
+        }
+        stopping.interrupt();
+        try {
+            stopping.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (stopping.isAlive()) {
+            System.err.println("Render loop did not stop in time");
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Enters or leaves idle mode. The first frame drawn in idle mode is drawn
+     * right away.
+     */
+    public void setIdle(boolean idle) {
+        synchronized (idleLock) {
+            this.idle = idle;
+            frameRequested = true;
+            idleLock.notifyAll();
+        }
+    }
+
+    public boolean isIdle() {
+        return idle;
+    }
+
+    /**
+     * Draws one frame in idle mode, for when the canvas has to be drawn again
+     */
+    public void requestFrame() {
+        synchronized (idleLock) {
+            frameRequested = true;
+            idleLock.notifyAll();
+        }
+    }
+
+    private void run() {
+        long nextFrame = System.nanoTime();
+        long frameRateWindowStart = nextFrame;
+        int frames = 0;
+
+        while (running) {
+            if (idle) {
+                waitForFrameRequest();
+                if (!running) {
+                    break;
+                }
+                // Idle time doesn't count toward the frame rate or the pacing
+                nextFrame = System.nanoTime();
+                frameRateWindowStart = nextFrame;
+                frames = 0;
+            }
+
+            renderFrame();
+            frames++;
+
+            long now = System.nanoTime();
+            if (now - frameRateWindowStart >= NANOS_PER_SECOND) {
+                frameRateListener.accept(frames);
+                frames = 0;
+                frameRateWindowStart = now;
+            }
+
+            if (GameConstants.isUncappedFrameRate()) {
+                nextFrame = now;
+                Thread.yield();
+                continue;
+            }
+
+            long frameTime = NANOS_PER_SECOND / GameConstants.getMaxFrameRate();
+            nextFrame += frameTime;
+            if (now - nextFrame > frameTime) {
+                nextFrame = now; // Fell behind, don't try to catch up with a burst of frames
+            }
+            waitUntil(nextFrame);
+        }
+    }
+
+    private void renderFrame() {
+        BufferStrategy strategy = canvas.getBufferStrategy();
+        if (strategy == null) {
+            return;
+        }
+        try {
+            do {
+                do {
+                    Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        renderer.accept(g);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (running && strategy.contentsRestored());
+                strategy.show();
+            } while (running && strategy.contentsLost());
+            Toolkit.getDefaultToolkit().sync();
+        } catch (IllegalStateException e) {
+            // Buffers went away with the canvas, the loop is about to be stopped
+        } catch (RuntimeException e) {
+            // Keep the loop alive, the next frame may well be fine
+            e.printStackTrace();
+        }
+    }
+
+    private void waitForFrameRequest() {
+        synchronized (idleLock) {
+            while (running && idle && !frameRequested) {
+                try {
+                    idleLock.wait();
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            frameRequested = false;
+        }
+    }
+
+    private void waitUntil(long deadline) {
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD) {
+                try {
+                    Thread.sleep((remaining - SPIN_THRESHOLD) / 1_000_000L);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
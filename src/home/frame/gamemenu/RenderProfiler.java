@@ -0,0 +1,303 @@
+package home.frame.gamemenu;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+
+import home.game.GameConstants;
+import home.game.PaintCache;
+import home.game.QualityGovernor;
+import home.game.io.SaveLoadManager;
+
+/**
+ * Measures how long each layer of the game screen takes to draw and how many
+ * draw calls it makes.
+ *
+ * The screen brackets every layer with {@link #begin(Layer)} and
+ * {@link #end(Layer)}. Layers can nest, a nested layer's time and calls are not
+ * counted towards the one around it. Draw calls are counted by drawing through
+ * a {@link CountingGraphics} while profiling is on. The last {@link #HISTORY}
+ * frames are kept, and their median and 99th percentile can be shown in an
+ * overlay or written to a CSV report in the cache directory. The overlay also
+ * shows how much detail the quality governor has given up.
+ *
+ * Everything except {@link #setEnabled(boolean)} and {@link #requestReport()}
+ * is called from the render thread. Layers begun on other threads, such as the
+ * bands of a tiled scene, are ignored and counted in whatever layer the render
+ * thread has open.
+ */
+public class RenderProfiler {
+
+    public enum Layer {
+        BACKGROUND("Background"),
+        CENTRAL_STAR("Central star"),
+        PLANETS("Planets"),
+        INCOMING_PRESSURE("Incoming pressure"),
+        EFFECTS("Ability effects"),
+        SHIPS("Ships"),
+        EXPLOSIONS("Explosions"),
+        TILED_SCENE("Tiled scene"),
+        PARTICLES("Particles"),
+        HUD_TIMER("HUD timer"),
+        HUD_ABILITIES("HUD abilities"),
+        OPERATOR_INDICATORS("Operator indicators"),
+        HUD_NOTIFICATIONS("HUD notifications");
+
+        private final String displayName;
+
+        Layer(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private static final int HISTORY = 600; // Frames kept for percentiles, 10 seconds at 60 fps
+    private static final long OVERLAY_REFRESH = 500_000_000L; // Nanoseconds between overlay updates
+    private static final int LAYER_COUNT = Layer.values().length;
+    private static final Font OVERLAY_FONT = new Font("Monospaced", Font.PLAIN, 12);
+
+    private static final RenderProfiler instance = new RenderProfiler();
+
+    private volatile boolean enabled = GameConstants.isRenderProfiling();
+    private volatile boolean reportRequested;
+
+    // History, the newest frame is at (frameCount - 1) % HISTORY
+    private final long[][] layerTimes = new long[LAYER_COUNT][HISTORY];
+    private final int[][] layerDrawCalls = new int[LAYER_COUNT][HISTORY];
+    private final long[] frameTimes = new long[HISTORY];
+    private final int[] frameDrawCalls = new int[HISTORY];
+    private int frameCount;
+
+    // Frame in progress
+    private boolean inFrame;
+    private Thread frameThread;
+    private long frameStart;
+    private int drawCalls;
+    private final long[] currentTimes = new long[LAYER_COUNT];
+    private final int[] currentDrawCalls = new int[LAYER_COUNT];
+    private final Layer[] openLayers = new Layer[LAYER_COUNT];
+    private int openLayerCount;
+    private long segmentStart;
+    private int segmentDrawCalls;
+
+    private String[] overlayLines;
+    private long overlayUpdated;
+
+    private RenderProfiler() {
+    }
+
+    public static RenderProfiler getInstance() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns profiling on or off. The history starts over when it is turned back
+     * on.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        reportRequested = false;
+    }
+
+    /**
+     * Asks for a report to be written once the current frame is done
+     */
+    public void requestReport() {
+        if (enabled) {
+            reportRequested = true;
+        }
+    }
+
+    /**
+     * Starts a frame. Returns the graphics to draw the frame with, which count
+     * draw calls while profiling.
+     */
+    public Graphics2D beginFrame(Graphics2D g) {
+        inFrame = enabled;
+        if (!inFrame) {
+            frameCount = 0;
+            overlayLines = null;
+            return g;
+        }
+        Arrays.fill(currentTimes, 0);
+        Arrays.fill(currentDrawCalls, 0);
+        openLayerCount = 0;
+        drawCalls = 0;
+        frameThread = Thread.currentThread();
+        frameStart = System.nanoTime();
+        return new CountingGraphics(g, this);
+    }
+
+    public void begin(Layer layer) {
+        if (!inFrame || openLayerCount == openLayers.length || Thread.currentThread() != frameThread) {
+            return;
+        }
+        long now = System.nanoTime();
+        closeSegment(now); // The enclosing layer pauses
+        openLayers[openLayerCount++] = layer;
+    }
+
+    public void end(Layer layer) {
+        if (!inFrame || openLayerCount == 0 || openLayers[openLayerCount - 1] != layer
+                || Thread.currentThread() != frameThread) {
+            return;
+        }
+        closeSegment(System.nanoTime());
+        openLayerCount--; // The enclosing layer resumes
+    }
+
+    /**
+     * Finishes the frame, adding it to the history and writing a report if one
+     * was asked for
+     */
+    public void endFrame() {
+        if (!inFrame) {
+            return;
+        }
+        inFrame = false;
+        int slot = frameCount % HISTORY;
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            layerTimes[i][slot] = currentTimes[i];
+            layerDrawCalls[i][slot] = currentDrawCalls[i];
+        }
+        frameTimes[slot] = System.nanoTime() - frameStart;
+        frameDrawCalls[slot] = drawCalls;
+        frameCount++;
+
+        if (reportRequested) {
+            reportRequested = false;
+            writeReport();
+        }
+    }
+
+    void countDrawCall() {
+        drawCalls++;
+    }
+
+    /**
+     * Draws the per-layer percentiles in the bottom left corner. Drawn with the
+     * frame's own graphics so the overlay isn't profiled.
+     */
+    public void drawOverlay(Graphics2D g, int screenHeight) {
+        if (!enabled || frameCount == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (overlayLines == null || now - overlayUpdated >= OVERLAY_REFRESH) {
+            String report = getReport("%-20s %7s %7s %7s %6s %6s", "%-20s %7.2f %7.2f %7.2f %6d %6d");
+            overlayLines = (report + getQualityLine()).split("\n");
+            overlayUpdated = now;
+        }
+
+        int lineHeight = 14;
+        int width = 440;
+        int height = overlayLines.length * lineHeight + 10;
+        int x = 10;
+        int y = screenHeight - height - 10;
+        g.setColor(PaintCache.color(0, 0, 0, 180));
+        g.fillRect(x, y, width, height);
+        g.setFont(OVERLAY_FONT);
+        g.setColor(PaintCache.color(200, 255, 200));
+        for (int i = 0; i < overlayLines.length; i++) {
+            g.drawString(overlayLines[i], x + 6, y + (i + 1) * lineHeight);
+        }
+    }
+
+    /**
+     * Describes the detail the quality governor has given up, if any
+     */
+    private static String getQualityLine() {
+        int level = QualityGovernor.getInstance().getLevel();
+        if (level == 0) {
+            return "Quality: full detail";
+        }
+        return String.format(Locale.ROOT, "Quality: %d reduced, last %s (avg %.2f ms)", level,
+                QualityGovernor.Reduction.values()[level - 1],
+                QualityGovernor.getInstance().getAverageFrameTime() / 1_000_000.0);
+    }
+
+    /**
+     * Gets the percentiles over the kept frames as CSV
+     */
+    public String getReport() {
+        return getReport("%s,%s,%s,%s,%s,%s", "%s,%.3f,%.3f,%.3f,%d,%d");
+    }
+
+    private String getReport(String headerFormat, String rowFormat) {
+        int samples = Math.min(frameCount, HISTORY);
+        StringWriter report = new StringWriter();
+        PrintWriter out = new PrintWriter(report);
+        out.println(String.format(Locale.ROOT, headerFormat, "Layer", "p50 ms", "p99 ms", "mean ms", "p50 dc", "p99 dc"));
+        for (Layer layer : Layer.values()) {
+            printRow(out, rowFormat, layer.getDisplayName(), layerTimes[layer.ordinal()],
+                    layerDrawCalls[layer.ordinal()], samples);
+        }
+        printRow(out, rowFormat, "Frame (" + samples + ")", frameTimes, frameDrawCalls, samples);
+        out.flush();
+        return report.toString();
+    }
+
+    private static void printRow(PrintWriter out, String rowFormat, String name, long[] times, int[] calls,
+            int samples) {
+        long[] sortedTimes = Arrays.copyOf(times, samples);
+        int[] sortedCalls = Arrays.copyOf(calls, samples);
+        Arrays.sort(sortedTimes);
+        Arrays.sort(sortedCalls);
+        double total = 0;
+        for (long time : sortedTimes) {
+            total += time;
+        }
+        out.println(String.format(Locale.ROOT, rowFormat, name, percentile(sortedTimes, 0.5) / 1_000_000.0,
+                percentile(sortedTimes, 0.99) / 1_000_000.0, total / Math.max(1, samples) / 1_000_000.0,
+                sortedCalls.length == 0 ? 0 : sortedCalls[percentileIndex(sortedCalls.length, 0.5)],
+                sortedCalls.length == 0 ? 0 : sortedCalls[percentileIndex(sortedCalls.length, 0.99)]));
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted.length == 0 ? 0 : sorted[percentileIndex(sorted.length, fraction)];
+    }
+
+    private static int percentileIndex(int length, double fraction) {
+        return (int) Math.ceil(fraction * (length - 1));
+    }
+
+    private void writeReport() {
+        File file = new File(SaveLoadManager.CACHE_LOCATION,
+                "render_profile_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".csv");
+        file.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(file)) {
+            out.print(getReport());
+            System.out.println("Render profile written to " + file);
+        } catch (IOException e) {
+            System.err.println("Could not write render profile: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the time and calls since the last layer change to the innermost open
+     * layer
+     */
+    private void closeSegment(long now) {
+        if (openLayerCount > 0) {
+            int layer = openLayers[openLayerCount - 1].ordinal();
+            currentTimes[layer] += now - segmentStart;
+            currentDrawCalls[layer] += drawCalls - segmentDrawCalls;
+        }
+        segmentStart = now;
+        segmentDrawCalls = drawCalls;
+    }
+}
@@ -31,8 +31,8 @@ import javax.swing.JScrollPane;
 import javax.swing.JSlider;
 import javax.swing.JTabbedPane;
 import javax.swing.SwingConstants;
-import javax.swing.Timer;
 
+import home.frame.AnimationScheduler;
 import home.frame.GameFrame;
 import home.frame.SpaceButton;
 import home.frame.background.BackgroundArtist;
@@ -99,15 +99,14 @@ public class SettingsDialog {
             }
         };
 
-        // Add animation timer for background
-        Timer settingsAnimationTimer = new Timer(1000 / 60, e -> mainPanel.repaint());
-        settingsAnimationTimer.start();
+        // Animate the background while the dialog is up
+        AnimationScheduler.getInstance().register(mainPanel, 1000 / 60);
 
         // Stop animation when dialog is closed
         settingsDialog.addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosed(WindowEvent e) {
-                settingsAnimationTimer.stop();
+                AnimationScheduler.getInstance().unregister(mainPanel);
             }
         });
 
@@ -1,27 +1,141 @@
 package home.frame.gamemenu;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import home.game.Game;
+import home.game.GameClock;
 import home.game.GameConstants;
+import home.game.PaintCache;
+import home.game.ParticleLayer;
 import home.game.Projectile;
+import home.game.QualityGovernor;
 import home.game.Ship;
 import home.game.VisualSettings;
+import home.game.operators.Operator;
 import home.game.operators.player.Player;
 import home.game.planets.PlanetType;
 
 public class ShipArtist {
 
+    // Sprite atlas layout
+    private static final int HULL_SPRITE_SIZE = 48; // Fits the longest hull plus speed trails
+    private static final int THRUSTER_SPRITE_SIZE = 64; // Fits the longest flame behind the hull
+    private static final int MAX_FLAME_LENGTH = 22;
+    private static final int MAX_HULL_SETS = 64; // Hull type and colour combinations kept before starting over
+    private static final int OFF_SCREEN_MARGIN = 64; // Keeps packed coordinates positive
+    private static final Font FLEET_LABEL_FONT = new Font("Arial", Font.BOLD, 10);
+
     private List<Ship> ships;
     private List<Projectile> projectiles;
     private PlanetArtist planetArtist; // For accessing operator colors
     private Game game; // For accessing ability manager
+    private WorldCapture world = WorldCapture.LIVE;
+
+    // Prerendered ships, kept by the sprite source and drawn from by every artist
+    // that shares it. Baked in game pixels, so they are stretched with the scene
+    // when RENDER_SCALE is above 1.
+    private final ShipArtist spriteSource;
+    private SpriteAtlas ownAtlas; // Only used when this artist is its own sprite source
+    private SpriteAtlas atlas; // The source's atlas for the frame being drawn
+    private int shipRotations;
+
+    // Render-side culling and fleet clustering, rebuilt every frame. Clusters are
+    // pooled so crowded frames don't allocate.
+    private Rectangle visibleArea = new Rectangle();
+    private Set<Long> drawnSprites = new HashSet<>();
+    private Map<Long, FleetCluster> fleetClusters = new HashMap<>();
+    private List<FleetCluster> clusterPool = new ArrayList<>();
+    private int usedClusters;
+
+    /**
+     * Ships on the same route close enough to be drawn as one
+     */
+    private static class FleetCluster {
+        Ship leader; // Drawn for the whole fleet
+        int count;
+        long sumX;
+        long sumY;
+    }
+
+    // Projectile shapes gathered per colour each frame, kept to reuse their storage
+    private Map<Color, ProjectileBatch> projectileBatches = new HashMap<>();
+    private Map<Operator, ProjectileBatch> operatorBatches = new HashMap<>();
+    private Path2D.Float projectileCores = new Path2D.Float();
+    private Ellipse2D.Float projectileDot = new Ellipse2D.Float();
+
+    /**
+     * Everything drawn for the projectiles of one colour
+     */
+    private static class ProjectileBatch {
+        final Path2D.Float bodies = new Path2D.Float();
+        final Path2D.Float glows = new Path2D.Float();
+
+        boolean isEmpty() {
+            return bodies.getCurrentPoint() == null;
+        }
+
+        void reset() {
+            bodies.reset();
+            glows.reset();
+        }
+    }
+
+    /**
+     * Sprite atlas of one rotation count, one image per rotation bucket. Hulls
+     * are keyed by planet type and colour, thruster flames by flame length.
+     * Artists drawing bands of the same screen on different threads fill it
+     * without locking; two of them baking the same sprite at once make equal
+     * images and either one is kept.
+     */
+    private static class SpriteAtlas {
+        final int rotations;
+        final Map<Long, AtomicReferenceArray<BufferedImage>> hulls = new ConcurrentHashMap<>();
+        final AtomicReferenceArray<BufferedImage> thrusters;
+
+        SpriteAtlas(int rotations) {
+            this.rotations = rotations;
+            thrusters = new AtomicReferenceArray<>(rotations * (MAX_FLAME_LENGTH + 1));
+        }
+    }
 
     public ShipArtist(PlanetArtist planetArtist) {
+        this(planetArtist, null);
+    }
+
+    /**
+     * Creates an artist that draws from another artist's sprite atlas instead of
+     * baking its own, so artists drawing parts of the same screen on different
+     * threads share one set of sprites
+     */
+    public ShipArtist(PlanetArtist planetArtist, ShipArtist spriteSource) {
         this.planetArtist = planetArtist;
+        this.spriteSource = spriteSource != null ? spriteSource : this;
+    }
+
+    /**
+     * Draws from positions captured for the frame instead of the live objects
+     */
+    void setWorldCapture(WorldCapture world) {
+        this.world = world;
     }
 
     public void setShips(List<Ship> ships) {
@@ -46,36 +160,56 @@ public class ShipArtist {
         }
 
         // Enable anti-aliasing for smooth ship graphics
-        g.setRenderingHint(java.awt.RenderingHints.KEY_ANTIALIASING, java.awt.RenderingHints.VALUE_ANTIALIAS_ON);
+        QualityGovernor.getInstance().setAntialiasing(g);
+
+        atlas = spriteSource.getAtlas();
+        shipRotations = atlas.rotations;
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+
+        // Every thruster flickers in step, so the flame length only depends on speed
+        double flameIntensity = 0.7 + 0.3 * Math.sin(GameClock.currentTimeMillis() / 50.0);
+
+        // Crowded skies draw ships travelling together as one fleet glyph
+        boolean clustering = ships.size() > GameConstants.getFleetClusterThreshold();
+        int clusterRadius = GameConstants.getFleetClusterRadius();
+        updateVisibleArea(g, clustering ? 2 * clusterRadius : 0);
+        fleetClusters.clear();
+        usedClusters = 0;
+        drawnSprites.clear();
 
         // ships is already a snapshot created in GameMenu, so no need for additional
         // snapshotting
         for (Ship ship : ships) {
             try {
-                int shipX = ship.getX();
-                int shipY = ship.getY();
-                double direction = ship.getDirection();
-
-                // Determine ship color based on operator
-                Color shipColor;
-                if (ship.getOperator() instanceof Player) {
-                    shipColor = VisualSettings.getInstance().getPlayerShipColor();
-                } else {
-                    // Use planet color with .lighter() for bot ships
-                    Color baseColor = planetArtist.getOperatorColor(ship.getOperator());
-                    shipColor = baseColor.brighter();
+                int shipX = world.getX(ship);
+                int shipY = world.getY(ship);
+                if (isOffScreen(shipX, shipY)) {
+                    continue;
                 }
-
-                // Get planet type for ship design
-                PlanetType planetType = ship.getOrigin() != null ? ship.getOrigin().getType() : PlanetType.STANDARD;
-                drawSpaceship(g, shipX, shipY, direction, shipColor, ship.getHealth(), ship.getSpeed(), ship,
-                        planetType);
+                if (clustering && ship.getDestination() != null && addToFleet(ship, shipX, shipY, clusterRadius)) {
+                    continue;
+                }
+                drawShip(g, gc, ship, shipX, shipY, flameIntensity);
             } catch (Exception e) {
                 System.out.println("Error drawing ship: " + e.getMessage());
                 continue;
             }
         }
 
+        // Fleets of one are just ships
+        for (int i = 0; i < usedClusters; i++) {
+            FleetCluster fleet = clusterPool.get(i);
+            try {
+                if (fleet.count == 1) {
+                    drawShip(g, gc, fleet.leader, world.getX(fleet.leader), world.getY(fleet.leader), flameIntensity);
+                } else {
+                    drawFleet(g, gc, fleet, flameIntensity);
+                }
+            } catch (Exception e) {
+                System.out.println("Error drawing fleet: " + e.getMessage());
+            }
+        }
+
         // Render projectiles
         renderProjectiles(g);
 
@@ -84,10 +218,222 @@ public class ShipArtist {
     }
 
     /**
-     * Draws a spaceship with thrusters pointing in the given direction
+     * Draws a single ship, unless an identical ship was already drawn on the same
+     * spot this frame
+     */
+    private void drawShip(Graphics2D g, GraphicsConfiguration gc, Ship ship, int shipX, int shipY,
+            double flameIntensity) {
+        double direction = world.getDirection(ship);
+        Color shipColor = getShipColor(ship);
+
+        // Get planet type for ship design
+        PlanetType planetType = ship.getOrigin() != null ? ship.getOrigin().getType() : PlanetType.STANDARD;
+
+        // The sprite only depends on these, so a matching ship within a pixel would
+        // be drawn over exactly
+        long sprite = ((long) ((shipX + OFF_SCREEN_MARGIN) >> 1) << 50)
+                | ((long) ((shipY + OFF_SCREEN_MARGIN) >> 1) << 38)
+                | ((long) getRotationBucket(direction) << 28)
+                | ((long) planetType.ordinal() << 24)
+                | (shipColor.getRGB() & 0xFFFFFFL);
+        if (!drawnSprites.add(sprite)) {
+            return;
+        }
+        drawSpaceship(g, gc, shipX, shipY, direction, shipColor, ship.getSpeed(), flameIntensity, ship, planetType);
+    }
+
+    private Color getShipColor(Ship ship) {
+        // Determine ship color based on operator
+        if (ship.getOperator() instanceof Player) {
+            return VisualSettings.getInstance().getPlayerShipColor();
+        }
+        // Use planet color with .lighter() for bot ships
+        Color baseColor = planetArtist.getOperatorColor(ship.getOperator());
+        return baseColor.brighter();
+    }
+
+    /**
+     * Works out where ships can be seen this frame: the screen, narrowed to the
+     * clip when the scene is drawn in bands. The extra margin keeps every fleet
+     * that reaches into the clip whole, so bands on both sides of an edge group
+     * ships the same way.
+     */
+    private void updateVisibleArea(Graphics2D g, int fleetMargin) {
+        int left = -HULL_SPRITE_SIZE;
+        int top = -HULL_SPRITE_SIZE;
+        int right = GameConstants.getGameWidth() + HULL_SPRITE_SIZE;
+        int bottom = GameConstants.getGameHeight() + HULL_SPRITE_SIZE;
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            int margin = HULL_SPRITE_SIZE + fleetMargin;
+            left = Math.max(left, clip.x - margin);
+            top = Math.max(top, clip.y - margin);
+            right = Math.min(right, clip.x + clip.width + margin);
+            bottom = Math.min(bottom, clip.y + clip.height + margin);
+        }
+        visibleArea.setBounds(left, top, right - left, bottom - top);
+    }
+
+    private boolean isOffScreen(int x, int y) {
+        return x < visibleArea.x || y < visibleArea.y || x > visibleArea.x + visibleArea.width
+                || y > visibleArea.y + visibleArea.height;
+    }
+
+    /**
+     * Adds a travelling ship to the fleet for its route and neighbourhood
+     *
+     * @return false if the ship has to be drawn on its own
+     */
+    private boolean addToFleet(Ship ship, int x, int y, int clusterRadius) {
+        int cellX = (x + OFF_SCREEN_MARGIN) / clusterRadius;
+        int cellY = (y + OFF_SCREEN_MARGIN) / clusterRadius;
+        long route = System.identityHashCode(ship.getOrigin()) * 31L + System.identityHashCode(ship.getDestination());
+        long key = (route * 31 + System.identityHashCode(ship.getOperator())) << 24 | (long) cellX << 12 | cellY;
+
+        FleetCluster fleet = fleetClusters.get(key);
+        if (fleet == null) {
+            if (usedClusters == clusterPool.size()) {
+                clusterPool.add(new FleetCluster());
+            }
+            fleet = clusterPool.get(usedClusters++);
+            fleet.leader = ship;
+            fleet.count = 0;
+            fleet.sumX = 0;
+            fleet.sumY = 0;
+            fleetClusters.put(key, fleet);
+        } else if (fleet.leader.getOrigin() != ship.getOrigin() || fleet.leader.getDestination() != ship
+                .getDestination() || fleet.leader.getOperator() != ship.getOperator()) {
+            return false; // Different route with the same hash, not worth a second lookup
+        }
+        fleet.count++;
+        fleet.sumX += x;
+        fleet.sumY += y;
+        return true;
+    }
+
+    /**
+     * Draws a fleet as its leading ship at the fleet's centre with the number of
+     * ships beside it
+     */
+    private void drawFleet(Graphics2D g, GraphicsConfiguration gc, FleetCluster fleet, double flameIntensity) {
+        Ship leader = fleet.leader;
+        int x = (int) (fleet.sumX / fleet.count);
+        int y = (int) (fleet.sumY / fleet.count);
+        Color shipColor = getShipColor(leader);
+        PlanetType planetType = leader.getOrigin() != null ? leader.getOrigin().getType() : PlanetType.STANDARD;
+        drawSpaceship(g, gc, x, y, world.getDirection(leader), shipColor, leader.getSpeed(), flameIntensity, leader,
+                planetType);
+
+        // Count label
+        String label = Integer.toString(fleet.count);
+        g.setFont(FLEET_LABEL_FONT);
+        int labelWidth = g.getFontMetrics().stringWidth(label) + 6;
+        int labelX = x + 8;
+        int labelY = y - 16;
+        g.setColor(PaintCache.color(0, 0, 0, 170));
+        g.fillRoundRect(labelX, labelY, labelWidth, 13, 6, 6);
+        g.setColor(shipColor);
+        g.drawString(label, labelX + 3, labelY + 10);
+    }
+
+    /**
+     * Draws a spaceship with thrusters pointing in the given direction, blitting
+     * its hull and flame from the sprite atlas
+     */
+    private void drawSpaceship(Graphics2D g, GraphicsConfiguration gc, int x, int y, double direction, Color color,
+            double speed, double flameIntensity, Ship ship, PlanetType planetType) {
+        int rotation = getRotationBucket(direction);
+
+        BufferedImage hull = getHullSprite(gc, planetType, color, rotation);
+        g.drawImage(hull, x - HULL_SPRITE_SIZE / 2, y - HULL_SPRITE_SIZE / 2, null);
+
+        if (!QualityGovernor.getInstance().isReduced(QualityGovernor.Reduction.THRUSTER_FLAMES)) {
+            int thrusterLength = (int) (8 + (speed / 3)); // Thruster size based on speed
+            int flameLength = Math.max(0, Math.min(MAX_FLAME_LENGTH, (int) (thrusterLength * flameIntensity)));
+            BufferedImage thruster = getThrusterSprite(gc, rotation, flameLength);
+            g.drawImage(thruster, x - THRUSTER_SPRITE_SIZE / 2, y - THRUSTER_SPRITE_SIZE / 2, null);
+        }
+
+        // Draw unstoppable ships effect for player ships
+        if (VisualSettings.getInstance().isDisplayEffects() && ship.getOperator() instanceof Player && game != null) {
+            if (game.getAbilityManager().isUnstoppableShipsActive()) {
+                drawUnstoppableShipsEffect(g, x, y, direction);
+            }
+        }
+    }
+
+    /**
+     * Gets the atlas, a new one if the rotation count was reconfigured
+     */
+    private synchronized SpriteAtlas getAtlas() {
+        if (ownAtlas == null || ownAtlas.rotations != GameConstants.getShipSpriteRotations()) {
+            ownAtlas = new SpriteAtlas(GameConstants.getShipSpriteRotations());
+        }
+        return ownAtlas;
+    }
+
+    /**
+     * Gets the atlas rotation bucket closest to a direction
      */
-    private void drawSpaceship(Graphics2D g, int x, int y, double direction, Color color, int health, double speed,
-            Ship ship, PlanetType planetType) {
+    private int getRotationBucket(double direction) {
+        int bucket = (int) Math.round(direction / (2 * Math.PI) * shipRotations) % shipRotations;
+        return bucket < 0 ? bucket + shipRotations : bucket;
+    }
+
+    private double getBucketDirection(int rotation) {
+        return rotation * 2 * Math.PI / shipRotations;
+    }
+
+    /**
+     * Gets the hull sprite for a ship design, colour and rotation, rasterising it
+     * the first time it is needed
+     */
+    private BufferedImage getHullSprite(GraphicsConfiguration gc, PlanetType planetType, Color color, int rotation) {
+        long key = ((long) planetType.ordinal() << 32) | (color.getRGB() & 0xFFFFFFFFL);
+        AtomicReferenceArray<BufferedImage> rotations = atlas.hulls.get(key);
+        if (rotations == null) {
+            if (atlas.hulls.size() >= MAX_HULL_SETS) {
+                atlas.hulls.clear(); // Operator colours were reassigned many times, start over
+            }
+            rotations = atlas.hulls.computeIfAbsent(key, k -> new AtomicReferenceArray<>(shipRotations));
+        }
+        BufferedImage sprite = rotations.get(rotation);
+        if (sprite == null) {
+            sprite = gc.createCompatibleImage(HULL_SPRITE_SIZE, HULL_SPRITE_SIZE,
+                    Transparency.TRANSLUCENT);
+            Graphics2D spriteGraphics = sprite.createGraphics();
+            spriteGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            drawHull(spriteGraphics, HULL_SPRITE_SIZE / 2, HULL_SPRITE_SIZE / 2, getBucketDirection(rotation), color,
+                    planetType);
+            spriteGraphics.dispose();
+            rotations.set(rotation, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Gets the thruster sprite for a rotation and flame length. The lengths form
+     * the animation strip the flicker steps through.
+     */
+    private BufferedImage getThrusterSprite(GraphicsConfiguration gc, int rotation, int flameLength) {
+        int index = rotation * (MAX_FLAME_LENGTH + 1) + flameLength;
+        BufferedImage sprite = atlas.thrusters.get(index);
+        if (sprite == null) {
+            sprite = gc.createCompatibleImage(THRUSTER_SPRITE_SIZE, THRUSTER_SPRITE_SIZE, Transparency.TRANSLUCENT);
+            Graphics2D spriteGraphics = sprite.createGraphics();
+            spriteGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            drawThrusters(spriteGraphics, THRUSTER_SPRITE_SIZE / 2, THRUSTER_SPRITE_SIZE / 2,
+                    getBucketDirection(rotation), flameLength);
+            spriteGraphics.dispose();
+            atlas.thrusters.set(index, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Draws a ship hull and cockpit. Only used to fill the sprite atlas.
+     */
+    private void drawHull(Graphics2D g, int x, int y, double direction, Color color, PlanetType planetType) {
         // Calculate ship orientation vectors
         double cosDir = Math.cos(direction);
         double sinDir = Math.sin(direction);
@@ -111,27 +457,12 @@ public class ShipArtist {
                 break;
         }
 
-        // Draw thrusters
-        drawThrusters(g, x, y, direction, speed);
-
         // Draw cockpit/engine glow (universal for all ship types)
         g.setColor(Color.WHITE);
         int cockpitSize = 3;
         int cockpitX = (int) (x + cosDir * 4); // Standard cockpit position
         int cockpitY = (int) (y + sinDir * 4);
         g.fillOval(cockpitX - cockpitSize / 2, cockpitY - cockpitSize / 2, cockpitSize, cockpitSize);
-
-        // Draw health indicator (small bar below ship)
-        if (health > 0) {
-            // drawHealthBar(g, x, y, health, 100); // Assuming max health is 100
-        }
-
-        // Draw unstoppable ships effect for player ships
-        if (VisualSettings.getInstance().isDisplayEffects() && ship.getOperator() instanceof Player && game != null) {
-            if (game.getAbilityManager().isUnstoppableShipsActive()) {
-                drawUnstoppableShipsEffect(g, x, y, direction);
-            }
-        }
     }
 
     /**
@@ -304,7 +635,7 @@ public class ShipArtist {
         drawShipWithShadow(g, shipBodyX, shipBodyY, color);
 
         // Add speed lines/trails
-        g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 100));
+        g.setColor(PaintCache.withAlpha(color, 100));
         for (int i = 1; i <= 3; i++) {
             int trailStartX = (int) (x - cosDir * (shipLength / 2 + i * 3));
             int trailStartY = (int) (y - sinDir * (shipLength / 2 + i * 3));
@@ -334,7 +665,7 @@ public class ShipArtist {
 
         // Draw ship highlight
         g.setColor(color.brighter());
-        g.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, 0.7f));
+        g.setComposite(PaintCache.composite(0.7f));
 
         // Highlight on the front part (first 3 points typically form the front)
         int highlightPoints = Math.min(3, shipBodyX.length);
@@ -346,7 +677,7 @@ public class ShipArtist {
         }
         g.fillPolygon(new Polygon(highlightX, highlightY, highlightPoints));
 
-        g.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, 1.0f));
+        g.setComposite(PaintCache.composite(1.0f));
 
         // Draw ship outline
         g.setColor(color.darker());
@@ -355,11 +686,11 @@ public class ShipArtist {
 
     private void drawUnstoppableShipsEffect(Graphics2D g, int x, int y, double direction) {
         // Golden energy aura around the ship
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
 
         // Pulsing golden aura
         float alpha = 0.5f + 0.3f * (float) Math.sin(currentTime * 0.01);
-        g.setColor(new Color(255, 215, 0, (int) (alpha * 255))); // Gold color
+        g.setColor(PaintCache.color(255, 215, 0, (int) (alpha * 255))); // Gold color
 
         // Draw expanding energy rings
         for (int ring = 0; ring < 3; ring++) {
@@ -367,7 +698,12 @@ public class ShipArtist {
             g.drawOval(x - ringSize / 2, y - ringSize / 2, ringSize, ringSize);
         }
 
+        if (QualityGovernor.getInstance().isReduced(QualityGovernor.Reduction.EFFECT_PARTICLES)) {
+            return;
+        }
+
         // Draw energy sparks around the ship
+        ParticleLayer particleLayer = ParticleLayer.getInstance();
         for (int i = 0; i < 8; i++) {
             double sparkAngle = (currentTime * 0.005) + (i * Math.PI / 4);
             int sparkDistance = 15 + (int) (3 * Math.sin(currentTime * 0.01 + i));
@@ -375,38 +711,29 @@ public class ShipArtist {
             int sparkX = x + (int) (sparkDistance * Math.cos(sparkAngle));
             int sparkY = y + (int) (sparkDistance * Math.sin(sparkAngle));
 
-            g.setColor(new Color(255, 255, 150, (int) (alpha * 200)));
-            g.fillOval(sparkX - 1, sparkY - 1, 2, 2);
+            particleLayer.splat(sparkX, sparkY, 0xFFFF96, alpha * 200 / 255, 2);
         }
     }
 
     /**
-     * Draws animated thrusters behind the ship
+     * Draws thrusters behind the ship with the given flame length. Only used to
+     * fill the sprite atlas.
      */
-    private void drawThrusters(Graphics2D g, int x, int y, double direction, double speed) {
+    private void drawThrusters(Graphics2D g, int x, int y, double direction, int animatedLength) {
         // Calculate thruster positions
         double cosDir = Math.cos(direction);
         double sinDir = Math.sin(direction);
         double perpCosDir = Math.cos(direction + Math.PI / 2);
         double perpSinDir = Math.sin(direction + Math.PI / 2);
 
-        int thrusterLength = (int) (8 + (speed / 3)); // Thruster size based on speed
         int thrusterWidth = 4;
 
         // Main thruster (center)
         int thrusterBackX = (int) (x - cosDir * 8);
         int thrusterBackY = (int) (y - sinDir * 8);
 
-        int thrusterEndX = (int) (thrusterBackX - cosDir * thrusterLength);
-        int thrusterEndY = (int) (thrusterBackY - sinDir * thrusterLength);
-
-        // Animate thruster flame
-        long currentTime = System.currentTimeMillis();
-        double flameIntensity = 0.7 + 0.3 * Math.sin(currentTime / 50.0);
-        int animatedLength = (int) (thrusterLength * flameIntensity);
-
-        thrusterEndX = (int) (thrusterBackX - cosDir * animatedLength);
-        thrusterEndY = (int) (thrusterBackY - sinDir * animatedLength);
+        int thrusterEndX = (int) (thrusterBackX - cosDir * animatedLength);
+        int thrusterEndY = (int) (thrusterBackY - sinDir * animatedLength);
 
         // Draw thruster flame with gradient effect
         drawThrusterFlame(g, thrusterBackX, thrusterBackY, thrusterEndX, thrusterEndY, perpCosDir, perpSinDir,
@@ -456,11 +783,11 @@ public class ShipArtist {
         // Draw flame layers for glow effect
 
         // Outer flame (orange/red)
-        g.setColor(new Color(255, 100, 0, 180));
+        g.setColor(PaintCache.color(255, 100, 0, 180));
         g.fillPolygon(new Polygon(flameX, flameY, 4));
 
         // Inner flame (yellow/white)
-        g.setColor(new Color(255, 200, 0, 200));
+        g.setColor(PaintCache.color(255, 200, 0, 200));
         // Make inner flame slightly smaller
         for (int i = 0; i < 2; i++) {
             flameX[i] = (int) (flameX[i] * 0.7 + endX * 0.3);
@@ -469,7 +796,7 @@ public class ShipArtist {
         g.fillPolygon(new Polygon(flameX, flameY, 4));
 
         // Core flame (bright white)
-        g.setColor(new Color(255, 255, 255, 150));
+        g.setColor(PaintCache.color(255, 255, 255, 150));
         for (int i = 0; i < 2; i++) {
             flameX[i] = (int) (flameX[i] * 0.5 + endX * 0.5);
             flameY[i] = (int) (flameY[i] * 0.5 + endY * 0.5);
@@ -504,7 +831,9 @@ public class ShipArtist {
     }
 
     /**
-     * Renders all active projectiles
+     * Renders all active projectiles. Projectiles are grouped by colour and each
+     * group is drawn as one shape, so the layer costs a few draw calls per colour
+     * rather than several per projectile.
      */
     private void renderProjectiles(Graphics2D g) {
         if (projectiles == null)
@@ -517,39 +846,59 @@ public class ShipArtist {
 
         // projectiles is already a snapshot created in GameMenu, so no need for
         // additional snapshotting
+        operatorBatches.clear();
+        projectileCores.reset();
         for (Projectile projectile : projectiles) {
             try {
-                if (projectile.isActive()) {
-                    drawProjectile(g, projectile);
+                if (world.isActive(projectile) && !isOffScreen(world.getX(projectile), world.getY(projectile))) {
+                    addProjectile(projectile);
                 }
             } catch (Exception e) {
                 System.out.println("Error drawing projectile: " + e.getMessage());
                 continue;
             }
         }
+
+        boolean displayGlow = VisualSettings.getInstance().isDisplayEffects();
+        Iterator<Map.Entry<Color, ProjectileBatch>> batches = projectileBatches.entrySet().iterator();
+        while (batches.hasNext()) {
+            Map.Entry<Color, ProjectileBatch> entry = batches.next();
+            ProjectileBatch batch = entry.getValue();
+            if (batch.isEmpty()) {
+                batches.remove(); // Nobody of this colour is firing any more
+                continue;
+            }
+            // Draw projectile glow effect
+            if (displayGlow) {
+                g.setColor(PaintCache.withAlpha(entry.getKey(), 100));
+                g.fill(batch.glows);
+            }
+            // Draw main projectile bodies
+            g.setColor(entry.getKey());
+            g.draw(batch.bodies);
+            batch.reset();
+        }
+
+        // Draw bright projectile cores, the same for everyone
+        g.setColor(Color.WHITE);
+        g.fill(projectileCores);
     }
 
     /**
-     * Draws a single projectile
+     * Adds a single projectile to the batch for its colour
      */
-    private void drawProjectile(Graphics2D g, Projectile projectile) {
-        int x = projectile.getX();
-        int y = projectile.getY();
-        double direction = projectile.getDirection();
-
-        // Determine projectile color based on source ship's operator
-        Color projectileColor;
-        if (projectile.getOperator() instanceof Player) {
-            projectileColor = VisualSettings.getInstance().getPlayerShipColor().brighter();
-        } else {
-            // Use planet color with .brighter() for projectiles
-            Color baseColor = planetArtist.getOperatorColor(projectile.getOperator());
-            projectileColor = baseColor.brighter().brighter(); // Extra bright for visibility
+    private void addProjectile(Projectile projectile) {
+        int x = world.getX(projectile);
+        int y = world.getY(projectile);
+        double direction = world.getDirection(projectile);
+
+        ProjectileBatch batch = operatorBatches.get(projectile.getOperator());
+        if (batch == null) {
+            batch = projectileBatches.computeIfAbsent(getProjectileColor(projectile.getOperator()),
+                    color -> new ProjectileBatch());
+            operatorBatches.put(projectile.getOperator(), batch);
         }
 
-        // Draw projectile body
-        g.setColor(projectileColor);
-
         // Calculate projectile dimensions
         int projectileLength = 8;
         int projectileWidth = 3;
@@ -563,20 +912,26 @@ public class ShipArtist {
         int frontY = (int) (y + sinDir * projectileLength / 2);
         int backX = (int) (x - cosDir * projectileLength / 2);
         int backY = (int) (y - sinDir * projectileLength / 2);
+        batch.bodies.moveTo(backX, backY);
+        batch.bodies.lineTo(frontX, frontY);
 
-        // Draw main projectile body
-        g.setColor(projectileColor);
-        g.drawLine(backX, backY, frontX, frontY);
+        projectileDot.setFrame(x - projectileWidth, y - projectileWidth, projectileWidth * 2, projectileWidth * 2);
+        batch.glows.append(projectileDot, false);
 
-        // Draw projectile glow effect
-        if (VisualSettings.getInstance().isDisplayEffects()) {
-            g.setColor(new Color(projectileColor.getRed(), projectileColor.getGreen(), projectileColor.getBlue(), 100));
-            g.fillOval(x - projectileWidth, y - projectileWidth, projectileWidth * 2, projectileWidth * 2);
-        }
+        projectileDot.setFrame(x - 1, y - 1, 2, 2);
+        projectileCores.append(projectileDot, false);
+    }
 
-        // Draw bright projectile core
-        g.setColor(Color.WHITE);
-        g.fillOval(x - 1, y - 1, 2, 2);
+    /**
+     * Determines projectile color based on source ship's operator
+     */
+    private Color getProjectileColor(Operator operator) {
+        if (operator instanceof Player) {
+            return VisualSettings.getInstance().getPlayerShipColor().brighter();
+        }
+        // Use planet color with .brighter() for projectiles
+        Color baseColor = planetArtist.getOperatorColor(operator);
+        return baseColor.brighter().brighter(); // Extra bright for visibility
     }
 
     public Ship findShipAt(int x, int y) {
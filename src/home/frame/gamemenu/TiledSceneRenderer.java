@@ -0,0 +1,246 @@
+package home.frame.gamemenu;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import home.game.Explosion;
+import home.game.Game;
+import home.game.GameConstants;
+import home.game.ParticleLayer;
+import home.game.Projectile;
+import home.game.Ship;
+import home.game.planets.Planet;
+
+/**
+ * Draws the world layers of the game screen (planets, incoming pressure,
+ * ability effects, ships and explosions) on several cores.
+ *
+ * The screen is split into horizontal bands. Every band has its own artists and
+ * its own image, and draws the same capture of the world clipped to itself on
+ * a shared ForkJoin pool, with the render thread drawing the first band. The
+ * artists leave out what lies outside their clip, so each band mostly pays for
+ * its own part of the screen. The band images are then drawn over the frame
+ * top to bottom. Bands are split in output pixels and drawn at the scale the
+ * scene is drawn at, so they line up with the rest of the frame at any render
+ * scale.
+ *
+ * The engine keeps ticking while the bands draw, so positions, headings, depths
+ * and moon angles are captured once on the render thread when the world is set
+ * and every band draws from that {@link WorldCapture}. Health, ability state and
+ * animations that follow the clock are still read live and can move on between
+ * bands by a tick.
+ *
+ * The band artists only keep what they work out for the frame. Baked sprites,
+ * planet layers and effect strips are the screen artists' own, filled by
+ * whichever band needs an image first. Bot colours are assigned by the screen's
+ * planet artist before the bands start, and the bands only read them. Particles
+ * are added by the band that holds their center.
+ *
+ * Used from the render thread.
+ */
+public class TiledSceneRenderer {
+
+    private static ForkJoinPool pool;
+
+    private final Game game;
+    private final PlanetArtist planetArtist;
+    private final ShipArtist shipArtist;
+    private final EffectsArtist effectsArtist;
+    private Band[] bands = new Band[0];
+    private double bandScale;
+    private final List<ForkJoinTask<?>> pendingBands = new ArrayList<>();
+
+    private List<Planet> planets;
+    private List<Ship> ships;
+    private List<Projectile> projectiles;
+    private List<Explosion> explosions;
+    private final WorldCapture capture = new WorldCapture();
+    private Planet hoveredPlanet, clickedPlanet, selectedPlanet;
+
+    /**
+     * Takes the screen's artists, which assign the bot colours and keep the baked
+     * images the bands draw from
+     */
+    public TiledSceneRenderer(Game game, PlanetArtist planetArtist, ShipArtist shipArtist,
+            EffectsArtist effectsArtist) {
+        this.game = game;
+        this.planetArtist = planetArtist;
+        this.shipArtist = shipArtist;
+        this.effectsArtist = effectsArtist;
+    }
+
+    /**
+     * Sets the lists to draw and captures where everything in them is now
+     */
+    public void setWorld(List<Planet> planets, List<Ship> ships, List<Projectile> projectiles,
+            List<Explosion> explosions) {
+        capture.capture(planets, ships, projectiles);
+        this.planets = planets;
+        this.ships = ships;
+        this.projectiles = projectiles;
+        this.explosions = explosions;
+    }
+
+    public void setHighlights(Planet hoveredPlanet, Planet clickedPlanet, Planet selectedPlanet) {
+        this.hoveredPlanet = hoveredPlanet;
+        this.clickedPlanet = clickedPlanet;
+        this.selectedPlanet = selectedPlanet;
+    }
+
+    /**
+     * Draws the world into graphics in game coordinates, at the resolution the
+     * graphics are scaled to
+     */
+    public void render(Graphics2D g) {
+        if (planets == null) {
+            return;
+        }
+        double scale = g.getTransform().getScaleY();
+        updateBands(scale);
+
+        // Assign any new bot colours here, the bands can only read them
+        for (Planet planet : planets) {
+            planetArtist.getOperatorColor(planet.getOperator());
+        }
+        for (Ship ship : ships) {
+            planetArtist.getOperatorColor(ship.getOperator());
+        }
+        for (Projectile projectile : projectiles) {
+            planetArtist.getOperatorColor(projectile.getOperator());
+        }
+
+        ForkJoinPool bandPool = getPool();
+        pendingBands.clear();
+        for (int i = 1; i < bands.length; i++) {
+            pendingBands.add(bandPool.submit(bands[i]::render));
+        }
+        bands[0].render();
+        for (ForkJoinTask<?> band : pendingBands) {
+            band.join();
+        }
+
+        // The band images are in output pixels, draw them one to one
+        AffineTransform transform = g.getTransform();
+        g.scale(1 / scale, 1 / scale);
+        for (Band band : bands) {
+            g.drawImage(band.image, 0, band.imageTop, null);
+        }
+        g.setTransform(transform);
+    }
+
+    /**
+     * Creates the bands, again if the band count, game size or scale changed
+     */
+    private void updateBands(double scale) {
+        int width = GameConstants.getGameWidth();
+        int height = GameConstants.getGameHeight();
+        int bandCount = GameConstants.getRenderBands();
+        int imageWidth = (int) Math.ceil(width * scale);
+        int imageHeight = (int) Math.ceil(height * scale);
+        if (bands.length == bandCount && bandScale == scale && bands[0].image.getWidth() == imageWidth
+                && bands[bandCount - 1].imageTop + bands[bandCount - 1].image.getHeight() == imageHeight) {
+            return;
+        }
+        bandScale = scale;
+        bands = new Band[bandCount];
+        for (int i = 0; i < bandCount; i++) {
+            int imageTop = imageHeight * i / bandCount;
+            int imageBottom = imageHeight * (i + 1) / bandCount;
+            // Rows of the game each band owns for particles, the bands share their edges so none is owned twice
+            int top = i == 0 ? 0 : (int) Math.floor(imageTop / scale);
+            int bottom = i == bandCount - 1 ? height : (int) Math.floor(imageBottom / scale);
+            bands[i] = new Band(imageTop, imageWidth, imageBottom - imageTop, top, bottom, scale);
+        }
+    }
+
+    private static synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            // The render thread draws a band itself
+            int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("Scene Band " + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    /**
+     * One horizontal strip of the screen with the artists that draw it
+     */
+    private class Band {
+        private final int imageTop; // Output pixel row of the image's first row
+        private final BufferedImage image;
+        private final int[] pixels;
+        private final int top; // Game rows [top, bottom) the band owns
+        private final int bottom;
+        private final double scale;
+        private final PlanetArtist bandPlanetArtist;
+        private final ShipArtist bandShipArtist;
+        private final EffectsArtist bandEffectsArtist;
+        private final IncomingPressureRenderer incomingPressureRenderer;
+
+        Band(int imageTop, int width, int height, int top, int bottom, double scale) {
+            this.imageTop = imageTop;
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+            pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            this.top = top;
+            this.bottom = bottom;
+            this.scale = scale;
+            bandPlanetArtist = new PlanetArtist(planetArtist);
+            bandPlanetArtist.setWorldCapture(capture);
+            bandShipArtist = new ShipArtist(bandPlanetArtist, shipArtist);
+            bandShipArtist.setGame(game);
+            bandShipArtist.setWorldCapture(capture);
+            bandEffectsArtist = new EffectsArtist(game, effectsArtist);
+            bandEffectsArtist.setWorldCapture(capture);
+            incomingPressureRenderer = new IncomingPressureRenderer(game);
+            incomingPressureRenderer.setWorldCapture(capture);
+        }
+
+        void render() {
+            Arrays.fill(pixels, 0);
+            ParticleLayer particleLayer = ParticleLayer.getInstance();
+            particleLayer.setBand(top, bottom);
+            Graphics2D g = image.createGraphics();
+            try {
+                // Draw in game coordinates, clipped to the band
+                g.translate(0, -imageTop);
+                g.scale(scale, scale);
+                g.clip(new Rectangle2D.Double(0, imageTop / scale, image.getWidth() / scale,
+                        image.getHeight() / scale));
+
+                bandPlanetArtist.setPlanets(planets);
+                bandPlanetArtist.setHoveredPlanet(hoveredPlanet);
+                bandPlanetArtist.setClickedPlanet(clickedPlanet);
+                bandPlanetArtist.setSelectedPlanet(selectedPlanet);
+                bandPlanetArtist.renderPlanets(g);
+                incomingPressureRenderer.renderIncomingPressure(g, planets);
+                bandEffectsArtist.renderAbilityEffects(g);
+
+                bandShipArtist.setShips(ships);
+                bandShipArtist.setProjectiles(projectiles);
+                bandShipArtist.renderShips(g);
+
+                for (Explosion explosion : explosions) {
+                    explosion.render(g);
+                }
+            } catch (Exception e) {
+                System.out.println("Error drawing scene band: " + e.getMessage());
+            } finally {
+                g.dispose();
+                particleLayer.clearBand();
+            }
+        }
+    }
+}
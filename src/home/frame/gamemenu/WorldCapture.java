@@ -0,0 +1,165 @@
+package home.frame.gamemenu;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import home.game.GameConstants;
+import home.game.Projectile;
+import home.game.Ship;
+import home.game.planets.Moon;
+import home.game.planets.Planet;
+
+/**
+ * Where everything in the world is for one frame.
+ *
+ * The engine keeps ticking while a frame is drawn. When the scene is drawn in
+ * bands on several threads, a band reading positions a moment after another
+ * could draw a ship on the edge between them at two places. The render thread
+ * captures positions, headings, depths and moon angles here before the bands
+ * start, and the band artists draw from the capture instead of the live
+ * objects. Anything that wasn't captured is read live, which is all
+ * {@link #LIVE} ever does.
+ *
+ * Captured on the render thread and read by the band threads started after it.
+ */
+class WorldCapture {
+
+    /**
+     * Captures nothing, for artists that draw the world as it is
+     */
+    static final WorldCapture LIVE = new WorldCapture();
+
+    private final Map<Object, Pose> poses = new IdentityHashMap<>();
+    private final List<Pose> pool = new ArrayList<>();
+    private int usedPoses;
+
+    /**
+     * Reads everything the artists need from the world's objects, replacing the
+     * previous capture
+     */
+    void capture(List<Planet> planets, List<Ship> ships, List<Projectile> projectiles) {
+        poses.clear();
+        usedPoses = 0;
+        for (Planet planet : planets) {
+            Pose pose = nextPose(planet);
+            pose.x = planet.getX();
+            pose.y = planet.getY();
+            pose.angle = planet.getRotationAngle();
+            pose.depthScale = planet.getDepthScale();
+            pose.zIndex = planet.getZIndex();
+            for (Moon moon : planet.getFeatures().getMoons()) {
+                nextPose(moon).angle = moon.currentAngle;
+            }
+        }
+        for (Ship ship : ships) {
+            Pose pose = nextPose(ship);
+            pose.x = ship.getX();
+            pose.y = ship.getY();
+            pose.angle = ship.getDirection();
+        }
+        for (Projectile projectile : projectiles) {
+            Pose pose = nextPose(projectile);
+            pose.x = projectile.getX();
+            pose.y = projectile.getY();
+            pose.angle = projectile.getDirection();
+            pose.active = projectile.isActive();
+        }
+    }
+
+    int getX(Planet planet) {
+        Pose pose = get(planet);
+        return pose != null ? pose.x : planet.getX();
+    }
+
+    int getY(Planet planet) {
+        Pose pose = get(planet);
+        return pose != null ? pose.y : planet.getY();
+    }
+
+    double getRotationAngle(Planet planet) {
+        Pose pose = get(planet);
+        return pose != null ? pose.angle : planet.getRotationAngle();
+    }
+
+    double getDepthScale(Planet planet) {
+        Pose pose = get(planet);
+        return pose != null ? pose.depthScale : planet.getDepthScale();
+    }
+
+    double getActualRadius(Planet planet) {
+        return GameConstants.getPlanetSize() * getDepthScale(planet) / 2.0;
+    }
+
+    double getZIndex(Planet planet) {
+        Pose pose = get(planet);
+        return pose != null ? pose.zIndex : planet.getZIndex();
+    }
+
+    double getAngle(Moon moon) {
+        Pose pose = get(moon);
+        return pose != null ? pose.angle : moon.currentAngle;
+    }
+
+    int getX(Ship ship) {
+        Pose pose = get(ship);
+        return pose != null ? pose.x : ship.getX();
+    }
+
+    int getY(Ship ship) {
+        Pose pose = get(ship);
+        return pose != null ? pose.y : ship.getY();
+    }
+
+    double getDirection(Ship ship) {
+        Pose pose = get(ship);
+        return pose != null ? pose.angle : ship.getDirection();
+    }
+
+    int getX(Projectile projectile) {
+        Pose pose = get(projectile);
+        return pose != null ? pose.x : projectile.getX();
+    }
+
+    int getY(Projectile projectile) {
+        Pose pose = get(projectile);
+        return pose != null ? pose.y : projectile.getY();
+    }
+
+    double getDirection(Projectile projectile) {
+        Pose pose = get(projectile);
+        return pose != null ? pose.angle : projectile.getDirection();
+    }
+
+    boolean isActive(Projectile projectile) {
+        Pose pose = get(projectile);
+        return pose != null ? pose.active : projectile.isActive();
+    }
+
+    private Pose get(Object object) {
+        return poses.isEmpty() ? null : poses.get(object);
+    }
+
+    private Pose nextPose(Object object) {
+        if (usedPoses == pool.size()) {
+            pool.add(new Pose());
+        }
+        Pose pose = pool.get(usedPoses++);
+        poses.put(object, pose);
+        return pose;
+    }
+
+    /**
+     * What was read from one object. Angle is a planet's rotation, a moon's
+     * orbit position or a ship's or projectile's heading.
+     */
+    private static class Pose {
+        int x;
+        int y;
+        double angle;
+        double depthScale;
+        double zIndex;
+        boolean active;
+    }
+}
@@ -5,6 +5,7 @@ import java.awt.*;
 
 import home.game.GameConstants;
 import home.game.operators.Difficulty;
+import home.frame.AnimationScheduler;
 import home.frame.GameFrame;
 import home.frame.SpaceButton;
 import home.frame.background.BackgroundArtist;
@@ -14,9 +15,6 @@ public class MainMenu extends JPanel {
     private BackgroundArtist backgroundArtist;
     private GameFrame frame;
 
-    // Animation variables
-    private Timer animationTimer;
-
     public MainMenu(GameFrame frame) {
         this.frame = frame;
         this.backgroundArtist = new BackgroundArtist();
@@ -166,10 +164,7 @@ public class MainMenu extends JPanel {
     }
 
     private void startAnimation() {
-        animationTimer = new Timer(50, e -> {
-            repaint();
-        });
-        animationTimer.start();
+        AnimationScheduler.getInstance().register(this, 50);
     }
 
     @Override
@@ -188,8 +183,6 @@ public class MainMenu extends JPanel {
 
     // Stop animation when component is removed
     public void cleanup() {
-        if (animationTimer != null) {
-            animationTimer.stop();
-        }
+        AnimationScheduler.getInstance().unregister(this);
     }
 }
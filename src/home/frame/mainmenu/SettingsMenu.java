@@ -31,8 +31,8 @@ import javax.swing.JSlider;
 import javax.swing.JTabbedPane;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
-import javax.swing.Timer;
 
+import home.frame.AnimationScheduler;
 import home.frame.GameFrame;
 import home.frame.SpaceButton;
 import home.frame.background.BackgroundArtist;
@@ -48,7 +48,6 @@ public class SettingsMenu extends JPanel {
     private VisualSettings settings;
 
     // Animation variables
-    private Timer animationTimer;
 
     // UI Components
     private JCheckBox connectionLinesCheckBox;
@@ -775,10 +774,7 @@ public class SettingsMenu extends JPanel {
     }
 
     private void startAnimation() {
-        animationTimer = new Timer(50, e -> {
-            repaint();
-        });
-        animationTimer.start();
+        AnimationScheduler.getInstance().register(this, 50);
     }
 
     @Override
@@ -797,8 +793,6 @@ public class SettingsMenu extends JPanel {
 
     // Stop animation when component is removed
     public void cleanup() {
-        if (animationTimer != null) {
-            animationTimer.stop();
-        }
+        AnimationScheduler.getInstance().unregister(this);
     }
 }
\ No newline at end of file
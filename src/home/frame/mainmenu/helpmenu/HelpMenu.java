@@ -19,9 +19,9 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
-import javax.swing.Timer;
 import javax.swing.ToolTipManager;
 
+import home.frame.AnimationScheduler;
 import home.frame.GameFrame;
 import home.frame.SpaceButton;
 import home.frame.background.BackgroundArtist;
@@ -34,11 +34,11 @@ public class HelpMenu extends JPanel {
 
     private BackgroundArtist backgroundArtist;
     private GameFrame frame;
-    private Timer animationTimer;
 
     // Content management
     private JScrollPane scrollPane;
     private JPanel contentPanel;
+    private WalkthroughPanel walkthroughPanel; // Animated demo of the walkthrough section, null when not shown
 
     // Section buttons
     private List<SpaceButton> sectionButtons;
@@ -209,6 +209,7 @@ public class HelpMenu extends JPanel {
     }
 
     private void showSection(String section) {
+        cleanupWalkthrough();
         contentPanel.removeAll();
 
         switch (section) {
@@ -334,6 +335,7 @@ public class HelpMenu extends JPanel {
         addBullet("ESC: Cancel targeting operations and pause game");
         addBullet("P: Pause/Resume game");
         addBullet("TAB: Toggle targeting line visibility");
+        addBullet("F3: Toggle the render profiler overlay, F4: Save its report");
 
         addSubtitle("⚡ Ability Keybinds");
         addText("Activate abilities instantly with customizable keybinds:");
@@ -361,7 +363,7 @@ public class HelpMenu extends JPanel {
         addText("Follow along with this step-by-step demonstration of a typical Planet Conquest game from start to victory!");
 
         // Create an interactive walkthrough panel
-        WalkthroughPanel walkthroughPanel = new WalkthroughPanel();
+        walkthroughPanel = new WalkthroughPanel();
         walkthroughPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 400));
         walkthroughPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         contentPanel.add(walkthroughPanel);
@@ -818,8 +820,7 @@ public class HelpMenu extends JPanel {
     }
 
     private void startAnimation() {
-        animationTimer = new Timer(50, e -> repaint());
-        animationTimer.start();
+        AnimationScheduler.getInstance().register(this, 50);
     }
 
     @Override
@@ -836,8 +837,14 @@ public class HelpMenu extends JPanel {
     }
 
     public void cleanup() {
-        if (animationTimer != null) {
-            animationTimer.stop();
+        AnimationScheduler.getInstance().unregister(this);
+        cleanupWalkthrough();
+    }
+
+    private void cleanupWalkthrough() {
+        if (walkthroughPanel != null) {
+            walkthroughPanel.cleanup();
+            walkthroughPanel = null;
         }
     }
 
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
-import javax.swing.Timer;
 
 import java.awt.Dimension;
 import java.awt.Color;
@@ -16,10 +15,10 @@ import java.awt.RenderingHints;
 import java.awt.BorderLayout;
 import java.awt.FlowLayout;
 
+import home.frame.AnimationScheduler;
 import home.frame.SpaceButton;
 
 public class WalkthroughPanel extends JPanel {
-    private Timer demoTimer;
     private int currentStep = 0;
     private float animationProgress = 0.0f;
     private final int totalSteps = 8;
@@ -75,13 +74,11 @@ public class WalkthroughPanel extends JPanel {
     }
 
     private void setupDemoTimer() {
-        demoTimer = new Timer(50, e -> {
+        AnimationScheduler.getInstance().register(this, 50, () -> {
             if (!isPaused) {
                 updateDemo();
-                repaint();
             }
         });
-        demoTimer.start();
     }
 
     private void updateDemo() {
@@ -240,8 +237,6 @@ public class WalkthroughPanel extends JPanel {
 
     // Cleanup when panel is destroyed
     public void cleanup() {
-        if (demoTimer != null) {
-            demoTimer.stop();
-        }
+        AnimationScheduler.getInstance().unregister(this);
     }
 }
@@ -17,9 +17,9 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.SwingConstants;
-import javax.swing.Timer;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 
+import home.frame.AnimationScheduler;
 import home.frame.CoinIcon;
 import home.frame.GameFrame;
 import home.frame.SpaceButton;
@@ -46,7 +46,6 @@ public class ShopMenu extends JPanel {
     private SpaceButton abilitiesTabButton;
 
     // Animation variables
-    private Timer animationTimer;
 
     public ShopMenu(GameFrame frame) {
         this.frame = frame;
@@ -545,8 +544,7 @@ public class ShopMenu extends JPanel {
     }
 
     private void startAnimation() {
-        animationTimer = new Timer(50, e -> repaint());
-        animationTimer.start();
+        AnimationScheduler.getInstance().register(this, 50);
     }
 
     @Override
@@ -565,8 +563,6 @@ public class ShopMenu extends JPanel {
 
     // Stop animation when component is removed
     public void cleanup() {
-        if (animationTimer != null) {
-            animationTimer.stop();
-        }
+        AnimationScheduler.getInstance().unregister(this);
     }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package home.game;
 
 public class Engine {
 
-    private boolean paused, gameOver;
+    private volatile boolean paused, gameOver;
+    private volatile boolean idle; // Parked without being paused, while nobody is watching
+    private final Object parkLock = new Object();
     private int ticksPerSecond = GameConstants.getTargetTPS();
     private boolean slowMode = false;
     private long lastTickTime;
@@ -24,12 +26,8 @@ public class Engine {
         gameThread = new Thread(() -> {
             lastTickTime = System.currentTimeMillis();
             while (!gameOver) {
-                if (paused) {
-                    try {
-                        Thread.sleep(GameConstants.getPauseSleepInterval()); // Sleep while paused
-                    } catch (InterruptedException e) {
-                        System.out.println("Engine thread interrupted");
-                    }
+                if (paused || idle) {
+                    park();
                     continue;
                 }
                 long currentTime = System.currentTimeMillis();
@@ -48,8 +46,32 @@ public class Engine {
         gameThread.start();
     }
 
+    /**
+     * Waits without waking up until the engine is resumed, leaves idle or is
+     * stopped
+     */
+    private void park() {
+        synchronized (parkLock) {
+            while ((paused || idle) && !gameOver) {
+                try {
+                    parkLock.wait();
+                } catch (InterruptedException e) {
+                    System.out.println("Engine thread interrupted");
+                }
+            }
+        }
+    }
+
+    private void unpark() {
+        synchronized (parkLock) {
+            parkLock.notifyAll();
+        }
+    }
+
     public void stop() {
         gameOver = true;
+        setIdle(false); // Don't leave game time held for the next game
+        unpark();
         if (gameThread != null) {
             try {
                 System.out.println("Waiting for engine thread to stop...");
@@ -75,6 +97,29 @@ public class Engine {
 
     public void resume() {
         this.paused = false;
+        unpark();
+    }
+
+    public boolean isIdle() {
+        return idle;
+    }
+
+    /**
+     * Stops or restarts ticking without pausing the game. Game time is held
+     * while idle, so nothing times out in the meantime. Going idle does nothing
+     * once the engine was stopped, nothing would release the clock again.
+     */
+    public synchronized void setIdle(boolean idle) {
+        if (this.idle == idle || (idle && gameOver)) {
+            return;
+        }
+        this.idle = idle;
+        if (idle) {
+            GameClock.hold();
+        } else {
+            GameClock.release();
+            unpark();
+        }
     }
 
     public void enableSlowMode() {
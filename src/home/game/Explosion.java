@@ -1,19 +1,28 @@
 package home.game;
 
-import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.RadialGradientPaint;
 import java.awt.RenderingHints;
-import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
 
 public class Explosion {
 
+    private static final int SPRITE_MARGIN = 4; // Room around the largest layer for anti-aliasing
+    private static final int SPARK_COUNT = 16;
+    private static final double SPARK_LIFETIME = 0.6; // Fraction of the explosion sparks stay visible for
+
+    // Baked frames per explosion type, with all layers and with the outer layer only. Game
+    // sized, not render scaled.
+    private static final BufferedImage[][][] spriteSheets = new BufferedImage[ExplosionType.values().length][2][];
+
     private double x;
     private double y;
     private long startTime;
     private long duration; // Duration in milliseconds
     private boolean isActive;
+    private boolean sparksEmitted;
+    private final long sparkSeed; // Drawn on the engine thread, the sparks are emitted by whichever thread draws
     private ExplosionType type;
 
     // Different explosion types for different destruction causes
@@ -25,11 +34,13 @@ public class Explosion {
         private final long duration;
         private final int maxRadius;
         private final Color[] colors;
+        private final float[] fractions;
 
         ExplosionType(long duration, int maxRadius, Color[] colors) {
             this.duration = duration;
             this.maxRadius = maxRadius;
             this.colors = colors;
+            this.fractions = createFractions(colors.length);
         }
 
         public long getDuration() {
@@ -43,19 +54,35 @@ public class Explosion {
         public Color[] getColors() {
             return colors;
         }
+
+        public float[] getFractions() {
+            return fractions;
+        }
+
+        /**
+         * Creates even distribution of gradient fractions
+         */
+        private static float[] createFractions(int colorCount) {
+            float[] fractions = new float[colorCount];
+            for (int i = 0; i < colorCount; i++) {
+                fractions[i] = (float) i / (colorCount - 1);
+            }
+            return fractions;
+        }
     }
 
     public Explosion(double x, double y, ExplosionType type) {
         this.x = x;
         this.y = y;
         this.type = type;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = GameClock.currentTimeMillis();
         this.duration = type.getDuration();
         this.isActive = true;
+        this.sparkSeed = GameRandom.get().nextLong();
     }
 
     public void tick() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         if (currentTime - startTime >= duration) {
             isActive = false;
         }
@@ -65,7 +92,7 @@ public class Explosion {
         if (!isActive)
             return;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         long elapsed = currentTime - startTime;
         double progress = (double) elapsed / duration; // 0.0 to 1.0
 
@@ -74,116 +101,121 @@ public class Explosion {
             return;
         }
 
-        // Enable high-quality rendering
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        // Sparks fly off on their own in the particle layer, sent by whoever draws the center
+        QualityGovernor governor = QualityGovernor.getInstance();
+        ParticleLayer particles = ParticleLayer.getInstance();
+        if (particles.owns(y) && !sparksEmitted) {
+            sparksEmitted = true;
+            if (!governor.isReduced(QualityGovernor.Reduction.EFFECT_PARTICLES)) {
+                emitSparks(particles, progress);
+            }
+        }
+
+        // Pick the baked frame for this point of the explosion
+        boolean allLayers = !governor.isReduced(QualityGovernor.Reduction.EXPLOSION_LAYERS);
+        BufferedImage[] frames = getSpriteSheet(type, allLayers);
+        BufferedImage frame = frames[Math.min(frames.length - 1, (int) (progress * frames.length))];
+        int half = frame.getWidth() / 2;
+        g.drawImage(frame, (int) Math.round(x) - half, (int) Math.round(y) - half, null);
+    }
+
+    /**
+     * Gets the baked frames of an explosion type, baking them on first use or when
+     * the frame count was reconfigured
+     */
+    private static synchronized BufferedImage[] getSpriteSheet(ExplosionType type, boolean allLayers) {
+        int variant = allLayers ? 0 : 1;
+        BufferedImage[] frames = spriteSheets[type.ordinal()][variant];
+        if (frames == null || frames.length != GameConstants.getExplosionSpriteFrames()) {
+            frames = bakeSpriteSheet(type, GameConstants.getExplosionSpriteFrames(), allLayers);
+            spriteSheets[type.ordinal()][variant] = frames;
+        }
+        return frames;
+    }
+
+    /**
+     * Renders an explosion type at evenly spaced points of its progress
+     */
+    private static BufferedImage[] bakeSpriteSheet(ExplosionType type, int frameCount, boolean allLayers) {
+        int size = 2 * (type.getMaxRadius() + SPRITE_MARGIN);
+        BufferedImage[] frames = new BufferedImage[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            BufferedImage frame = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D frameGraphics = frame.createGraphics();
+            frameGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            frameGraphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            frameGraphics.translate(size / 2, size / 2);
+            drawFrame(frameGraphics, type, (i + 0.5) / frameCount, allLayers);
+            frameGraphics.dispose();
+            frames[i] = frame;
+        }
+        return frames;
+    }
 
+    /**
+     * Draws an explosion around the origin at the given progress
+     */
+    private static void drawFrame(Graphics2D g, ExplosionType type, double progress, boolean allLayers) {
         // Calculate explosion parameters based on progress
         double radius = type.getMaxRadius() * getRadiusProgress(progress);
         double opacity = getOpacityProgress(progress);
 
-        // Create radial gradient for explosion effect
+        // Gradients come from the paint cache centred on the origin
         Color[] colors = type.getColors();
-        float[] fractions = createFractions(colors.length);
-        Color[] fadedColors = new Color[colors.length];
-
-        // Apply opacity to all colors
-        for (int i = 0; i < colors.length; i++) {
-            Color original = colors[i];
-            fadedColors[i] = new Color(
-                    original.getRed(),
-                    original.getGreen(),
-                    original.getBlue(),
-                    (int) (original.getAlpha() * opacity));
-        }
+        float[] fractions = type.getFractions();
 
         // Draw multiple expanding circles for layered effect
         int numLayers = 3;
-        for (int layer = 0; layer < numLayers; layer++) {
+        int firstLayer = allLayers ? 0 : numLayers - 1;
+        for (int layer = firstLayer; layer < numLayers; layer++) {
             double layerRadius = radius * (0.3 + 0.7 * layer / (numLayers - 1));
             double layerOpacity = opacity * (1.0 - 0.3 * layer / numLayers);
 
             if (layerRadius > 2) {
-                Point2D center = new Point2D.Float((float) x, (float) y);
-
-                // Create gradient with layer-specific opacity
-                Color[] layerColors = new Color[fadedColors.length];
-                for (int i = 0; i < fadedColors.length; i++) {
-                    Color original = fadedColors[i];
-                    layerColors[i] = new Color(
-                            original.getRed(),
-                            original.getGreen(),
-                            original.getBlue(),
-                            (int) (original.getAlpha() * layerOpacity));
-                }
-
-                RadialGradientPaint gradient = new RadialGradientPaint(
-                        center, (float) layerRadius, fractions, layerColors);
-
-                g.setPaint(gradient);
-                g.fillOval(
-                        (int) (x - layerRadius),
-                        (int) (y - layerRadius),
-                        (int) (layerRadius * 2),
-                        (int) (layerRadius * 2));
+                // Every colour faded by the overall and the layer-specific opacity
+                int gradientRadius = (int) Math.ceil(layerRadius);
+                g.setPaint(PaintCache.radialGradient(colors, fractions, gradientRadius,
+                        (int) (255 * opacity * layerOpacity)));
+                g.fillOval(-gradientRadius, -gradientRadius, gradientRadius * 2, gradientRadius * 2);
             }
         }
-
-        // Add spark particles for more dramatic effect
-        if (progress < 0.6) {
-            drawSparks(g, progress, opacity);
-        }
-    }
-
-    /**
-     * Creates even distribution of gradient fractions
-     */
-    private float[] createFractions(int colorCount) {
-        float[] fractions = new float[colorCount];
-        for (int i = 0; i < colorCount; i++) {
-            fractions[i] = (float) i / (colorCount - 1);
-        }
-        return fractions;
     }
 
     /**
      * Calculate radius expansion over time (starts fast, slows down)
      */
-    private double getRadiusProgress(double progress) {
+    private static double getRadiusProgress(double progress) {
         return Math.sqrt(progress); // Square root for fast expansion that slows down
     }
 
     /**
      * Calculate opacity fade over time (bright at start, fades out)
      */
-    private double getOpacityProgress(double progress) {
+    private static double getOpacityProgress(double progress) {
         return Math.max(0, 1.0 - Math.pow(progress, 1.5)); // Fade out with slight curve
     }
 
     /**
-     * Draw spark particles radiating from explosion center
+     * Sends spark particles flying out from the explosion center. They cover one
+     * and a half times the explosion radius over the explosion and burn out
+     * partway through, starting from how far the explosion already is.
      */
-    private void drawSparks(Graphics2D g, double progress, double opacity) {
-        int sparkCount = 8 + (int) (4 * (1.0 - progress)); // Fewer sparks over time
-        double sparkRadius = type.getMaxRadius() * 1.5 * progress;
-
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) (opacity * 0.8)));
-
-        for (int i = 0; i < sparkCount; i++) {
-            double angle = (2 * Math.PI * i / sparkCount) + (progress * Math.PI); // Rotate over time
-            double sparkX = x + Math.cos(angle) * sparkRadius;
-            double sparkY = y + Math.sin(angle) * sparkRadius;
-
-            // Random spark size and color
-            int sparkSize = 2 + (int) (3 * (1.0 - progress));
-            Color sparkColor = new Color(255, 200 + (int) (55 * Math.random()), 0, (int) (255 * opacity));
-
-            g.setColor(sparkColor);
-            g.fillOval((int) sparkX - sparkSize / 2, (int) sparkY - sparkSize / 2, sparkSize, sparkSize);
+    private void emitSparks(ParticleLayer particles, double progress) {
+        int lifetime = (int) (duration * (SPARK_LIFETIME - progress));
+        double elapsed = progress * duration;
+        double speed = type.getMaxRadius() * 1.5 / duration; // Pixels per millisecond
+        int size = type.getMaxRadius() >= 20 ? 3 : 2;
+        Random random = new Random(sparkSeed);
+        double rotation = random.nextDouble() * 2 * Math.PI;
+        for (int i = 0; i < SPARK_COUNT; i++) {
+            double angle = rotation + 2 * Math.PI * i / SPARK_COUNT;
+            double sparkSpeed = speed * (0.7 + 0.6 * random.nextDouble());
+            int rgb = (255 << 16) | ((200 + (int) (55 * random.nextDouble())) << 8);
+            double velocityX = Math.cos(angle) * sparkSpeed;
+            double velocityY = Math.sin(angle) * sparkSpeed;
+            particles.emit(x + velocityX * elapsed, y + velocityY * elapsed, velocityX, velocityY, rgb, lifetime,
+                    size);
         }
-
-        // Reset composite
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
     }
 
     public boolean isActive() {
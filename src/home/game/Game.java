@@ -5,13 +5,17 @@ import java.util.List;
 
 import home.game.abilities.AbilityManager;
 import home.game.challenges.ChallengeManager;
+import home.game.combat.ArrivalForecast;
 import home.game.combat.CombatManager;
+import home.game.combat.InfluenceMap;
 import home.game.operators.Bot;
+import home.game.operators.BotPlanner;
 import home.game.operators.Difficulty;
 import home.game.operators.Operator;
 import home.game.operators.player.Player;
 import home.game.operators.player.PlayerData;
 import home.game.planets.Planet;
+import home.game.planets.PlanetProximityGraph;
 import home.sounds.Sound;
 import home.sounds.SoundManager;
 
@@ -24,7 +28,12 @@ public class Game {
     private List<Projectile> projectiles;
     private List<Explosion> explosions;
     private List<Bot> bots;
+    private PlanetProximityGraph proximityGraph;
+    private BotPlanner botPlanner;
+    private long tickCount = 0;
     private CombatManager combatManager;
+    private InfluenceMap influenceMap;
+    private ArrivalForecast arrivalForecast;
     private AbilityManager abilityManager;
     private ChallengeManager challengeManager;
     private SoundManager soundManager;
@@ -46,11 +55,15 @@ public class Game {
         this.projectiles = new ArrayList<>();
         this.explosions = new ArrayList<>();
         this.bots = new ArrayList<>();
+        this.proximityGraph = new PlanetProximityGraph();
+        this.botPlanner = new BotPlanner(this);
         this.combatManager = new CombatManager(this);
+        this.influenceMap = new InfluenceMap();
+        this.arrivalForecast = new ArrivalForecast(this);
         this.abilityManager = new AbilityManager(this);
         this.challengeManager = ChallengeManager.getInstance();
         this.soundManager = new SoundManager();
-        this.gameStartTime = System.currentTimeMillis();
+        this.gameStartTime = GameClock.currentTimeMillis();
 
         // Configure sound manager from settings and set it globally
         VisualSettings.setGlobalSoundManager(this.soundManager);
@@ -76,12 +89,19 @@ public class Game {
                 return; // Stop the game
             }
         }
+        tickCount++;
+
+        // Apply bot decisions planned since the last tick
+        botPlanner.applyCompletedPlans();
 
         // Update all planets
         for (Planet planet : planets) {
             planet.tick();
         }
 
+        // Refresh planet neighbours now that orbits have moved
+        proximityGraph.update(planets);
+
         // Update combat manager (handles ship combat)
         combatManager.updateCombat();
 
@@ -94,6 +114,7 @@ public class Game {
         // Update all ships (movement only now)
         for (Ship ship : new ArrayList<>(ships)) {
             ship.tick();
+            influenceMap.update(ship);
         }
 
         // Update all projectiles
@@ -112,26 +133,34 @@ public class Game {
         // Check for projectile-ship collisions
         checkProjectileCollisions();
 
-        // Update all bots
+        // Update all bots (planning itself runs on the bot planner threads)
         for (Bot bot : bots) {
             bot.tick();
         }
     }
 
     public void start() {
+        generate();
+        engine.start();
+    }
+
+    /**
+     * Generates the galaxy without starting the engine, for callers that tick the
+     * game themselves
+     */
+    public void generate() {
         new GameGenerator(this).generate();
 
         // Apply player upgrades to game entities
         PlayerData playerData = PlayerData.getInstance();
         playerData.applyUpgrades(this);
-
-        engine.start();
     }
 
     public void stop() {
         // Force save any pending challenge progress before stopping
         challengeManager.forceSave();
         engine.stop();
+        botPlanner.shutdown();
     }
 
     public void pause() {
@@ -146,6 +175,13 @@ public class Game {
         return engine.isPaused();
     }
 
+    /**
+     * Stops simulating while the game isn't being watched, without pausing it
+     */
+    public void setIdle(boolean idle) {
+        engine.setIdle(idle);
+    }
+
     public void addPlanet(Planet planet) {
         planet.setGame(this); // Set game reference for ability effects
         this.planets.add(planet);
@@ -154,6 +190,8 @@ public class Game {
     public void addShip(Ship ship) {
         ship.setGame(this); // Set game reference for ability effects
         this.ships.add(ship);
+        this.influenceMap.add(ship);
+        this.arrivalForecast.add(ship);
     }
 
     public void addProjectile(Projectile projectile) {
@@ -194,6 +232,29 @@ public class Game {
         return bots;
     }
 
+    public PlanetProximityGraph getProximityGraph() {
+        return proximityGraph;
+    }
+
+    public BotPlanner getBotPlanner() {
+        return botPlanner;
+    }
+
+    /**
+     * @return the number of ticks the engine has run, used to tell snapshots apart
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public InfluenceMap getInfluenceMap() {
+        return influenceMap;
+    }
+
+    public ArrivalForecast getArrivalForecast() {
+        return arrivalForecast;
+    }
+
     public CombatManager getCombatManager() {
         return combatManager;
     }
@@ -215,12 +276,22 @@ public class Game {
     }
 
     public long getElapsedTime() {
-        return System.currentTimeMillis() - gameStartTime;
+        return GameClock.currentTimeMillis() - gameStartTime;
     }
 
     public void removeShip(Ship ship) {
         this.ships.remove(ship);
         this.combatManager.removeShip(ship);
+        onShipRemoved(ship);
+    }
+
+    /**
+     * Drops a ship from the trackers that follow it. Call this whenever a ship is
+     * taken out of the ship list without going through {@link #removeShip(Ship)}.
+     */
+    public void onShipRemoved(Ship ship) {
+        influenceMap.remove(ship);
+        arrivalForecast.remove(ship);
     }
 
     public void removeProjectile(Projectile projectile) {
@@ -271,6 +342,9 @@ public class Game {
         // Remove inactive projectiles and destroyed ships
         projectiles.removeAll(projectilesToRemove);
         ships.removeAll(shipsToRemove);
+        for (Ship ship : shipsToRemove) {
+            onShipRemoved(ship);
+        }
     }
 
     /**
@@ -361,7 +435,7 @@ public class Game {
      * @return the game duration in milliseconds
      */
     public long getGameDuration() {
-        return System.currentTimeMillis() - gameStartTime;
+        return GameClock.currentTimeMillis() - gameStartTime;
     }
 
     /**
@@ -374,11 +448,15 @@ public class Game {
         // Reset game state
         gameEnded = false;
         winner = null;
-        gameStartTime = System.currentTimeMillis();
+        gameStartTime = GameClock.currentTimeMillis();
         planets.clear();
         ships.clear();
+        influenceMap.clear();
+        arrivalForecast.clear();
         projectiles.clear();
         bots.clear();
+        proximityGraph.clear();
+        botPlanner.clear();
 
         // Reset ability cooldowns and effects
         abilityManager.resetAllAbilities();
@@ -0,0 +1,81 @@
+package home.game;
+
+/**
+ * The time the game and its artists run on.
+ *
+ * Normally this is the system clock. The offscreen frame exporter switches it to
+ * simulated time and advances it by one tick interval per tick, so cooldowns,
+ * lifetimes and animations follow the simulation instead of how fast frames can
+ * be drawn and encoded.
+ *
+ * System time can be held while the engine is idle. Game time stands still
+ * until it is released and then carries on from where it stopped, so cooldowns,
+ * effects and the game's elapsed time don't run out while nobody is watching.
+ */
+public final class GameClock {
+
+    private static volatile boolean simulated;
+    private static volatile long simulatedTime;
+
+    private static volatile boolean held;
+    private static volatile long heldTime; // Game time when it was held
+    private static volatile long offset; // How far game time is behind the system clock
+
+    private GameClock() {
+    }
+
+    /**
+     * Gets the current game time in milliseconds, used in place of
+     * {@link System#currentTimeMillis()}
+     */
+    public static long currentTimeMillis() {
+        if (simulated) {
+            return simulatedTime;
+        }
+        // The time and offset are written before the flag, so a reader never sees a half-made change
+        return held ? heldTime : System.currentTimeMillis() - offset;
+    }
+
+    /**
+     * Stops system time from moving the game on until {@link #release()}
+     */
+    public static synchronized void hold() {
+        if (!held) {
+            heldTime = System.currentTimeMillis() - offset;
+            held = true;
+        }
+    }
+
+    /**
+     * Lets game time follow the system clock again from where it was held
+     */
+    public static synchronized void release() {
+        if (held) {
+            offset = System.currentTimeMillis() - heldTime;
+            held = false;
+        }
+    }
+
+    /**
+     * Stops following the system clock, starting from the given time
+     */
+    public static void useSimulatedTime(long startTime) {
+        simulatedTime = startTime;
+        simulated = true;
+    }
+
+    /**
+     * Moves simulated time forward, has no effect on the system clock
+     */
+    public static void advance(long millis) {
+        simulatedTime += millis;
+    }
+
+    public static void useSystemTime() {
+        simulated = false;
+    }
+
+    public static boolean isSimulated() {
+        return simulated;
+    }
+}
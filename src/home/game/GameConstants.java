@@ -12,7 +12,7 @@ public class GameConstants {
     private static String TITLE_ENGINE_AND_PERFORMANCE = "Engine & Performance";
     private static int TARGET_TPS = 60; // Ticks per second
     private static int SLOW_MODE_TPS = 20; // Slow mode for targeting
-    private static long PAUSE_SLEEP_INTERVAL = 100; // Milliseconds to sleep while paused
+    private static boolean IDLE_WHEN_INACTIVE = true; // Stop simulating and drawing while minimised or unfocused
     private static long ENGINE_CPU_RELIEF_SLEEP = 1; // Prevent CPU overload
 
     // UI Refresh & Notification Timing
@@ -39,6 +39,10 @@ public class GameConstants {
     private static int FLAME_BASE_POWER = 500; // Base flame length and damage
     private static int FLAME_POWER_PER_LEVEL = 20; // Power increase per upgrade level
 
+    // Planetary Infection Constants
+    private static double INFECTION_SPREAD_RANGE = 100.0; // Bot infection spread distance
+    private static double PROXIMITY_GRAPH_MARGIN = 40.0; // Extra neighbour range before a rebuild is needed
+
     // Orbital Mechanics
     private static String TITLE_ORBITAL_MECHANICS = "Orbital Mechanics";
     private static double MIN_ORBIT_RADIUS = 80.0; // Minimum distance from center star
@@ -75,6 +79,30 @@ public class GameConstants {
     private static double PROJECTILE_MAX_RANGE = 225; // Maximum range of projectiles
     private static long SHIP_FIRE_RATE = 500; // Milliseconds between shots
     private static int PROJECTILE_SIZE = 3; // Projectile visual size
+    private static int INFLUENCE_CELL_SIZE = 50; // Grid cell size of the ship influence map
+
+    // Rendering & Display
+    private static String TITLE_RENDERING_AND_DISPLAY = "Rendering & Display";
+    private static boolean DISPLAY_ARRIVAL_FORECAST = true; // Show hostile ships heading to each planet
+    private static int SHIP_SPRITE_ROTATIONS = 64; // Prerendered angles per ship sprite
+    private static boolean CENTRAL_STAR_LIVE_RENDERING = false; // Draw the central star live instead of baked frames
+    private static int CENTRAL_STAR_FRAMES = 150; // Baked frames in the 15 second star animation loop
+    private static double CENTRAL_STAR_FRAME_SCALE = 1.0; // Resolution of baked star frames
+    private static int MAX_FRAME_RATE = 60; // Frames per second the game screen is drawn at
+    private static boolean UNCAPPED_FRAME_RATE = false; // Draw frames as fast as possible, for benchmarking
+    private static boolean ADAPTIVE_QUALITY = true; // Lower visual detail automatically when frames run long
+    private static int EXPLOSION_SPRITE_FRAMES = 32; // Baked frames per explosion type
+    private static boolean EFFECT_LIVE_RENDERING = false; // Draw planet ability effects live instead of baked frames
+    private static int EFFECT_ANIMATION_FRAMES = 90; // Baked frames per planet effect animation loop
+    private static boolean RENDER_PROFILING = false; // Time every render layer and show it in an overlay (F3)
+    private static int FLEET_CLUSTER_THRESHOLD = 150; // Ships in play before nearby ships draw as fleets
+    private static int FLEET_CLUSTER_RADIUS = 16; // Size of the area a fleet glyph stands for
+    // Resolution the game screen is drawn at before scaling to the window. Only live drawing gains detail above
+    // 1, the baked ship, planet, effect, explosion and star images stay at 1x and are scaled up with the scene.
+    private static double RENDER_SCALE = 1.0;
+    private static boolean SMOOTH_UPSCALING = true; // Bilinear filtering when scaling the game screen, else nearest
+    private static boolean TILED_RENDERING = false; // Draw the world in horizontal bands on several cores
+    private static int RENDER_BANDS = 4; // Bands the world is split into when tiled rendering is on
 
     // Debugging constants
     // Set to true to make player planets invincible for testing
@@ -213,8 +241,8 @@ public class GameConstants {
         return SLOW_MODE_TPS;
     }
 
-    public static long getPauseSleepInterval() {
-        return PAUSE_SLEEP_INTERVAL;
+    public static boolean isIdleWhenInactive() {
+        return IDLE_WHEN_INACTIVE;
     }
 
     public static long getEngineCPUReliefSleep() {
@@ -269,6 +297,15 @@ public class GameConstants {
         return FLAME_POWER_PER_LEVEL;
     }
 
+    // Planetary Infection Getters
+    public static double getInfectionSpreadRange() {
+        return INFECTION_SPREAD_RANGE;
+    }
+
+    public static double getProximityGraphMargin() {
+        return PROXIMITY_GRAPH_MARGIN;
+    }
+
     // Orbital Mechanics Getters
     public static double getMinOrbitRadius() {
         return MIN_ORBIT_RADIUS;
@@ -316,6 +353,84 @@ public class GameConstants {
     public static double getCombatDisengagementDistance() {
         return COMBAT_DISENGAGEMENT_DISTANCE;
     }
+
+    public static int getInfluenceCellSize() {
+        return INFLUENCE_CELL_SIZE;
+    }
+
+    // Rendering & Display Getters
+    public static boolean isDisplayArrivalForecast() {
+        return DISPLAY_ARRIVAL_FORECAST;
+    }
+
+    public static int getShipSpriteRotations() {
+        return SHIP_SPRITE_ROTATIONS;
+    }
+
+    public static boolean isCentralStarLiveRendering() {
+        return CENTRAL_STAR_LIVE_RENDERING;
+    }
+
+    public static int getCentralStarFrames() {
+        return CENTRAL_STAR_FRAMES;
+    }
+
+    public static double getCentralStarFrameScale() {
+        return CENTRAL_STAR_FRAME_SCALE;
+    }
+
+    public static int getMaxFrameRate() {
+        return MAX_FRAME_RATE;
+    }
+
+    public static boolean isUncappedFrameRate() {
+        return UNCAPPED_FRAME_RATE;
+    }
+
+    public static boolean isAdaptiveQuality() {
+        return ADAPTIVE_QUALITY;
+    }
+
+    public static int getExplosionSpriteFrames() {
+        return EXPLOSION_SPRITE_FRAMES;
+    }
+
+    public static boolean isEffectLiveRendering() {
+        return EFFECT_LIVE_RENDERING;
+    }
+
+    public static int getEffectAnimationFrames() {
+        return EFFECT_ANIMATION_FRAMES;
+    }
+
+    public static boolean isRenderProfiling() {
+        return RENDER_PROFILING;
+    }
+
+    public static int getFleetClusterThreshold() {
+        return FLEET_CLUSTER_THRESHOLD;
+    }
+
+    public static int getFleetClusterRadius() {
+        return FLEET_CLUSTER_RADIUS;
+    }
+
+    public static double getRenderScale() {
+        return RENDER_SCALE;
+    }
+
+    public static boolean isSmoothUpscaling() {
+        return SMOOTH_UPSCALING;
+    }
+
+    public static boolean isTiledRendering() {
+        return TILED_RENDERING;
+    }
+
+    public static int getRenderBands() {
+        return RENDER_BANDS;
+    }
+
     // Configuration Management Methods
 
     /**
@@ -409,6 +524,51 @@ public class GameConstants {
             BASE_ABILITY_COOLDOWN = 1000;
         }
 
+        if (INFLUENCE_CELL_SIZE < 10) {
+            System.out.println("Warning: INFLUENCE_CELL_SIZE too small, setting to 50");
+            INFLUENCE_CELL_SIZE = 50;
+        }
+        if (SHIP_SPRITE_ROTATIONS < 8 || SHIP_SPRITE_ROTATIONS > 360) {
+            System.out.println("Warning: SHIP_SPRITE_ROTATIONS out of range, setting to 64");
+            SHIP_SPRITE_ROTATIONS = 64;
+        }
+        if (CENTRAL_STAR_FRAMES < 10 || CENTRAL_STAR_FRAMES > 900) {
+            System.out.println("Warning: CENTRAL_STAR_FRAMES out of range, setting to 150");
+            CENTRAL_STAR_FRAMES = 150;
+        }
+        if (CENTRAL_STAR_FRAME_SCALE < 0.25 || CENTRAL_STAR_FRAME_SCALE > 2.0) {
+            System.out.println("Warning: CENTRAL_STAR_FRAME_SCALE out of range, setting to 1.0");
+            CENTRAL_STAR_FRAME_SCALE = 1.0;
+        }
+        if (MAX_FRAME_RATE < 10 || MAX_FRAME_RATE > 1000) {
+            System.out.println("Warning: MAX_FRAME_RATE out of range, setting to 60");
+            MAX_FRAME_RATE = 60;
+        }
+        if (EXPLOSION_SPRITE_FRAMES < 4 || EXPLOSION_SPRITE_FRAMES > 240) {
+            System.out.println("Warning: EXPLOSION_SPRITE_FRAMES out of range, setting to 32");
+            EXPLOSION_SPRITE_FRAMES = 32;
+        }
+        if (EFFECT_ANIMATION_FRAMES < 16 || EFFECT_ANIMATION_FRAMES > 400) {
+            System.out.println("Warning: EFFECT_ANIMATION_FRAMES out of range, setting to 90");
+            EFFECT_ANIMATION_FRAMES = 90;
+        }
+        if (FLEET_CLUSTER_THRESHOLD < 0) {
+            System.out.println("Warning: FLEET_CLUSTER_THRESHOLD out of range, setting to 150");
+            FLEET_CLUSTER_THRESHOLD = 150;
+        }
+        if (FLEET_CLUSTER_RADIUS < 4 || FLEET_CLUSTER_RADIUS > 64) {
+            System.out.println("Warning: FLEET_CLUSTER_RADIUS out of range, setting to 16");
+            FLEET_CLUSTER_RADIUS = 16;
+        }
+        if (RENDER_SCALE < 0.5 || RENDER_SCALE > 2.0) {
+            System.out.println("Warning: RENDER_SCALE out of range, setting to 1.0");
+            RENDER_SCALE = 1.0;
+        }
+        if (RENDER_BANDS < 2 || RENDER_BANDS > 16) {
+            System.out.println("Warning: RENDER_BANDS out of range, setting to 4");
+            RENDER_BANDS = 4;
+        }
+
         // Orbital validation
         if (MIN_ORBIT_RADIUS <= 0
                 || MIN_ORBIT_RADIUS >= MAX_ORBIT_RADIUS_FACTOR * Math.min(GAME_WIDTH, GAME_HEIGHT) / 2) {
@@ -479,6 +639,7 @@ public class GameConstants {
                 TITLE_ORBITAL_MECHANICS,
                 TITLE_ECONOMY_AND_REWARDS,
                 TITLE_COMBAT_SYSTEM,
+                TITLE_RENDERING_AND_DISPLAY,
                 TITLE_DEBUG_AND_TESTING
         };
     }
@@ -490,7 +651,7 @@ public class GameConstants {
         // Engine & Performance
         TARGET_TPS = 60;
         SLOW_MODE_TPS = 20;
-        PAUSE_SLEEP_INTERVAL = 100;
+        IDLE_WHEN_INACTIVE = true;
         ENGINE_CPU_RELIEF_SLEEP = 1;
 
         // UI Timing
@@ -512,6 +673,10 @@ public class GameConstants {
         FLAME_BASE_POWER = 500;
         FLAME_POWER_PER_LEVEL = 20;
 
+        // Infection
+        INFECTION_SPREAD_RANGE = 100.0;
+        PROXIMITY_GRAPH_MARGIN = 40.0;
+
         // Orbital
         MIN_ORBIT_RADIUS = 80.0;
         MAX_ORBIT_RADIUS_FACTOR = 0.9;
@@ -549,6 +714,27 @@ public class GameConstants {
         PROJECTILE_MAX_RANGE = 225;
         SHIP_FIRE_RATE = 500;
         PROJECTILE_SIZE = 3;
+        INFLUENCE_CELL_SIZE = 50;
+
+        // Rendering & Display
+        DISPLAY_ARRIVAL_FORECAST = true;
+        SHIP_SPRITE_ROTATIONS = 64;
+        CENTRAL_STAR_LIVE_RENDERING = false;
+        CENTRAL_STAR_FRAMES = 150;
+        CENTRAL_STAR_FRAME_SCALE = 1.0;
+        MAX_FRAME_RATE = 60;
+        UNCAPPED_FRAME_RATE = false;
+        ADAPTIVE_QUALITY = true;
+        EXPLOSION_SPRITE_FRAMES = 32;
+        EFFECT_LIVE_RENDERING = false;
+        EFFECT_ANIMATION_FRAMES = 90;
+        RENDER_PROFILING = false;
+        FLEET_CLUSTER_THRESHOLD = 150;
+        FLEET_CLUSTER_RADIUS = 16;
+        RENDER_SCALE = 1.0;
+        SMOOTH_UPSCALING = true;
+        TILED_RENDERING = false;
+        RENDER_BANDS = 4;
 
         // Debug flags
         PLAYER_PLANETS_INVINCIBLE = false;
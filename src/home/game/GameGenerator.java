@@ -18,7 +18,7 @@ public class GameGenerator {
 
     public GameGenerator(Game game) {
         this.game = game;
-        this.random = new Random();
+        this.random = GameRandom.get();
     }
 
     public void generate() {
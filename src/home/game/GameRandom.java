@@ -0,0 +1,45 @@
+package home.game;
+
+import java.util.Random;
+
+/**
+ * The source of randomness for everything that changes the game.
+ *
+ * The simulation draws from here instead of {@link Math#random()} or a
+ * {@link Random} of its own, so seeding it before a game is generated makes the
+ * game play out the same way every time as long as it is ticked the same way.
+ * The offscreen frame exporter relies on this to produce the same clip on every
+ * run. Unseeded it is as random as {@link Math#random()}.
+ *
+ * Safe to use from any thread, but draws are only repeatable when they all
+ * happen on the engine thread in the same order.
+ */
+public final class GameRandom {
+
+    private static final Random random = new Random();
+
+    private GameRandom() {
+    }
+
+    /**
+     * Gets the shared generator. Hold on to it freely, seeding doesn't replace it.
+     */
+    public static Random get() {
+        return random;
+    }
+
+    /**
+     * Restarts the sequence from a seed
+     */
+    public static void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Gets a value between 0 inclusive and 1 exclusive, used in place of
+     * {@link Math#random()}
+     */
+    public static double nextDouble() {
+        return random.nextDouble();
+    }
+}
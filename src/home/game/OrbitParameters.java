@@ -10,7 +10,6 @@ public class OrbitParameters {
             - GameConstants.getOrbitRadiusMargin(); // Maximum distance from center (reduced to stay in bounds)
     private static final double MIN_ORBITAL_SPEED = GameConstants.getMinOrbitalSpeed(); // Minimum radians per tick
     private static final double MAX_ORBITAL_SPEED = GameConstants.getMaxOrbitalSpeed(); // Maximum radians per tick
-    private static final Random random = new Random();
 
     private double semiMajorAxis;
     private double semiMinorAxis;
@@ -59,6 +58,8 @@ public class OrbitParameters {
      * Generates orbital parameters with z-index for depth simulation
      */
     public static OrbitParameters generateOrbitParameters() {
+        Random random = GameRandom.get();
+
         // Random orbital radius - no collision detection needed with z-index system
         double semiMajorAxis = MIN_ORBIT_RADIUS + random.nextDouble() * (MAX_ORBIT_RADIUS - MIN_ORBIT_RADIUS);
 
@@ -0,0 +1,235 @@
+package home.game;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.RadialGradientPaint;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shared paint resources for everything that draws every frame.
+ *
+ * Colours, strokes, composites and gradients are immutable, so instead of
+ * allocating new ones on every draw call the artists ask for them here and get
+ * the same instance back each time. Colours are kept as alpha ramps per base
+ * colour, strokes and composites are interned, and radial gradients are kept per
+ * palette, radius and alpha, centred on the origin so they can be reused at any
+ * position by translating the graphics.
+ *
+ * Safe to use from the render thread and from background threads that bake
+ * images.
+ */
+public final class PaintCache {
+
+    private static final int MAX_RAMPS = 4096; // Distinct base colours kept before starting over
+    private static final int STROKE_STEPS_PER_PIXEL = 4; // Stroke widths are interned to quarter pixels
+    private static final int MAX_STROKE_WIDTH = 32;
+    private static final int MAX_GRADIENT_RADIUS = 128;
+    private static final int GRADIENT_ALPHA_LEVELS = 64;
+
+    // Open addressing table from opaque RGB to a 256 entry alpha ramp. Read without locking; ramps are added
+    // under the lock, and the table is replaced when it grows or starts over.
+    private static volatile RampTable ramps = new RampTable(1024);
+
+    private static final AlphaComposite[] COMPOSITES = new AlphaComposite[256];
+    static {
+        for (int i = 0; i < COMPOSITES.length; i++) {
+            COMPOSITES[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, i / 255f);
+        }
+    }
+
+    // [width in quarter pixels][cap][join]
+    private static final BasicStroke[][][] STROKES = new BasicStroke[MAX_STROKE_WIDTH * STROKE_STEPS_PER_PIXEL
+            + 1][3][3];
+
+    // Radial gradients per palette, [radius][alpha level]
+    private static final Map<Color[], RadialGradientPaint[][]> RADIAL_GRADIENTS = new IdentityHashMap<>();
+
+    private PaintCache() {
+    }
+
+    /**
+     * Gets an opaque colour
+     */
+    public static Color color(int red, int green, int blue) {
+        return color(red, green, blue, 255);
+    }
+
+    /**
+     * Gets a colour with an alpha between 0 and 255. Components out of range are
+     * clamped.
+     */
+    public static Color color(int red, int green, int blue, int alpha) {
+        int rgb = (clamp(red) << 16) | (clamp(green) << 8) | clamp(blue);
+        Color[] ramp = getRamp(rgb);
+        int index = clamp(alpha);
+        Color color = ramp[index];
+        if (color == null) {
+            color = new Color(rgb >> 16 & 0xFF, rgb >> 8 & 0xFF, rgb & 0xFF, index);
+            ramp[index] = color; // Racing writers store equal colours, either one is fine
+        }
+        return color;
+    }
+
+    /**
+     * Gets a base colour with a different alpha between 0 and 255
+     */
+    public static Color withAlpha(Color base, int alpha) {
+        return color(base.getRed(), base.getGreen(), base.getBlue(), alpha);
+    }
+
+    /**
+     * Gets a base colour with an opacity between 0 and 1
+     */
+    public static Color withAlpha(Color base, float opacity) {
+        return withAlpha(base, Math.round(opacity * 255));
+    }
+
+    /**
+     * Gets a source-over composite with the given opacity
+     */
+    public static AlphaComposite composite(float alpha) {
+        return COMPOSITES[clamp(Math.round(alpha * 255))];
+    }
+
+    public static BasicStroke stroke(float width) {
+        return stroke(width, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER);
+    }
+
+    /**
+     * Gets a stroke, widths are rounded to the nearest quarter pixel
+     */
+    public static BasicStroke stroke(float width, int cap, int join) {
+        int steps = Math.round(width * STROKE_STEPS_PER_PIXEL);
+        if (steps < 0 || steps >= STROKES.length || cap < 0 || cap > 2 || join < 0 || join > 2) {
+            return new BasicStroke(width, cap, join);
+        }
+        BasicStroke stroke = STROKES[steps][cap][join];
+        if (stroke == null) {
+            stroke = new BasicStroke((float) steps / STROKE_STEPS_PER_PIXEL, cap, join);
+            STROKES[steps][cap][join] = stroke;
+        }
+        return stroke;
+    }
+
+    /**
+     * Gets a radial gradient centred on the origin over a palette, with every
+     * palette colour's alpha scaled by alpha / 255. The palette array is used as
+     * the cache key, so pass the same array every time.
+     */
+    public static RadialGradientPaint radialGradient(Color[] palette, float[] fractions, int radius, int alpha) {
+        int level = clamp(alpha) * (GRADIENT_ALPHA_LEVELS - 1) / 255;
+        if (radius < 1 || radius > MAX_GRADIENT_RADIUS) {
+            return createRadialGradient(palette, fractions, Math.max(1, radius), level);
+        }
+        RadialGradientPaint[][] gradients;
+        synchronized (RADIAL_GRADIENTS) {
+            gradients = RADIAL_GRADIENTS.get(palette);
+            if (gradients == null) {
+                gradients = new RadialGradientPaint[MAX_GRADIENT_RADIUS + 1][GRADIENT_ALPHA_LEVELS];
+                RADIAL_GRADIENTS.put(palette, gradients);
+            }
+        }
+        RadialGradientPaint gradient = gradients[radius][level];
+        if (gradient == null) {
+            gradient = createRadialGradient(palette, fractions, radius, level);
+            gradients[radius][level] = gradient;
+        }
+        return gradient;
+    }
+
+    private static RadialGradientPaint createRadialGradient(Color[] palette, float[] fractions, int radius,
+            int level) {
+        Color[] colors = new Color[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            colors[i] = withAlpha(palette[i], palette[i].getAlpha() * level / (GRADIENT_ALPHA_LEVELS - 1));
+        }
+        return new RadialGradientPaint(0, 0, radius, fractions, colors);
+    }
+
+    private static Color[] getRamp(int rgb) {
+        int key = rgb | 0xFF000000; // Never zero, zero marks an empty slot
+        Color[] ramp = ramps.get(key);
+        return ramp != null ? ramp : addRamp(key);
+    }
+
+    private static synchronized Color[] addRamp(int key) {
+        RampTable table = ramps;
+        Color[] ramp = table.get(key);
+        if (ramp != null) {
+            return ramp; // Added by another thread while this one waited
+        }
+        if (table.count >= MAX_RAMPS) {
+            // Mostly one-off animated colours, start over rather than grow forever
+            table = new RampTable(1024);
+            ramps = table;
+        } else if ((table.count + 1) * 2 > table.keys.length()) {
+            table = table.copy(table.keys.length() * 2);
+            ramps = table;
+        }
+        ramp = new Color[256];
+        table.put(key, ramp);
+        return ramp;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int clamp(int component) {
+        return component < 0 ? 0 : (component > 255 ? 255 : component);
+    }
+
+    /**
+     * Ramp table with a fixed capacity. A ramp is stored before its key, so a
+     * reader that finds the key also finds the ramp.
+     */
+    private static class RampTable {
+        final AtomicIntegerArray keys;
+        final AtomicReferenceArray<Color[]> ramps;
+        int count; // Only used under the lock
+
+        RampTable(int capacity) {
+            keys = new AtomicIntegerArray(capacity);
+            ramps = new AtomicReferenceArray<>(capacity);
+        }
+
+        Color[] get(int key) {
+            int mask = keys.length() - 1;
+            int slot = mix(key) & mask;
+            int slotKey;
+            while ((slotKey = keys.get(slot)) != 0) {
+                if (slotKey == key) {
+                    return ramps.get(slot);
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        void put(int key, Color[] ramp) {
+            int mask = keys.length() - 1;
+            int slot = mix(key) & mask;
+            while (keys.get(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            ramps.set(slot, ramp);
+            keys.set(slot, key);
+            count++;
+        }
+
+        RampTable copy(int capacity) {
+            RampTable copy = new RampTable(capacity);
+            for (int i = 0; i < keys.length(); i++) {
+                if (keys.get(i) != 0) {
+                    copy.put(keys.get(i), ramps.get(i));
+                }
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package home.game;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Small glowing particles, blended additively into one image per frame.
+ *
+ * Drawing thousands of tiny translucent ovals through Graphics2D costs a
+ * composite setup per particle. Here particles are added straight into the int
+ * pixels of a premultiplied image in a tight loop, and the part of the image
+ * that was touched is drawn onto the frame once and cleared again.
+ *
+ * Particles either live for a while and move on their own ({@link #emit}),
+ * kept in parallel primitive arrays, or are added for the current frame only
+ * ({@link #splat}). Light only adds up, so brightness saturates instead of
+ * covering what is underneath.
+ *
+ * Composited from the render thread. When the scene is drawn in bands on
+ * several threads each band thread sets its band with {@link #setBand}.
+ * Splats are only added by the band holding their centre, and emitters check
+ * {@link #owns(double)} themselves, so something drawn by two bands isn't
+ * added twice.
+ */
+public class ParticleLayer {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_PARTICLES = 65536; // Emitting beyond this is ignored
+    private static final int MAX_SIZE = 4; // Largest splat radius in pixels, 7x7 footprint
+    private static final long MAX_STEP = 100; // Milliseconds, longer pauses don't jump particles ahead
+
+    // Weights out of 256 for every pixel of a splat, per size
+    private static final int[][] KERNELS = new int[MAX_SIZE + 1][];
+    static {
+        for (int size = 1; size <= MAX_SIZE; size++) {
+            int span = size * 2 - 1;
+            int[] kernel = new int[span * span];
+            for (int dy = 0; dy < span; dy++) {
+                for (int dx = 0; dx < span; dx++) {
+                    double distance = Math.hypot(dx - (size - 1), dy - (size - 1));
+                    kernel[dy * span + dx] = (int) Math.round(256 * Math.max(0, 1 - distance / size));
+                }
+            }
+            KERNELS[size] = kernel;
+        }
+    }
+
+    private static final ParticleLayer instance = new ParticleLayer();
+
+    // Rows [top, bottom) of the band the current thread draws, null when drawing everything
+    private final ThreadLocal<int[]> band = new ThreadLocal<>();
+
+    private BufferedImage image;
+    private int[] pixels;
+    private int width;
+    private int height;
+
+    // Area touched since the last composite, empty when min > max
+    private int dirtyMinX;
+    private int dirtyMinY;
+    private int dirtyMaxX;
+    private int dirtyMaxY;
+
+    // Particle pool
+    private int count;
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] velocityX = new float[INITIAL_CAPACITY]; // Pixels per millisecond
+    private float[] velocityY = new float[INITIAL_CAPACITY];
+    private int[] color = new int[INITIAL_CAPACITY];
+    private int[] life = new int[INITIAL_CAPACITY]; // Milliseconds left
+    private int[] lifeSpan = new int[INITIAL_CAPACITY];
+    private byte[] size = new byte[INITIAL_CAPACITY];
+    private long lastUpdate = -1;
+
+    private ParticleLayer() {
+        resetDirtyArea();
+    }
+
+    public static ParticleLayer getInstance() {
+        return instance;
+    }
+
+    /**
+     * Limits the particles the current thread adds to those centred in rows
+     * [top, bottom)
+     */
+    public void setBand(int top, int bottom) {
+        band.set(new int[] { top, bottom });
+    }
+
+    public void clearBand() {
+        band.remove();
+    }
+
+    /**
+     * Checks if particles at this height belong to the current thread's band
+     */
+    public boolean owns(double y) {
+        int[] rows = band.get();
+        return rows == null || (y >= rows[0] && y < rows[1]);
+    }
+
+    /**
+     * Adds a particle that moves in a straight line and fades out over its life
+     *
+     * @param velocityX pixels per millisecond
+     * @param velocityY pixels per millisecond
+     * @param rgb       colour at full brightness
+     * @param lifeMillis how long the particle lives
+     * @param size      radius of the glow, 1 to 4 pixels
+     */
+    public synchronized void emit(double x, double y, double velocityX, double velocityY, int rgb, int lifeMillis,
+            int size) {
+        if (count == MAX_PARTICLES || lifeMillis <= 0) {
+            return;
+        }
+        if (count == this.x.length) {
+            grow(Math.min(MAX_PARTICLES, count * 2));
+        }
+        int i = count++;
+        this.x[i] = (float) x;
+        this.y[i] = (float) y;
+        this.velocityX[i] = (float) velocityX;
+        this.velocityY[i] = (float) velocityY;
+        color[i] = rgb;
+        life[i] = lifeMillis;
+        lifeSpan[i] = lifeMillis;
+        this.size[i] = (byte) clampSize(size);
+    }
+
+    /**
+     * Adds light for the current frame only
+     *
+     * @param rgb       colour at full brightness
+     * @param intensity brightness from 0 to 1
+     * @param size      radius of the glow, 1 to 4 pixels
+     */
+    public void splat(double x, double y, int rgb, double intensity, int size) {
+        int scale = (int) (intensity * 256);
+        if (scale <= 0 || !owns(y)) {
+            return;
+        }
+        synchronized (this) {
+            ensureImage();
+            plot((int) Math.round(x), (int) Math.round(y), rgb, Math.min(256, scale), clampSize(size));
+        }
+    }
+
+    /**
+     * Moves and plots the living particles, then draws everything added this
+     * frame onto the graphics and clears it for the next frame
+     */
+    public synchronized void render(Graphics2D g) {
+        ensureImage();
+        long now = GameClock.currentTimeMillis();
+        int step = lastUpdate < 0 ? 0 : (int) Math.max(0, Math.min(MAX_STEP, now - lastUpdate));
+        lastUpdate = now;
+
+        int i = 0;
+        while (i < count) {
+            life[i] -= step;
+            if (life[i] <= 0) {
+                removeParticle(i); // The last particle moves here, look at it next
+                continue;
+            }
+            x[i] += velocityX[i] * step;
+            y[i] += velocityY[i] * step;
+            plot(Math.round(x[i]), Math.round(y[i]), color[i], life[i] * 256 / lifeSpan[i], size[i]);
+            i++;
+        }
+
+        if (dirtyMinX > dirtyMaxX) {
+            return;
+        }
+        g.setComposite(PaintCache.composite(1.0f));
+        g.drawImage(image, dirtyMinX, dirtyMinY, dirtyMaxX + 1, dirtyMaxY + 1, dirtyMinX, dirtyMinY, dirtyMaxX + 1,
+                dirtyMaxY + 1, null);
+        for (int row = dirtyMinY; row <= dirtyMaxY; row++) {
+            Arrays.fill(pixels, row * width + dirtyMinX, row * width + dirtyMaxX + 1, 0);
+        }
+        resetDirtyArea();
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Removes every particle, for when a new game starts
+     */
+    public synchronized void clear() {
+        count = 0;
+        lastUpdate = -1;
+        if (pixels != null) {
+            Arrays.fill(pixels, 0);
+        }
+        resetDirtyArea();
+    }
+
+    /**
+     * Adds a particle's light to the pixels around it, saturating each channel.
+     * Alpha is kept at the brightest channel so the premultiplied image stays
+     * valid and dark parts let the frame show through.
+     */
+    private void plot(int centerX, int centerY, int rgb, int scale, int size) {
+        int reach = size - 1;
+        int left = Math.max(0, centerX - reach);
+        int top = Math.max(0, centerY - reach);
+        int right = Math.min(width - 1, centerX + reach);
+        int bottom = Math.min(height - 1, centerY + reach);
+        if (left > right || top > bottom) {
+            return;
+        }
+
+        int red = ((rgb >> 16) & 0xFF) * scale;
+        int green = ((rgb >> 8) & 0xFF) * scale;
+        int blue = (rgb & 0xFF) * scale;
+        int[] kernel = KERNELS[size];
+        int span = size * 2 - 1;
+
+        for (int py = top; py <= bottom; py++) {
+            int row = py * width;
+            int kernelRow = (py - centerY + reach) * span - centerX + reach;
+            for (int px = left; px <= right; px++) {
+                int weight = kernel[kernelRow + px];
+                if (weight == 0) {
+                    continue;
+                }
+                int pixel = pixels[row + px];
+                int r = Math.min(255, ((pixel >> 16) & 0xFF) + ((red * weight) >> 16));
+                int gr = Math.min(255, ((pixel >> 8) & 0xFF) + ((green * weight) >> 16));
+                int b = Math.min(255, (pixel & 0xFF) + ((blue * weight) >> 16));
+                int a = Math.max(r, Math.max(gr, b));
+                pixels[row + px] = (a << 24) | (r << 16) | (gr << 8) | b;
+            }
+        }
+
+        dirtyMinX = Math.min(dirtyMinX, left);
+        dirtyMinY = Math.min(dirtyMinY, top);
+        dirtyMaxX = Math.max(dirtyMaxX, right);
+        dirtyMaxY = Math.max(dirtyMaxY, bottom);
+    }
+
+    /**
+     * Creates the image at the game size, again if the size was reconfigured
+     */
+    private void ensureImage() {
+        int gameWidth = GameConstants.getGameWidth();
+        int gameHeight = GameConstants.getGameHeight();
+        if (image != null && width == gameWidth && height == gameHeight) {
+            return;
+        }
+        width = gameWidth;
+        height = gameHeight;
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        resetDirtyArea();
+    }
+
+    private void resetDirtyArea() {
+        dirtyMinX = Integer.MAX_VALUE;
+        dirtyMinY = Integer.MAX_VALUE;
+        dirtyMaxX = Integer.MIN_VALUE;
+        dirtyMaxY = Integer.MIN_VALUE;
+    }
+
+    private void removeParticle(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        color[i] = color[last];
+        life[i] = life[last];
+        lifeSpan[i] = lifeSpan[last];
+        size[i] = size[last];
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        color = Arrays.copyOf(color, capacity);
+        life = Arrays.copyOf(life, capacity);
+        lifeSpan = Arrays.copyOf(lifeSpan, capacity);
+        size = Arrays.copyOf(size, capacity);
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(MAX_SIZE, size));
+    }
+}
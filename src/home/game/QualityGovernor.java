@@ -0,0 +1,138 @@
+package home.game;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+/**
+ * Automatically trades visual detail for frame rate.
+ *
+ * The game screen reports how long each frame took to draw and how many
+ * entities were on screen. When the smoothed frame time stays over budget the
+ * governor gives up one more {@link Reduction}, cheapest-looking first, and
+ * when there is plenty of headroom again it brings them back one at a time.
+ * Dropping and restoring use different thresholds and delays, and detail is
+ * only restored early while the fight that caused the drop is still as big if
+ * frames are very cheap, so levels don't flap back and forth.
+ *
+ * Fed from the render thread; artists may read it from anywhere.
+ */
+public class QualityGovernor {
+
+    /**
+     * Ways to save drawing time, in the order they are given up
+     */
+    public enum Reduction {
+        EFFECT_PARTICLES, EXPLOSION_LAYERS, BACKGROUND_STARS, THRUSTER_FLAMES, PLANET_MOONS, PLANET_DETAIL,
+        ANTIALIASING
+    }
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final double SMOOTHING = 0.1; // Weight of the newest frame in the average
+    private static final double DEGRADE_RATIO = 0.9; // Drop detail once frames take this much of the budget
+    private static final double RESTORE_RATIO = 0.5; // Restore detail once frames take less than this
+    private static final long DEGRADE_DELAY = NANOS_PER_SECOND / 2; // Over budget this long before dropping
+    private static final long RESTORE_DELAY = 3 * NANOS_PER_SECOND; // Under budget this long before restoring
+    private static final double SHRUNK_FIGHT_RATIO = 0.8; // Fewer entities than when detail was dropped
+
+    private static final QualityGovernor instance = new QualityGovernor();
+
+    private volatile int level; // Number of reductions in effect
+    private final int[] entitiesAtReduction = new int[Reduction.values().length];
+    private double averageFrameTime;
+    private long overBudgetSince = -1;
+    private long underBudgetSince = -1;
+
+    private QualityGovernor() {
+    }
+
+    public static QualityGovernor getInstance() {
+        return instance;
+    }
+
+    /**
+     * Records one drawn frame
+     *
+     * @param frameTime   nanoseconds spent drawing the frame
+     * @param entityCount ships, projectiles and explosions in the frame
+     */
+    public void recordFrame(long frameTime, int entityCount) {
+        if (!GameConstants.isAdaptiveQuality()) {
+            level = 0;
+            return;
+        }
+        averageFrameTime = averageFrameTime == 0 ? frameTime
+                : averageFrameTime + SMOOTHING * (frameTime - averageFrameTime);
+
+        long now = System.nanoTime();
+        double budget = getFrameBudget();
+        if (averageFrameTime > budget * DEGRADE_RATIO) {
+            underBudgetSince = -1;
+            if (overBudgetSince < 0) {
+                overBudgetSince = now;
+            }
+            if (level < entitiesAtReduction.length && now - overBudgetSince >= DEGRADE_DELAY) {
+                entitiesAtReduction[level] = entityCount;
+                level++;
+                overBudgetSince = now; // Give the lower level time to show in the average
+            }
+        } else if (averageFrameTime < budget * RESTORE_RATIO && level > 0) {
+            overBudgetSince = -1;
+            if (underBudgetSince < 0) {
+                underBudgetSince = now;
+            }
+            boolean fightShrank = entityCount <= entitiesAtReduction[level - 1] * SHRUNK_FIGHT_RATIO;
+            boolean plentyOfHeadroom = averageFrameTime < budget * RESTORE_RATIO / 2;
+            if (now - underBudgetSince >= RESTORE_DELAY && (fightShrank || plentyOfHeadroom)) {
+                level--;
+                underBudgetSince = now;
+            }
+        } else {
+            // Inside the hysteresis band, keep the current level
+            overBudgetSince = -1;
+            underBudgetSince = -1;
+        }
+    }
+
+    /**
+     * Checks if a detail has been given up to hold the frame rate
+     */
+    public boolean isReduced(Reduction reduction) {
+        return level > reduction.ordinal();
+    }
+
+    /**
+     * Turns antialiasing on unless it has been given up
+     */
+    public void setAntialiasing(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, isReduced(Reduction.ANTIALIASING)
+                ? RenderingHints.VALUE_ANTIALIAS_OFF
+                : RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the smoothed time spent drawing a frame in nanoseconds
+     */
+    public double getAverageFrameTime() {
+        return averageFrameTime;
+    }
+
+    /**
+     * Restores full detail, used when a new game starts
+     */
+    public void reset() {
+        level = 0;
+        averageFrameTime = 0;
+        overBudgetSince = -1;
+        underBudgetSince = -1;
+    }
+
+    private double getFrameBudget() {
+        int frameRate = GameConstants.isUncappedFrameRate() ? GameConstants.getTargetTPS()
+                : GameConstants.getMaxFrameRate();
+        return (double) NANOS_PER_SECOND / frameRate;
+    }
+}
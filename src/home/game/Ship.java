@@ -2,6 +2,7 @@ package home.game;
 
 import java.util.List;
 
+import home.game.combat.InfluenceMap;
 import home.game.operators.Bot;
 import home.game.operators.Operator;
 import home.game.operators.player.Player;
@@ -36,6 +37,9 @@ public class Ship {
     private long creationTime;
     private long maxLifetime; // Maximum lifetime in milliseconds
 
+    // Picks this ship's combat maneuvers, drawn from the game's random so replays match
+    private final int maneuverSeed;
+
     public Ship(Operator operator, Planet origin, Planet destination, double speed, int health, int damage) {
         this.operator = operator;
         this.origin = origin;
@@ -56,8 +60,9 @@ public class Ship {
         this.isMissile = false;
 
         // Initialize lifetime - random between 10-15 seconds
-        this.creationTime = System.currentTimeMillis();
-        this.maxLifetime = 10000 + (long) (Math.random() * 5000); // 10-15 seconds
+        this.creationTime = GameClock.currentTimeMillis();
+        this.maxLifetime = 10000 + (long) (GameRandom.nextDouble() * 5000); // 10-15 seconds
+        this.maneuverSeed = GameRandom.get().nextInt(Integer.MAX_VALUE);
     }
 
     /**
@@ -86,21 +91,22 @@ public class Ship {
 
         // Initialize lifetime - missiles have shorter lifetime (5-8 seconds), regular
         // ships 10-15 seconds
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = GameClock.currentTimeMillis();
         if (isMissile) {
-            this.maxLifetime = 5000 + (long) (Math.random() * 3000); // 5-8 seconds for missiles
+            this.maxLifetime = 5000 + (long) (GameRandom.nextDouble() * 3000); // 5-8 seconds for missiles
         } else {
-            this.maxLifetime = 10000 + (long) (Math.random() * 5000); // 10-15 seconds for regular ships
+            this.maxLifetime = 10000 + (long) (GameRandom.nextDouble() * 5000); // 10-15 seconds for regular ships
         }
+        this.maneuverSeed = GameRandom.get().nextInt(Integer.MAX_VALUE);
     }
 
     public void resetCreationTime() {
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = GameClock.currentTimeMillis();
     }
 
     public void tick() {
         // Check if ship has exceeded its maximum lifetime
-        if (System.currentTimeMillis() - creationTime > maxLifetime) {
+        if (GameClock.currentTimeMillis() - creationTime > maxLifetime) {
             // Ship expired - create small explosion and remove
             createExplosion(Explosion.ExplosionType.SHIP_DESTRUCTION);
             operator.removeShip(this);
@@ -807,10 +813,10 @@ public class Ship {
         }
 
         // PRIORITY 2: Normal combat maneuvers when not in immediate danger
-        // Each ship gets a unique maneuver pattern based on its hash to prevent
+        // Each ship gets a unique maneuver pattern based on its seed to prevent
         // synchronization
-        int shipId = System.identityHashCode(this); // Unique identifier for this ship
-        long time = System.currentTimeMillis();
+        int shipId = maneuverSeed; // Unique identifier for this ship
+        long time = GameClock.currentTimeMillis();
 
         // Ships change maneuvers at different intervals to prevent synchronized
         // movement
@@ -918,14 +924,9 @@ public class Ship {
         }
 
         // Check if all enemies are far away
-        List<Ship> allShips = operator.getGame().getShips();
-        for (Ship ship : allShips) {
-            if (ship.getOperator() != this.operator) { // Enemy ship
-                double enemyDistance = Math.hypot(ship.getX() - x, ship.getY() - y);
-                if (enemyDistance < 100) { // Still too close to enemies
-                    return false;
-                }
-            }
+        InfluenceMap influenceMap = operator.getGame().getInfluenceMap();
+        if (influenceMap.getEnemyCount(operator, x, y, InfluenceMap.Range.CLOSE) > 0) {
+            return false; // Still too close to enemies
         }
         return true; // All enemies are far away
     }
@@ -960,28 +961,16 @@ public class Ship {
      * Determines if this ship should flee from combat based on tactical situation
      */
     private boolean shouldFleeFromCombat(Ship target) {
-        // Count nearby enemy and friendly ships
-        int nearbyEnemies = 0;
-        int nearbyFriendlies = 0;
-        double scanRadius = 150; // Radius to check for other ships
-
-        List<Ship> allShips = operator.getGame().getShips();
-        for (Ship ship : allShips) {
-            if (ship == this)
-                continue;
-
-            double distance = Math.hypot(ship.getX() - x, ship.getY() - y);
-            if (distance < scanRadius) {
-                if (ship.getOperator() == this.operator) {
-                    nearbyFriendlies++;
-                } else {
-                    nearbyEnemies++;
-                }
-            }
-        }
+        // Count nearby enemy and friendly ships and their firepower from the influence map
+        InfluenceMap influenceMap = operator.getGame().getInfluenceMap();
+        int nearbyEnemies = influenceMap.getEnemyCount(operator, x, y, InfluenceMap.Range.WIDE);
+        int nearbyFriendlies = Math.max(0,
+                influenceMap.getFriendlyCount(operator, x, y, InfluenceMap.Range.WIDE) - 1); // Excluding self
+        int threat = influenceMap.getThreat(operator, x, y, InfluenceMap.Range.WIDE);
+        int strength = influenceMap.getStrength(operator, x, y, InfluenceMap.Range.WIDE); // Includes self
 
         // Factors that influence fleeing decision
-        boolean outnumbered = nearbyEnemies > nearbyFriendlies + 1; // +1 includes self
+        boolean outnumbered = threat > strength; // Enemy damage around us beats ours
         boolean lowHealth = health < getMaxHealth() * 0.4; // Below 40% health
         boolean farFromSupport = nearbyFriendlies == 0 && nearbyEnemies >= 2;
 
@@ -1579,6 +1568,9 @@ public class Ship {
 
     public void setTarget(Planet newDestination) {
         this.destination = newDestination;
+        if (game != null) {
+            game.getArrivalForecast().refresh(this);
+        }
     }
 
     public void setStationary(boolean stationary) {
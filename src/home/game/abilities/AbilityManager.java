@@ -1,13 +1,16 @@
 package home.game.abilities;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
 import home.game.Game;
+import home.game.GameClock;
 import home.game.GameConstants;
+import home.game.GameRandom;
 import home.game.Ship;
 import home.game.challenges.ChallengeManager;
 import home.game.operators.Bot;
@@ -16,6 +19,7 @@ import home.game.operators.player.Player;
 import home.game.operators.player.PlayerData;
 import home.game.operators.player.UpgradeType;
 import home.game.planets.Planet;
+import home.game.planets.PlanetProximityGraph;
 import home.sounds.Sound;
 
 public class AbilityManager {
@@ -32,40 +36,44 @@ public class AbilityManager {
     private boolean improvedFactoriesActive = false;
 
     // New ability tracking (player only - for backward compatibility)
-    private Map<Planet, Long> cursedPlanets = new HashMap<>(); // Planet -> curse end time
+    private Map<Planet, Long> cursedPlanets = new LinkedHashMap<>(); // Planet -> curse end time
     private List<BlackHole> blackHoles = new ArrayList<>();
     private boolean planetaryFlameActive = false;
-    private Map<Planet, Long> infectedPlanets = new HashMap<>(); // Planet -> infection end time
+    private Map<Planet, Long> infectedPlanets = new LinkedHashMap<>(); // Planet -> infection end time
     private boolean unstoppableShipsActive = false;
-    private Map<Planet, Long> orbitalFrozenPlanets = new HashMap<>(); // Planet -> freeze end time
+    private Map<Planet, Long> orbitalFrozenPlanets = new LinkedHashMap<>(); // Planet -> freeze end time
+
+    // Reused by the infection passes so spreading doesn't allocate every tick
+    private List<Planet> infectionScratch = new ArrayList<>();
+    private List<Planet> damageScratch = new ArrayList<>();
 
     // Multi-operator ability tracking
-    private Map<Operator, Boolean> operatorFreezeActive = new HashMap<>();
-    private Map<Operator, Boolean> operatorShieldActive = new HashMap<>();
-    private Map<Operator, Boolean> operatorFactoryHypeActive = new HashMap<>();
-    private Map<Operator, Boolean> operatorImprovedFactoriesActive = new HashMap<>();
-    private Map<Operator, Map<Planet, Long>> operatorCursedPlanets = new HashMap<>();
-    private Map<Operator, List<BlackHole>> operatorBlackHoles = new HashMap<>();
-    private Map<Operator, Boolean> operatorPlanetaryFlameActive = new HashMap<>();
-    private Map<Operator, Map<Planet, Long>> operatorInfectedPlanets = new HashMap<>();
-    private Map<Operator, Boolean> operatorUnstoppableShipsActive = new HashMap<>();
-    private Map<Operator, Map<Planet, Long>> operatorOrbitalFrozenPlanets = new HashMap<>();
+    private Map<Operator, Boolean> operatorFreezeActive = new LinkedHashMap<>();
+    private Map<Operator, Boolean> operatorShieldActive = new LinkedHashMap<>();
+    private Map<Operator, Boolean> operatorFactoryHypeActive = new LinkedHashMap<>();
+    private Map<Operator, Boolean> operatorImprovedFactoriesActive = new LinkedHashMap<>();
+    private Map<Operator, Map<Planet, Long>> operatorCursedPlanets = new LinkedHashMap<>();
+    private Map<Operator, List<BlackHole>> operatorBlackHoles = new LinkedHashMap<>();
+    private Map<Operator, Boolean> operatorPlanetaryFlameActive = new LinkedHashMap<>();
+    private Map<Operator, Map<Planet, Long>> operatorInfectedPlanets = new LinkedHashMap<>();
+    private Map<Operator, Boolean> operatorUnstoppableShipsActive = new LinkedHashMap<>();
+    private Map<Operator, Map<Planet, Long>> operatorOrbitalFrozenPlanets = new LinkedHashMap<>();
 
     // Operator effect expiry times
-    private Map<Operator, Long> operatorFreezeExpiry = new HashMap<>();
-    private Map<Operator, Long> operatorShieldExpiry = new HashMap<>();
-    private Map<Operator, Long> operatorFactoryHypeExpiry = new HashMap<>();
-    private Map<Operator, Long> operatorImprovedFactoriesExpiry = new HashMap<>();
-    private Map<Operator, Long> operatorPlanetaryFlameExpiry = new HashMap<>();
-    private Map<Operator, Long> operatorUnstoppableShipsExpiry = new HashMap<>();
-    private Map<Operator, Long> operatorOrbitalFreezeExpiry = new HashMap<>();
+    private Map<Operator, Long> operatorFreezeExpiry = new LinkedHashMap<>();
+    private Map<Operator, Long> operatorShieldExpiry = new LinkedHashMap<>();
+    private Map<Operator, Long> operatorFactoryHypeExpiry = new LinkedHashMap<>();
+    private Map<Operator, Long> operatorImprovedFactoriesExpiry = new LinkedHashMap<>();
+    private Map<Operator, Long> operatorPlanetaryFlameExpiry = new LinkedHashMap<>();
+    private Map<Operator, Long> operatorUnstoppableShipsExpiry = new LinkedHashMap<>();
+    private Map<Operator, Long> operatorOrbitalFreezeExpiry = new LinkedHashMap<>();
 
     public AbilityManager(Game game) {
         this.game = game;
         this.playerData = PlayerData.getInstance();
-        this.cooldowns = new HashMap<>();
-        this.activeEffects = new HashMap<>();
-        this.random = new Random();
+        this.cooldowns = new LinkedHashMap<>();
+        this.activeEffects = new LinkedHashMap<>();
+        this.random = GameRandom.get();
 
         // Initialize cooldowns
         for (AbilityType type : AbilityType.values()) {
@@ -77,21 +85,21 @@ public class AbilityManager {
     public boolean canUseAbility(AbilityType type) {
         if (!playerData.isAbilityUnlocked(type))
             return false;
-        return System.currentTimeMillis() >= cooldowns.get(type);
+        return GameClock.currentTimeMillis() >= cooldowns.get(type);
     }
 
     public long getRemainingCooldown(AbilityType type) {
-        long current = System.currentTimeMillis();
+        long current = GameClock.currentTimeMillis();
         long cooldownEnd = cooldowns.get(type);
         return Math.max(0, cooldownEnd - current);
     }
 
     public boolean isAbilityActive(AbilityType type) {
-        return System.currentTimeMillis() < activeEffects.get(type);
+        return GameClock.currentTimeMillis() < activeEffects.get(type);
     }
 
     public long getRemainingDuration(AbilityType type) {
-        long current = System.currentTimeMillis();
+        long current = GameClock.currentTimeMillis();
         long effectEnd = activeEffects.get(type);
         return Math.max(0, effectEnd - current);
     }
@@ -104,7 +112,7 @@ public class AbilityManager {
         ChallengeManager challengeManager = ChallengeManager.getInstance();
         challengeManager.onAbilityUsed(type);
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         double duration = playerData.getAbilityDuration(type);
         int power = playerData.getAbilityPower(type);
 
@@ -165,7 +173,7 @@ public class AbilityManager {
     }
 
     private void activateFreeze(double duration) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         activeEffects.put(AbilityType.FREEZE, endTime);
         freezeActive = true;
     }
@@ -206,19 +214,19 @@ public class AbilityManager {
     }
 
     private void activateShield(double duration) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         activeEffects.put(AbilityType.SHIELD, endTime);
         shieldActive = true;
     }
 
     private void activateFactoryHype(double duration) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         activeEffects.put(AbilityType.FACTORY_HYPE, endTime);
         factoryHypeActive = true;
     }
 
     private void activateImprovedFactories(double duration) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         activeEffects.put(AbilityType.IMPROVED_FACTORIES, endTime);
         improvedFactoriesActive = true;
     }
@@ -227,7 +235,7 @@ public class AbilityManager {
 
     private void activateAnsweredPrayers(int healingPercent) {
         int actualHealing = Math.min(100, healingPercent);
-        lastHealingTime = System.currentTimeMillis(); // Track when healing happened
+        lastHealingTime = GameClock.currentTimeMillis(); // Track when healing happened
 
         for (Planet planet : game.getPlanets()) {
             if (planet.getOperator() instanceof Player) {
@@ -244,12 +252,12 @@ public class AbilityManager {
     }
 
     public boolean wasHealingJustUsed() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         return (currentTime - lastHealingTime) < 100; // Within 100ms of healing activation
     }
 
     private void activateCurse(double duration, int statReduction) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
 
         // Curse all enemy planets
         for (Planet planet : game.getPlanets()) {
@@ -260,7 +268,7 @@ public class AbilityManager {
     }
 
     private void activateBlackHole(double duration, int eventHorizon) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
 
         // Cap event horizon size (cap now configurable via
         // GameConstants.getBlackHoleBasePower()*0.5 + ...)
@@ -300,7 +308,7 @@ public class AbilityManager {
     }
 
     private void activatePlanetaryFlame(double duration, int flamePower) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         activeEffects.put(AbilityType.PLANETARY_FLAME, endTime);
         planetaryFlameActive = true;
 
@@ -309,7 +317,7 @@ public class AbilityManager {
 
     // Update method to be called each game tick
     public void update() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
 
         // Check if abilities have expired
         if (freezeActive && currentTime >= activeEffects.get(AbilityType.FREEZE)) {
@@ -393,7 +401,7 @@ public class AbilityManager {
             double flameLength = playerData.getAbilityPower(AbilityType.PLANETARY_FLAME);
 
             // Check for enemies in flame range (rotating around planet)
-            double rotationAngle = (System.currentTimeMillis() * 0.002) % (2 * Math.PI);
+            double rotationAngle = (GameClock.currentTimeMillis() * 0.002) % (2 * Math.PI);
 
             for (int tower = 0; tower < 2; tower++) { // Two flame towers per planet
                 double towerAngle = rotationAngle + (tower * Math.PI);
@@ -419,7 +427,10 @@ public class AbilityManager {
                     if (ship.getOperator() instanceof Bot) {
                         double distance = Math
                                 .sqrt(Math.pow(ship.getX() - flameX, 2) + Math.pow(ship.getY() - flameY, 2));
-                        return distance < 25; // Flame ship destruction radius
+                        if (distance < 25) { // Flame ship destruction radius
+                            game.onShipRemoved(ship);
+                            return true;
+                        }
                     }
                     return false;
                 });
@@ -430,58 +441,60 @@ public class AbilityManager {
     private void handlePlanetaryInfectionSpread(long currentTime) {
         long infectionDuration = (long) (playerData.getAbilityDuration(AbilityType.PLANETARY_INFECTION) * 1000);
         int spreadDamage = playerData.getAbilityPower(AbilityType.PLANETARY_INFECTION);
+        Player player = game.getPlayer();
+        PlanetProximityGraph proximityGraph = game.getProximityGraph();
 
         // First, check for infection spreading (do this globally every 200ms)
         if (currentTime % 200 < 50) { // Check every 200ms for spreading
-            // Make a copy of current infected planets to avoid modification during
-            // iteration
-            List<Planet> currentlyInfected = new ArrayList<>(infectedPlanets.keySet());
-
-            for (Planet infectedPlanet : currentlyInfected) {
-                // Try to spread to nearby enemy planets
-                for (Planet nearbyPlanet : game.getPlanets()) {
-                    if (nearbyPlanet.getOperator() != game.getPlayer() && !infectedPlanets.containsKey(nearbyPlanet)) {
+            infectionScratch.clear();
 
-                        double distance = Math.sqrt(Math.pow(nearbyPlanet.getX() - infectedPlanet.getX(), 2)
-                                + Math.pow(nearbyPlanet.getY() - infectedPlanet.getY(), 2));
+            for (Planet infectedPlanet : infectedPlanets.keySet()) {
+                // Only neighbouring planets can be close enough to touch
+                for (Planet nearbyPlanet : proximityGraph.getNeighbours(infectedPlanet)) {
+                    if (nearbyPlanet.getOperator() != player && !infectedPlanets.containsKey(nearbyPlanet)) {
+                        double dx = nearbyPlanet.getX() - infectedPlanet.getX();
+                        double dy = nearbyPlanet.getY() - infectedPlanet.getY();
 
                         // Spread infection if planets are intersecting (overlapping)
                         // Two circles intersect when distance < sum of their radii
                         double intersectionDistance = infectedPlanet.getActualRadius() + nearbyPlanet.getActualRadius();
-                        if (distance < intersectionDistance) {
-                            infectedPlanets.put(nearbyPlanet, currentTime);
+                        if (dx * dx + dy * dy < intersectionDistance * intersectionDistance) {
+                            infectionScratch.add(nearbyPlanet);
                         }
                     }
                 }
             }
-        }
 
-        // Collect planets that need damage before modifying the map
-        List<Planet> planetsToDamage = new ArrayList<>();
+            // Add new infections once the key set is no longer being iterated
+            for (int i = 0; i < infectionScratch.size(); i++) {
+                infectedPlanets.putIfAbsent(infectionScratch.get(i), currentTime);
+            }
+        }
 
         // Remove expired infections and collect planets that need damage
-        infectedPlanets.entrySet().removeIf(entry -> {
-            Planet infectedPlanet = entry.getKey();
+        infectionScratch.clear();
+        Iterator<Map.Entry<Planet, Long>> iterator = infectedPlanets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Planet, Long> entry = iterator.next();
             long infectionStartTime = entry.getValue();
 
             // Check if infection has expired
             if (currentTime - infectionStartTime > infectionDuration) {
-                return true;
+                iterator.remove();
+                continue;
             }
 
             // Mark planet for damage if it's time (roughly every second)
             if ((currentTime - infectionStartTime) % 1000 < 50) {
-                planetsToDamage.add(infectedPlanet);
+                infectionScratch.add(entry.getKey());
             }
+        }
 
-            return false;
-        });
-
-        // Deal damage to infected planets after map modification is complete
-        for (Planet planet : planetsToDamage) {
-            Ship infectionDamage = new Ship(game.getPlayer(), null, planet, 0, 1, spreadDamage);
-            planet.takeDamage(infectionDamage);
+        // Deal damage after iteration, a takeover removes the planet's infection
+        for (int i = 0; i < infectionScratch.size(); i++) {
+            infectionScratch.get(i).takeDamage(player, spreadDamage);
         }
+        infectionScratch.clear();
     }
 
     // Getters for game logic to check ability states
@@ -514,7 +527,7 @@ public class AbilityManager {
     }
 
     public Map<Planet, Long> getInfectedPlanets() {
-        Map<Planet, Long> allInfectedPlanets = new HashMap<>(infectedPlanets);
+        Map<Planet, Long> allInfectedPlanets = new LinkedHashMap<>(infectedPlanets);
 
         // Add all operator infected planets
         for (Map<Planet, Long> operatorInfected : operatorInfectedPlanets.values()) {
@@ -525,7 +538,7 @@ public class AbilityManager {
     }
 
     public Map<Planet, Long> getCursedPlanets() {
-        Map<Planet, Long> allCursedPlanets = new HashMap<>(cursedPlanets);
+        Map<Planet, Long> allCursedPlanets = new LinkedHashMap<>(cursedPlanets);
 
         // Add all operator cursed planets
         for (Map<Planet, Long> operatorCursed : operatorCursedPlanets.values()) {
@@ -544,7 +557,7 @@ public class AbilityManager {
     }
 
     public boolean isPlanetCursed(Planet planet) {
-        return cursedPlanets.containsKey(planet) && System.currentTimeMillis() < cursedPlanets.get(planet);
+        return cursedPlanets.containsKey(planet) && GameClock.currentTimeMillis() < cursedPlanets.get(planet);
     }
 
     // Multipliers for abilities
@@ -579,7 +592,7 @@ public class AbilityManager {
     private void activatePlanetaryInfection(double duration, int power) {
 
         // Start infection on one random enemy planet
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         List<Planet> enemyPlanets = new ArrayList<>();
 
         for (int i = 0; i < power; i++) {
@@ -596,7 +609,6 @@ public class AbilityManager {
 
             // Infect one random enemy planet if any exist
             if (!enemyPlanets.isEmpty()) {
-                Random random = new Random();
                 Planet targetPlanet = enemyPlanets.get(random.nextInt(enemyPlanets.size()));
                 infectedPlanets.put(targetPlanet, currentTime);
             }
@@ -608,12 +620,12 @@ public class AbilityManager {
         unstoppableShipsActive = true;
 
         // Set the end time
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         activeEffects.put(AbilityType.UNSTOPPABLE_SHIPS, currentTime + (long) (duration * 1000));
     }
 
     private void activateOrbitalFreeze(double duration, int power) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         activeEffects.put(AbilityType.ORBITAL_FREEZE, endTime);
 
         // Get all enemy planets and freeze the first 'power' number of them
@@ -765,31 +777,35 @@ public class AbilityManager {
             long currentTime) {
         long infectionDuration = 10000; // 10 seconds default duration
         int spreadDamage = 50; // Default damage
+        double spreadRange = GameConstants.getInfectionSpreadRange();
+        PlanetProximityGraph proximityGraph = game.getProximityGraph();
 
         // Handle infection spreading and damage
-        List<Planet> newInfections = new ArrayList<>();
-        List<Planet> planetsToDamage = new ArrayList<>();
+        infectionScratch.clear();
+        damageScratch.clear();
 
-        infectedPlanets.entrySet().removeIf(entry -> {
+        Iterator<Map.Entry<Planet, Long>> iterator = infectedPlanets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Planet, Long> entry = iterator.next();
             Planet infectedPlanet = entry.getKey();
             long infectionStartTime = entry.getValue();
 
             // Remove infection after duration
             if (currentTime - infectionStartTime > infectionDuration) {
-                return true;
+                iterator.remove();
+                continue;
             }
 
             // Spread to nearby enemy planets every 3 seconds
             if ((currentTime - infectionStartTime) % 3000 < 50) {
-                for (Planet nearbyPlanet : game.getPlanets()) {
+                for (Planet nearbyPlanet : proximityGraph.getNeighbours(infectedPlanet)) {
                     if (nearbyPlanet.getOperator() != operator && !infectedPlanets.containsKey(nearbyPlanet)
-                            && !newInfections.contains(nearbyPlanet)) {
-
-                        double distance = Math.sqrt(Math.pow(nearbyPlanet.getX() - infectedPlanet.getX(), 2)
-                                + Math.pow(nearbyPlanet.getY() - infectedPlanet.getY(), 2));
+                            && !infectionScratch.contains(nearbyPlanet)) {
+                        double dx = nearbyPlanet.getX() - infectedPlanet.getX();
+                        double dy = nearbyPlanet.getY() - infectedPlanet.getY();
 
-                        if (distance < 100) { // Infection spread range
-                            newInfections.add(nearbyPlanet);
+                        if (dx * dx + dy * dy < spreadRange * spreadRange) { // Infection spread range
+                            infectionScratch.add(nearbyPlanet);
                         }
                     }
                 }
@@ -797,22 +813,21 @@ public class AbilityManager {
 
             // Mark planet for damage if it's time (roughly every second)
             if ((currentTime - infectionStartTime) % 1000 < 50) {
-                planetsToDamage.add(infectedPlanet);
+                damageScratch.add(infectedPlanet);
             }
-
-            return false;
-        });
+        }
 
         // Deal damage to infected planets after map modification is complete
-        for (Planet planet : planetsToDamage) {
-            Ship infectionDamage = new Ship(operator, null, planet, 0, 1, spreadDamage);
-            planet.takeDamage(infectionDamage);
+        for (int i = 0; i < damageScratch.size(); i++) {
+            damageScratch.get(i).takeDamage(operator, spreadDamage);
         }
 
         // Add new infections
-        for (Planet newInfection : newInfections) {
-            infectedPlanets.put(newInfection, currentTime);
+        for (int i = 0; i < infectionScratch.size(); i++) {
+            infectedPlanets.put(infectionScratch.get(i), currentTime);
         }
+        infectionScratch.clear();
+        damageScratch.clear();
     }
 
     /**
@@ -919,7 +934,7 @@ public class AbilityManager {
 
     private void activateOperatorFreeze(Operator operator, double duration) {
         operatorFreezeActive.put(operator, true);
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         operatorFreezeExpiry.put(operator, endTime);
     }
 
@@ -951,19 +966,19 @@ public class AbilityManager {
 
     private void activateOperatorShield(Operator operator, double duration) {
         operatorShieldActive.put(operator, true);
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         operatorShieldExpiry.put(operator, endTime);
     }
 
     private void activateOperatorFactoryHype(Operator operator, double duration) {
         operatorFactoryHypeActive.put(operator, true);
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         operatorFactoryHypeExpiry.put(operator, endTime);
     }
 
     private void activateOperatorImprovedFactories(Operator operator, double duration) {
         operatorImprovedFactoriesActive.put(operator, true);
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         operatorImprovedFactoriesExpiry.put(operator, endTime);
     }
 
@@ -983,11 +998,11 @@ public class AbilityManager {
     }
 
     private void activateOperatorCurse(Operator operator, double duration, int statReduction) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
 
         // Initialize operator's cursed planets map if not exists
         if (!operatorCursedPlanets.containsKey(operator)) {
-            operatorCursedPlanets.put(operator, new HashMap<>());
+            operatorCursedPlanets.put(operator, new LinkedHashMap<>());
         }
 
         // Curse all enemy planets
@@ -1000,7 +1015,7 @@ public class AbilityManager {
     }
 
     private void activateOperatorBlackHole(Operator operator, double duration, int eventHorizon) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
 
         // Cap event horizon size
         int cappedHorizon = Math.min(150, eventHorizon);
@@ -1045,18 +1060,18 @@ public class AbilityManager {
 
     private void activateOperatorPlanetaryFlame(Operator operator, double duration, int flamePower) {
         operatorPlanetaryFlameActive.put(operator, true);
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         operatorPlanetaryFlameExpiry.put(operator, endTime);
     }
 
     private void activateOperatorPlanetaryInfection(Operator operator, double duration, int power) {
         // Initialize operator's infected planets map if not exists
         if (!operatorInfectedPlanets.containsKey(operator)) {
-            operatorInfectedPlanets.put(operator, new HashMap<>());
+            operatorInfectedPlanets.put(operator, new LinkedHashMap<>());
         }
 
         // Start infection on one random enemy planet
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         List<Planet> enemyPlanets = new ArrayList<>();
 
         // Collect all enemy planets
@@ -1075,17 +1090,17 @@ public class AbilityManager {
 
     private void activateOperatorUnstoppableShips(Operator operator, double duration, int power) {
         operatorUnstoppableShipsActive.put(operator, true);
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         operatorUnstoppableShipsExpiry.put(operator, endTime);
     }
 
     private void activateOperatorOrbitalFreeze(Operator operator, double duration, int power) {
-        long endTime = System.currentTimeMillis() + (long) (duration * 1000);
+        long endTime = GameClock.currentTimeMillis() + (long) (duration * 1000);
         operatorOrbitalFreezeExpiry.put(operator, endTime);
 
         // Initialize operator's orbital frozen planets map if not exists
         if (!operatorOrbitalFrozenPlanets.containsKey(operator)) {
-            operatorOrbitalFrozenPlanets.put(operator, new HashMap<>());
+            operatorOrbitalFrozenPlanets.put(operator, new LinkedHashMap<>());
         }
 
         // Get all enemy planets and freeze the first 'power' number of them
@@ -1131,27 +1146,27 @@ public class AbilityManager {
     }
 
     public Map<Planet, Long> getOperatorOrbitalFrozenPlanets(Operator operator) {
-        return operatorOrbitalFrozenPlanets.getOrDefault(operator, new HashMap<>());
+        return operatorOrbitalFrozenPlanets.getOrDefault(operator, new LinkedHashMap<>());
     }
 
     public boolean isOperatorPlanetOrbitallyFrozen(Operator operator, Planet planet) {
         Map<Planet, Long> frozenByOperator = operatorOrbitalFrozenPlanets.get(operator);
         if (frozenByOperator == null)
             return false;
-        return frozenByOperator.containsKey(planet) && System.currentTimeMillis() < frozenByOperator.get(planet);
+        return frozenByOperator.containsKey(planet) && GameClock.currentTimeMillis() < frozenByOperator.get(planet);
     }
 
     public boolean isPlanetOrbitallyFrozen(Planet planet) {
         // Check if planet is frozen by player
         Long playerFreezeEnd = orbitalFrozenPlanets.get(planet);
-        if (playerFreezeEnd != null && System.currentTimeMillis() < playerFreezeEnd) {
+        if (playerFreezeEnd != null && GameClock.currentTimeMillis() < playerFreezeEnd) {
             return true;
         }
 
         // Check if planet is frozen by any operator
         for (Map<Planet, Long> frozenByOperator : operatorOrbitalFrozenPlanets.values()) {
             Long freezeEnd = frozenByOperator.get(planet);
-            if (freezeEnd != null && System.currentTimeMillis() < freezeEnd) {
+            if (freezeEnd != null && GameClock.currentTimeMillis() < freezeEnd) {
                 return true;
             }
         }
@@ -1160,11 +1175,11 @@ public class AbilityManager {
     }
 
     public Map<Planet, Long> getOperatorCursedPlanets(Operator operator) {
-        return operatorCursedPlanets.getOrDefault(operator, new HashMap<>());
+        return operatorCursedPlanets.getOrDefault(operator, new LinkedHashMap<>());
     }
 
     public Map<Planet, Long> getOperatorInfectedPlanets(Operator operator) {
-        return operatorInfectedPlanets.getOrDefault(operator, new HashMap<>());
+        return operatorInfectedPlanets.getOrDefault(operator, new LinkedHashMap<>());
     }
 
     public List<BlackHole> getOperatorBlackHoles(Operator operator) {
@@ -1175,7 +1190,7 @@ public class AbilityManager {
         Map<Planet, Long> cursedByOperator = operatorCursedPlanets.get(operator);
         if (cursedByOperator == null)
             return false;
-        return cursedByOperator.containsKey(planet) && System.currentTimeMillis() < cursedByOperator.get(planet);
+        return cursedByOperator.containsKey(planet) && GameClock.currentTimeMillis() < cursedByOperator.get(planet);
     }
 
     public boolean isOperatorPlanetInfected(Operator operator, Planet planet) {
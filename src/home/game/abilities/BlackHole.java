@@ -1,5 +1,6 @@
 package home.game.abilities;
 
+import home.game.GameClock;
 import home.game.operators.Operator;
 
 public class BlackHole {
@@ -19,7 +20,7 @@ public class BlackHole {
     }
 
     public boolean isExpired() {
-        return System.currentTimeMillis() > endTime;
+        return GameClock.currentTimeMillis() > endTime;
     }
 
     public Operator getOperator() {
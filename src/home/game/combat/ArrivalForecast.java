@@ -0,0 +1,220 @@
+package home.game.combat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import home.game.Game;
+import home.game.Ship;
+import home.game.operators.Operator;
+import home.game.planets.Planet;
+
+/**
+ * Keeps a running forecast of what is about to hit every planet: how many ships
+ * each operator has heading there, how much damage they carry and when they are
+ * expected to arrive.
+ *
+ * The forecast is updated as ships spawn, change target, enter or leave combat
+ * and are destroyed, so reading it never needs a scan over all ships. Updates
+ * happen on the engine thread; the per-planet totals may be read from the
+ * render thread and can be a tick stale there.
+ */
+public class ArrivalForecast {
+
+    private final Game game;
+    private final Map<Ship, Entry> entries = new HashMap<>();
+    private final Map<Planet, Map<Operator, Incoming>> incomingByPlanet = new ConcurrentHashMap<>();
+
+    public ArrivalForecast(Game game) {
+        this.game = game;
+    }
+
+    public void add(Ship ship) {
+        if (entries.containsKey(ship) || ship.getDestination() == null) {
+            return;
+        }
+        Entry entry = new Entry(ship.getDestination(), ship.getOperator(), ship.getDamage(), estimateArrival(ship));
+        entries.put(ship, entry);
+        apply(entry, 1);
+    }
+
+    /**
+     * Re-files a ship whose destination or expected arrival changed (retarget,
+     * combat start or end)
+     */
+    public void refresh(Ship ship) {
+        Entry entry = entries.get(ship);
+        if (entry == null) {
+            return;
+        }
+        apply(entry, -1);
+        if (ship.getDestination() == null) {
+            entries.remove(ship);
+            return;
+        }
+        entry.planet = ship.getDestination();
+        entry.arrivalTick = estimateArrival(ship);
+        apply(entry, 1);
+    }
+
+    public void remove(Ship ship) {
+        Entry entry = entries.remove(ship);
+        if (entry != null) {
+            apply(entry, -1);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        incomingByPlanet.clear();
+    }
+
+    /**
+     * Gets the incoming totals per operator for a planet
+     */
+    public Collection<Incoming> getIncoming(Planet planet) {
+        Map<Operator, Incoming> incoming = incomingByPlanet.get(planet);
+        return incoming != null ? incoming.values() : Collections.emptyList();
+    }
+
+    /**
+     * Gets the number of ships not owned by the planet's operator heading to it
+     */
+    public int getHostileIncomingCount(Planet planet) {
+        int total = 0;
+        for (Incoming incoming : getIncoming(planet)) {
+            if (incoming.operator != planet.getOperator()) {
+                total += incoming.getShipCount();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the damage carried by ships not owned by the planet's operator heading
+     * to it
+     */
+    public int getHostileIncomingDamage(Planet planet) {
+        int total = 0;
+        for (Incoming incoming : getIncoming(planet)) {
+            if (incoming.operator != planet.getOperator()) {
+                total += incoming.getTotalDamage();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the soonest expected arrival tick of any hostile group heading to the
+     * planet, or -1 if nothing hostile is incoming
+     */
+    public long getNextHostileArrivalTick(Planet planet) {
+        long soonest = -1;
+        for (Incoming incoming : getIncoming(planet)) {
+            if (incoming.operator != planet.getOperator()) {
+                long arrival = incoming.getSoonestArrivalTick();
+                if (arrival >= 0 && (soonest < 0 || arrival < soonest)) {
+                    soonest = arrival;
+                }
+            }
+        }
+        return soonest;
+    }
+
+    private void apply(Entry entry, int sign) {
+        Map<Operator, Incoming> incomingForPlanet = incomingByPlanet.computeIfAbsent(entry.planet,
+                planet -> new ConcurrentHashMap<>());
+        Incoming incoming = incomingForPlanet.computeIfAbsent(entry.operator, Incoming::new);
+        incoming.apply(entry, sign);
+        if (incoming.getShipCount() <= 0) {
+            incomingForPlanet.remove(entry.operator);
+        }
+    }
+
+    private long estimateArrival(Ship ship) {
+        Planet destination = ship.getDestination();
+        double distance = Math.hypot(destination.getX() - ship.getX(), destination.getY() - ship.getY());
+        double speed = Math.max(0.1, ship.getSpeed());
+        return game.getTickCount() + (long) Math.ceil(distance / speed);
+    }
+
+    /**
+     * Totals for one operator's ships heading to one planet.
+     *
+     * The arrival ticks of the group are counted per tick so the soonest one
+     * stays right as ships are removed. They are only touched on the engine
+     * thread, which publishes the totals as one immutable object after every
+     * change, so other threads always read a count, damage and arrival that
+     * belong together.
+     */
+    public static class Incoming {
+        private final Operator operator;
+        private final TreeMap<Long, Integer> shipsByArrivalTick = new TreeMap<>();
+        private volatile Totals totals = new Totals(0, 0, -1);
+
+        private Incoming(Operator operator) {
+            this.operator = operator;
+        }
+
+        private void apply(Entry entry, int sign) {
+            int ships = shipsByArrivalTick.getOrDefault(entry.arrivalTick, 0) + sign;
+            if (ships > 0) {
+                shipsByArrivalTick.put(entry.arrivalTick, ships);
+            } else {
+                shipsByArrivalTick.remove(entry.arrivalTick);
+            }
+            Totals current = totals;
+            long soonest = shipsByArrivalTick.isEmpty() ? -1 : shipsByArrivalTick.firstKey();
+            totals = new Totals(current.shipCount + sign, current.totalDamage + sign * entry.damage, soonest);
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        public int getShipCount() {
+            return totals.shipCount;
+        }
+
+        public int getTotalDamage() {
+            return totals.totalDamage;
+        }
+
+        /**
+         * Gets the soonest expected arrival tick of any ship in the group, or -1
+         * if the group is empty
+         */
+        public long getSoonestArrivalTick() {
+            return totals.soonestArrivalTick;
+        }
+    }
+
+    private static class Totals {
+        final int shipCount;
+        final int totalDamage;
+        final long soonestArrivalTick;
+
+        Totals(int shipCount, int totalDamage, long soonestArrivalTick) {
+            this.shipCount = shipCount;
+            this.totalDamage = totalDamage;
+            this.soonestArrivalTick = soonestArrivalTick;
+        }
+    }
+
+    private static class Entry {
+        Planet planet;
+        final Operator operator;
+        final int damage;
+        long arrivalTick;
+
+        Entry(Planet planet, Operator operator, int damage, long arrivalTick) {
+            this.planet = planet;
+            this.operator = operator;
+            this.damage = damage;
+            this.arrivalTick = arrivalTick;
+        }
+    }
+}
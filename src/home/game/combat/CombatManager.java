@@ -1,12 +1,14 @@
 package home.game.combat;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import home.game.Game;
+import home.game.GameClock;
 import home.game.GameConstants;
+import home.game.GameRandom;
 import home.game.Projectile;
 import home.game.Ship;
 
@@ -17,7 +19,7 @@ public class CombatManager {
 
     public CombatManager(Game game) {
         this.game = game;
-        this.combatStates = new HashMap<>();
+        this.combatStates = new LinkedHashMap<>();
     }
 
     /**
@@ -186,6 +188,7 @@ public class CombatManager {
         double dy = target.getY() - ship.getY();
         ship.setDirection(Math.atan2(dy, dx));
         ship.setStationary(true);
+        game.getArrivalForecast().refresh(ship);
     }
 
     /**
@@ -196,6 +199,7 @@ public class CombatManager {
         state.combatTarget = null;
         state.lastShotTime = 0;
         ship.setStationary(false);
+        game.getArrivalForecast().refresh(ship); // Travel time restarts from where the fight ended
 
         // Ensure ship resumes movement toward its destination
         if (ship.getDestination() != null) {
@@ -234,7 +238,7 @@ public class CombatManager {
 
         // Try to shoot - but only if ship is actually facing the target
         if (state.combatTarget != null && !state.combatTarget.isDestroyed()) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = GameClock.currentTimeMillis();
             if (currentTime - state.lastShotTime >= GameConstants.getShipFireRate()) {
                 // Check if ship is facing the target before allowing shooting
                 if (isShipFacingTarget(ship, state.combatTarget)) {
@@ -290,8 +294,8 @@ public class CombatManager {
         // Add some margin of error based on distance (further targets are harder to
         // predict)
         double errorMargin = Math.min(20, distanceToTarget * 0.1);
-        double randomError = (Math.random() - 0.5) * 2 * errorMargin;
-        double errorAngle = Math.random() * 2 * Math.PI;
+        double randomError = (GameRandom.nextDouble() - 0.5) * 2 * errorMargin;
+        double errorAngle = GameRandom.nextDouble() * 2 * Math.PI;
 
         predictedX += Math.cos(errorAngle) * randomError;
         predictedY += Math.sin(errorAngle) * randomError;
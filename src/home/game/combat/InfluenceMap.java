@@ -0,0 +1,337 @@
+package home.game.combat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import home.game.GameConstants;
+import home.game.Ship;
+import home.game.operators.Operator;
+
+/**
+ * Coarse grid of ship presence per operator, kept up to date as ships spawn,
+ * move between cells and die.
+ *
+ * Every cell stores, for each operator, how many ships (and how much damage)
+ * sit in the cells that lie wholly within each {@link Range} of it. A ship
+ * entering a cell adds itself to every such cell once. Cells the edge of the
+ * range cuts through are checked ship by ship against the exact radius, so
+ * asking "how many enemies are near this point" looks at a ring of cells
+ * instead of sweeping over all ships and still counts the same ships.
+ *
+ * Used from the engine thread.
+ */
+public class InfluenceMap {
+
+    /**
+     * Radii the map keeps neighbourhood totals for
+     */
+    public enum Range {
+        CLOSE(100), // Flee exit checks
+        WIDE(150); // Flee decisions and bot target scoring
+
+        private final double radius;
+
+        Range(double radius) {
+            this.radius = radius;
+        }
+
+        public double getRadius() {
+            return radius;
+        }
+    }
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    // Column and row offsets per Range ordinal, of cells wholly within range of any point of a cell and of
+    // cells only partly within range, as {column, row} pairs
+    private final int[][] insideOffsets;
+    private final int[][] edgeOffsets;
+    private List<Entry>[] cellEntries; // Ships filed in each cell
+
+    // [range][operator slot][cell]
+    private int[][][] counts;
+    private int[][][] strength;
+
+    private final Map<Operator, Integer> operatorSlots = new HashMap<>();
+    private final List<Operator> operators = new ArrayList<>();
+    private final Map<Ship, Entry> entries = new HashMap<>();
+    private final List<Entry> strays = new ArrayList<>(); // Ships outside the grid, not in any totals
+    private final List<Entry> nearby = new ArrayList<>(); // Reused by every lookup
+
+    public InfluenceMap() {
+        this.cellSize = GameConstants.getInfluenceCellSize();
+        this.columns = (GameConstants.getGameWidth() + cellSize - 1) / cellSize;
+        this.rows = (GameConstants.getGameHeight() + cellSize - 1) / cellSize;
+        int rangeCount = Range.values().length;
+        this.insideOffsets = new int[rangeCount][];
+        this.edgeOffsets = new int[rangeCount][];
+        for (Range range : Range.values()) {
+            buildOffsets(range);
+        }
+        this.cellEntries = createCellEntries();
+        this.counts = new int[rangeCount][0][];
+        this.strength = new int[rangeCount][0][];
+    }
+
+    /**
+     * Starts tracking a ship. Missiles don't take part in combat and are ignored.
+     */
+    public void add(Ship ship) {
+        if (ship.isMissile() || entries.containsKey(ship)) {
+            return;
+        }
+        Entry entry = new Entry(ship, getSlot(ship.getOperator()), cellOf(ship.getX(), ship.getY()),
+                ship.getDamage());
+        entry.stray = !isOnGrid(ship.getX(), ship.getY());
+        entries.put(ship, entry);
+        file(entry, 1);
+    }
+
+    /**
+     * Re-files a ship after it moved. Cheap when it stayed in the same cell.
+     */
+    public void update(Ship ship) {
+        Entry entry = entries.get(ship);
+        if (entry == null) {
+            return; // Not tracked (missile, or already removed this tick)
+        }
+        int cell = cellOf(ship.getX(), ship.getY());
+        boolean stray = !isOnGrid(ship.getX(), ship.getY());
+        if (cell != entry.cell || stray != entry.stray) {
+            file(entry, -1);
+            entry.cell = cell;
+            entry.stray = stray;
+            file(entry, 1);
+        }
+    }
+
+    public void remove(Ship ship) {
+        Entry entry = entries.remove(ship);
+        if (entry != null) {
+            file(entry, -1);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        strays.clear();
+        operatorSlots.clear();
+        operators.clear();
+        this.cellEntries = createCellEntries();
+        this.counts = new int[insideOffsets.length][0][];
+        this.strength = new int[insideOffsets.length][0][];
+    }
+
+    /**
+     * Gets the number of the operator's ships within range of a point
+     */
+    public int getFriendlyCount(Operator operator, double x, double y, Range range) {
+        return total(operator, true, false, x, y, range);
+    }
+
+    /**
+     * Gets the number of ships not owned by the operator within range of a point
+     */
+    public int getEnemyCount(Operator operator, double x, double y, Range range) {
+        return total(operator, false, false, x, y, range);
+    }
+
+    /**
+     * Gets the combined damage of the operator's ships within range of a point
+     */
+    public int getStrength(Operator operator, double x, double y, Range range) {
+        return total(operator, true, true, x, y, range);
+    }
+
+    /**
+     * Gets the combined damage of every other operator's ships within range of a
+     * point
+     */
+    public int getThreat(Operator operator, double x, double y, Range range) {
+        return total(operator, false, true, x, y, range);
+    }
+
+    /**
+     * Adds up the ships or damage of the operator or of everyone else within
+     * range of a point
+     */
+    private int total(Operator operator, boolean friendly, boolean damage, double x, double y, Range range) {
+        int total = 0;
+        nearby.clear();
+        if (isOnGrid(x, y)) {
+            int cell = cellOf(x, y);
+            int[][] layer = (damage ? strength : counts)[range.ordinal()];
+            for (int slot = 0; slot < operators.size(); slot++) {
+                if ((operators.get(slot) == operator) == friendly) {
+                    total += layer[slot][cell];
+                }
+            }
+            collectEdgeEntries(cell, x, y, range);
+        } else {
+            // The totals only hold for points inside their cell, check every ship
+            collectInRange(entries.values(), x, y, range);
+        }
+        for (Entry entry : nearby) {
+            if ((operators.get(entry.slot) == operator) == friendly) {
+                total += damage ? entry.damage : 1;
+            }
+        }
+        return total;
+    }
+
+    private int getSlot(Operator operator) {
+        Integer slot = operatorSlots.get(operator);
+        if (slot != null) {
+            return slot;
+        }
+        slot = operators.size();
+        operators.add(operator);
+        operatorSlots.put(operator, slot);
+
+        // Grow every layer by one operator
+        int cellCount = columns * rows;
+        for (int range = 0; range < insideOffsets.length; range++) {
+            counts[range] = Arrays.copyOf(counts[range], slot + 1);
+            counts[range][slot] = new int[cellCount];
+            strength[range] = Arrays.copyOf(strength[range], slot + 1);
+            strength[range][slot] = new int[cellCount];
+        }
+        return slot;
+    }
+
+    /**
+     * Sorts the cells around a cell into those every point of which is within
+     * range of every point of the cell, and those only some points are
+     */
+    private void buildOffsets(Range range) {
+        double radius = range.getRadius() / cellSize; // In cells
+        int reach = (int) Math.ceil(radius) + 1;
+        List<int[]> inside = new ArrayList<>();
+        List<int[]> edge = new ArrayList<>();
+        for (int row = -reach; row <= reach; row++) {
+            for (int column = -reach; column <= reach; column++) {
+                int nearColumn = Math.max(0, Math.abs(column) - 1);
+                int nearRow = Math.max(0, Math.abs(row) - 1);
+                int farColumn = Math.abs(column) + 1;
+                int farRow = Math.abs(row) + 1;
+                if (farColumn * farColumn + farRow * farRow < radius * radius) {
+                    inside.add(new int[] { column, row });
+                } else if (nearColumn * nearColumn + nearRow * nearRow < radius * radius) {
+                    edge.add(new int[] { column, row });
+                }
+            }
+        }
+        insideOffsets[range.ordinal()] = flatten(inside);
+        edgeOffsets[range.ordinal()] = flatten(edge);
+    }
+
+    private static int[] flatten(List<int[]> offsets) {
+        int[] flat = new int[offsets.size() * 2];
+        for (int i = 0; i < offsets.size(); i++) {
+            flat[i * 2] = offsets.get(i)[0];
+            flat[i * 2 + 1] = offsets.get(i)[1];
+        }
+        return flat;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entry>[] createCellEntries() {
+        List<Entry>[] cells = new List[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new ArrayList<>(2);
+        }
+        return cells;
+    }
+
+    /**
+     * Adds (sign 1) or removes (sign -1) a ship from its cell and its presence
+     * from every cell it is wholly within range of. Ships outside the grid are
+     * only kept aside.
+     */
+    private void file(Entry entry, int sign) {
+        if (entry.stray) {
+            if (sign > 0) {
+                strays.add(entry);
+            } else {
+                strays.remove(entry);
+            }
+            return;
+        }
+        if (sign > 0) {
+            cellEntries[entry.cell].add(entry);
+        } else {
+            cellEntries[entry.cell].remove(entry);
+        }
+        int column = entry.cell % columns;
+        int row = entry.cell / columns;
+        for (int range = 0; range < insideOffsets.length; range++) {
+            int[] offsets = insideOffsets[range];
+            int[] rangeCounts = counts[range][entry.slot];
+            int[] rangeStrength = strength[range][entry.slot];
+            for (int i = 0; i < offsets.length; i += 2) {
+                int c = column + offsets[i];
+                int r = row + offsets[i + 1];
+                if (c >= 0 && c < columns && r >= 0 && r < rows) {
+                    rangeCounts[r * columns + c] += sign;
+                    rangeStrength[r * columns + c] += sign * entry.damage;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the ships in the cells the range edge cuts through, and those
+     * outside the grid, that are within the exact radius of the point
+     */
+    private void collectEdgeEntries(int cell, double x, double y, Range range) {
+        int column = cell % columns;
+        int row = cell / columns;
+        int[] offsets = edgeOffsets[range.ordinal()];
+        for (int i = 0; i < offsets.length; i += 2) {
+            int c = column + offsets[i];
+            int r = row + offsets[i + 1];
+            if (c >= 0 && c < columns && r >= 0 && r < rows) {
+                collectInRange(cellEntries[r * columns + c], x, y, range);
+            }
+        }
+        collectInRange(strays, x, y, range);
+    }
+
+    private void collectInRange(Iterable<Entry> candidates, double x, double y, Range range) {
+        double radius = range.getRadius();
+        for (Entry entry : candidates) {
+            if (Math.hypot(entry.ship.getX() - x, entry.ship.getY() - y) < radius) {
+                nearby.add(entry);
+            }
+        }
+    }
+
+    private boolean isOnGrid(double x, double y) {
+        return x >= 0 && y >= 0 && x < columns * cellSize && y < rows * cellSize;
+    }
+
+    private int cellOf(double x, double y) {
+        int column = Math.max(0, Math.min(columns - 1, (int) (x / cellSize)));
+        int row = Math.max(0, Math.min(rows - 1, (int) (y / cellSize)));
+        return row * columns + column;
+    }
+
+    private static class Entry {
+        final Ship ship;
+        final int slot;
+        final int damage;
+        int cell;
+        boolean stray; // Outside the grid
+
+        Entry(Ship ship, int slot, int cell, int damage) {
+            this.ship = ship;
+            this.slot = slot;
+            this.cell = cell;
+            this.damage = damage;
+        }
+    }
+}
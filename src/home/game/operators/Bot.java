@@ -5,6 +5,9 @@ import java.util.List;
 import java.util.Random;
 
 import home.game.Game;
+import home.game.GameClock;
+import home.game.GameConstants;
+import home.game.GameRandom;
 import home.game.abilities.AbilityManager;
 import home.game.abilities.AbilityType;
 import home.game.operators.player.UpgradeType;
@@ -15,7 +18,7 @@ public class Bot extends Operator {
     private long lastDecisionTime = 0;
     private long decisionInterval; // Dynamic based on difficulty
     private static final long INITIAL_DELAY = 5000; // Initial delay before first decision
-    private long startTime = System.currentTimeMillis();
+    private long startTime = GameClock.currentTimeMillis();
     private double aggressiveness; // How aggressive this bot is
     private double efficiency; // How efficient this bot is at targeting
 
@@ -24,6 +27,9 @@ public class Bot extends Operator {
     private List<UpgradeType> botUpgrades;
     private long lastAbilityUse = 0;
     private static final long ABILITY_COOLDOWN = 15000; // 15 seconds between ability uses
+    // Only used by the planner thread planning this bot, seeded from the game so seeded games plan alike
+    private final Random random = new Random(GameRandom.get().nextLong());
+    private volatile boolean planInFlight = false; // Set while a plan is queued or running on the planner
 
     // Ability effect durations for visual tracking
     private long botShieldEndTime = 0;
@@ -60,14 +66,20 @@ public class Bot extends Operator {
         this.startTime = startTime;
     }
 
+    /**
+     * Called every engine tick. At each decision interval this hands a planning
+     * pass to the {@link BotPlanner}; the resulting commands are applied by the
+     * engine on a later tick through {@link #applyCommand(BotCommand)}.
+     */
     public void tick() {
-        if (System.currentTimeMillis() - startTime < INITIAL_DELAY) {
+        if (GameClock.currentTimeMillis() - startTime < INITIAL_DELAY) {
             return; // Wait for initial delay before starting decisions
         }
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
 
-        // Only make decisions at intervals to avoid spam
-        if (currentTime - lastDecisionTime < decisionInterval) {
+        // Only make decisions at intervals to avoid spam, and never while the
+        // previous plan is still being worked out
+        if (planInFlight || currentTime - lastDecisionTime < decisionInterval) {
             return;
         }
         lastDecisionTime = currentTime;
@@ -75,23 +87,76 @@ public class Bot extends Operator {
         // Update bot ability effects
         updateBotAbilityEffects(currentTime);
 
+        boolean abilityReady = !botAbilities.isEmpty() && currentTime - lastAbilityUse >= ABILITY_COOLDOWN;
+        planInFlight = true;
+        getGame().getBotPlanner().submit(this, abilityReady);
+    }
+
+    /**
+     * Works out this bot's next moves from a world snapshot. Runs on a planner
+     * thread, so it may only read the snapshot and this bot's fixed settings.
+     */
+    List<BotCommand> plan(WorldSnapshot snapshot, boolean abilityReady) {
+        List<BotCommand> commands = new ArrayList<>();
+
         // Try to use abilities (for bots on higher difficulties)
-        tryUseAbility();
+        if (abilityReady) {
+            // Randomly select an ability to use
+            commands.add(BotCommand.ability(botAbilities.get(random.nextInt(botAbilities.size()))));
+        }
 
         // Get all planets controlled by this bot
-        List<Planet> myPlanets = getMyPlanets();
+        List<WorldSnapshot.PlanetState> myPlanets = snapshot.getPlanetsOwnedBy(this);
 
         if (myPlanets.isEmpty()) {
-            return; // Bot has no planets, nothing to do
+            return commands; // Bot has no planets, nothing to do
+        }
+
+        // Target counts as they will be once earlier commands are applied
+        int[] targetCounts = new int[snapshot.getPlanets().size()];
+        for (WorldSnapshot.PlanetState state : snapshot.getPlanets()) {
+            targetCounts[state.getIndex()] = state.getTargets().size();
         }
 
         // First priority: Reinforce low-health planets if we have multiple planets
         if (myPlanets.size() > 1) {
-            reinforceLowHealthPlanets(myPlanets);
+            reinforceLowHealthPlanets(snapshot, myPlanets, targetCounts, commands);
         }
 
         // Second priority: Form connections to attack other planets
-        formAttackConnections(myPlanets);
+        formAttackConnections(snapshot, myPlanets, targetCounts, commands);
+        return commands;
+    }
+
+    /**
+     * Applies a planned command to the live world. Runs on the engine thread and
+     * re-checks the command since the world may have moved on since planning.
+     */
+    void applyCommand(BotCommand command) {
+        switch (command.getType()) {
+            case TARGET:
+                Planet source = command.getSource();
+                Planet target = command.getTarget();
+                if (source.getOperator() == this && source != target && !source.getTargets().contains(target)) {
+                    source.attemptTargeting(target);
+                }
+                break;
+
+            case ABILITY:
+                if (GameClock.currentTimeMillis() - lastAbilityUse >= ABILITY_COOLDOWN) {
+                    // Use bot-specific ability activation (doesn't affect player cooldowns)
+                    useBotAbility(command.getAbility());
+                    lastAbilityUse = GameClock.currentTimeMillis();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Called by the planner once this bot's plan has been applied or dropped
+     */
+    void onPlanApplied() {
+        planInFlight = false;
     }
 
     /**
@@ -111,20 +176,33 @@ public class Bot extends Operator {
      * Reinforces planets that have low health by connecting stronger planets to
      * them
      */
-    private void reinforceLowHealthPlanets(List<Planet> myPlanets) {
-        for (Planet planet : myPlanets) {
+    private void reinforceLowHealthPlanets(WorldSnapshot snapshot, List<WorldSnapshot.PlanetState> myPlanets,
+            int[] targetCounts, List<BotCommand> commands) {
+        // Reinforce first where hostile ships land soonest, then frontier planets that face
+        // the enemy, while reinforcers are still free
+        List<WorldSnapshot.PlanetState> byUrgency = new ArrayList<>(myPlanets);
+        byUrgency.sort((a, b) -> {
+            int byArrival = Long.compare(snapshot.getTicksUntilHostileArrival(a),
+                    snapshot.getTicksUntilHostileArrival(b));
+            return byArrival != 0 ? byArrival : Boolean.compare(snapshot.isFrontier(b), snapshot.isFrontier(a));
+        });
+
+        for (WorldSnapshot.PlanetState planet : byUrgency) {
             // Adjust health threshold based on efficiency (more efficient = better resource
             // management)
             double healthThreshold = 0.5 + (efficiency - 1.0) * 0.2; // Range from ~0.3 to ~0.7
 
-            // Consider a planet "low health" based on difficulty-adjusted threshold
-            if (planet.getHealth() < planet.getMaxHealth() * healthThreshold) {
+            // Consider a planet "low health" based on difficulty-adjusted threshold, counting
+            // hostile ships already on their way so reinforcements leave before they land
+            if (snapshot.getProjectedHealthRatio(planet) < healthThreshold) {
                 // Find a stronger planet to reinforce this one
-                Planet reinforcer = findBestReinforcer(planet, myPlanets);
+                WorldSnapshot.PlanetState reinforcer = findBestReinforcer(snapshot, planet, myPlanets,
+                        targetCounts);
                 if (reinforcer != null) {
                     // Check if reinforcer already has this planet as target
-                    if (!reinforcer.getTargets().contains(planet)) {
-                        reinforcer.attemptTargeting(planet);
+                    if (!reinforcer.isTargeting(planet.getPlanet())) {
+                        commands.add(BotCommand.target(reinforcer.getPlanet(), planet.getPlanet()));
+                        targetCounts[reinforcer.getIndex()]++;
                     }
                 }
             }
@@ -132,23 +210,30 @@ public class Bot extends Operator {
     }
 
     /**
-     * Finds the best planet to use as a reinforcer for a weak planet
+     * Finds the best planet to use as a reinforcer for a weak planet, preferring
+     * planets away from the frontier that can spare their ships
      */
-    private Planet findBestReinforcer(Planet weakPlanet, List<Planet> myPlanets) {
-        Planet bestReinforcer = null;
+    private WorldSnapshot.PlanetState findBestReinforcer(WorldSnapshot snapshot,
+            WorldSnapshot.PlanetState weakPlanet, List<WorldSnapshot.PlanetState> myPlanets, int[] targetCounts) {
+        WorldSnapshot.PlanetState bestReinforcer = null;
         int bestHealth = 0;
+        boolean bestOnFrontier = true;
 
-        for (Planet planet : myPlanets) {
+        for (WorldSnapshot.PlanetState planet : myPlanets) {
             if (planet == weakPlanet)
                 continue; // Can't reinforce itself
 
             // Prefer planets with high health that aren't already targeting too many
             // planets
-            if (planet.getHealth() > planet.getMaxHealth() * 0.8 &&
-                    planet.getTargets().size() < 2 &&
-                    planet.getHealth() > bestHealth) {
+            if (planet.getHealthRatio() <= 0.8 || targetCounts[planet.getIndex()] >= 2) {
+                continue;
+            }
+            boolean onFrontier = snapshot.isFrontier(planet);
+            if ((bestOnFrontier && !onFrontier)
+                    || (bestOnFrontier == onFrontier && planet.getHealth() > bestHealth)) {
                 bestReinforcer = planet;
                 bestHealth = planet.getHealth();
+                bestOnFrontier = onFrontier;
             }
         }
 
@@ -158,21 +243,15 @@ public class Bot extends Operator {
     /**
      * Forms connections to attack enemy or neutral planets
      */
-    private void formAttackConnections(List<Planet> myPlanets) {
-        // Get all enemy/neutral planets
-        List<Planet> enemyPlanets = new ArrayList<>();
-        for (Planet planet : getGame().getPlanets()) {
-            if (planet.getOperator() != this) {
-                enemyPlanets.add(planet);
-            }
-        }
-
-        if (enemyPlanets.isEmpty()) {
-            return; // No enemies to attack
+    private void formAttackConnections(WorldSnapshot snapshot, List<WorldSnapshot.PlanetState> myPlanets,
+            int[] targetCounts, List<BotCommand> commands) {
+        // Nothing to attack once every planet is ours
+        if (myPlanets.size() == snapshot.getPlanets().size()) {
+            return;
         }
 
         // For each of our planets, try to add attack targets
-        for (Planet myPlanet : myPlanets) {
+        for (WorldSnapshot.PlanetState myPlanet : myPlanets) {
             // Adjust health threshold based on aggressiveness (more aggressive = attack
             // with lower health)
             double healthThreshold = 0.3 / aggressiveness;
@@ -181,15 +260,16 @@ public class Bot extends Operator {
             int maxTargets = (int) Math.ceil(2 * aggressiveness);
 
             // Skip if planet is too weak or already has many targets
-            if (myPlanet.getHealth() < myPlanet.getMaxHealth() * healthThreshold ||
-                    myPlanet.getTargets().size() >= maxTargets) {
+            if (myPlanet.getHealthRatio() < healthThreshold ||
+                    targetCounts[myPlanet.getIndex()] >= maxTargets) {
                 continue;
             }
 
             // Find the best enemy planet to target
-            Planet target = findBestAttackTarget(myPlanet, enemyPlanets);
-            if (target != null && !myPlanet.getTargets().contains(target)) {
-                myPlanet.attemptTargeting(target);
+            WorldSnapshot.PlanetState target = findBestAttackTarget(snapshot, myPlanet);
+            if (target != null && !myPlanet.isTargeting(target.getPlanet())) {
+                commands.add(BotCommand.target(myPlanet.getPlanet(), target.getPlanet()));
+                targetCounts[myPlanet.getIndex()]++;
             }
         }
     }
@@ -197,28 +277,43 @@ public class Bot extends Operator {
     /**
      * Finds the best enemy planet to attack from a given planet
      */
-    private Planet findBestAttackTarget(Planet attackerPlanet, List<Planet> enemyPlanets) {
-        Planet bestTarget = null;
-        double bestScore = -1;
-
-        for (Planet enemy : enemyPlanets) {
-            // Calculate distance
-            double distance = Math.hypot(
-                    attackerPlanet.getX() - enemy.getX(),
-                    attackerPlanet.getY() - enemy.getY());
+    private WorldSnapshot.PlanetState findBestAttackTarget(WorldSnapshot snapshot,
+            WorldSnapshot.PlanetState attackerPlanet) {
+        WorldSnapshot.PlanetState bestTarget = null;
+        double bestScore = -Double.MAX_VALUE;
+
+        for (WorldSnapshot.PlanetState enemy : snapshot.getPlanets()) {
+            if (enemy.getOperator() == this) {
+                continue; // Only enemy/neutral planets
+            }
+            double distance = snapshot.getDistance(attackerPlanet, enemy);
 
             // Calculate a score based on distance (closer is better) and enemy health
-            // (weaker is better)
+            // once our ships get there (weaker is better), since far planets regenerate
+            // while the ships travel
             // Apply efficiency multiplier to make targeting more strategic at higher
             // difficulties
+            double healthOnArrival = enemy.getHealthAfter(snapshot.getEtaTicks(attackerPlanet, enemy));
             double distanceScore = (1000.0 / (distance + 1)) * efficiency;
-            double healthScore = (1000.0 / (enemy.getHealth() + 1)) * efficiency;
+            double healthScore = (1000.0 / (healthOnArrival + 1)) * efficiency;
 
             // Prioritize player planets more at higher difficulties
-            boolean isPlayerPlanet = enemy.getOperator() == getGame().getPlayer();
+            boolean isPlayerPlanet = enemy.getOperator() == snapshot.getPlayer();
             double playerBonus = isPlayerPlanet ? (aggressiveness * 3.0) : 0.0;
 
-            double score = distanceScore + healthScore + playerBonus;
+            // Ships already around the target: ours help the attack, the owner's defend
+            // it. Their firepower is weighed in default ships, so upgraded fleets count
+            // for more.
+            double shipDamage = Math.max(1, GameConstants.getDefaultShipDamage());
+            double support = snapshot.getBotStrengthNear(enemy, this) / shipDamage;
+            double defence = snapshot.getDefenceNear(enemy) / shipDamage;
+            double supportScore = support * 0.5 * efficiency;
+            double defenceScore = defence * 0.5;
+            // Extra penalty when the defenders outgun what we already have there
+            double outgunnedScore = Math.max(0, defence - support) * 0.5;
+
+            double score = distanceScore + healthScore + playerBonus + supportScore - defenceScore
+                    - outgunnedScore;
 
             if (score > bestScore) {
                 bestScore = score;
@@ -233,8 +328,6 @@ public class Bot extends Operator {
      * Grants abilities and upgrades to the bot based on difficulty level
      */
     private void grantBotAbilitiesAndUpgrades(Difficulty difficulty) {
-        Random random = new Random();
-
         // Define available abilities for bots (all abilities except
         // PLANETARY_INFECTION)
         AbilityType[] availableAbilities = {
@@ -380,7 +473,7 @@ public class Bot extends Operator {
      */
     public boolean isBotShieldActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
-        return abilityManager.isOperatorShieldActive(this) || System.currentTimeMillis() < botShieldEndTime;
+        return abilityManager.isOperatorShieldActive(this) || GameClock.currentTimeMillis() < botShieldEndTime;
     }
 
     /**
@@ -388,7 +481,7 @@ public class Bot extends Operator {
      */
     public boolean isBotFactoryHypeActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
-        return abilityManager.isOperatorFactoryHypeActive(this) || System.currentTimeMillis() < botFactoryHypeEndTime;
+        return abilityManager.isOperatorFactoryHypeActive(this) || GameClock.currentTimeMillis() < botFactoryHypeEndTime;
     }
 
     /**
@@ -397,7 +490,7 @@ public class Bot extends Operator {
     public boolean isBotImprovedFactoriesActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
         return abilityManager.isOperatorImprovedFactoriesActive(this)
-                || System.currentTimeMillis() < botImprovedFactoriesEndTime;
+                || GameClock.currentTimeMillis() < botImprovedFactoriesEndTime;
     }
 
     /**
@@ -406,7 +499,7 @@ public class Bot extends Operator {
     public boolean isBotBlackHoleActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
         return !abilityManager.getOperatorBlackHoles(this).isEmpty()
-                || System.currentTimeMillis() < botBlackHoleEndTime;
+                || GameClock.currentTimeMillis() < botBlackHoleEndTime;
     }
 
     /**
@@ -415,7 +508,7 @@ public class Bot extends Operator {
     public boolean isBotPlanetaryFlameActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
         return abilityManager.isOperatorPlanetaryFlameActive(this)
-                || System.currentTimeMillis() < botPlanetaryFlameEndTime;
+                || GameClock.currentTimeMillis() < botPlanetaryFlameEndTime;
     }
 
     /**
@@ -423,21 +516,21 @@ public class Bot extends Operator {
      */
     public boolean isBotFreezeActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
-        return abilityManager.isOperatorFreezeActive(this) || System.currentTimeMillis() < botFreezeEndTime;
+        return abilityManager.isOperatorFreezeActive(this) || GameClock.currentTimeMillis() < botFreezeEndTime;
     }
 
     /**
      * Checks if bot missile barrage is active (for visual effects)
      */
     public boolean isBotMissileBarrageActive() {
-        return System.currentTimeMillis() < botMissileBarrageEndTime;
+        return GameClock.currentTimeMillis() < botMissileBarrageEndTime;
     }
 
     /**
      * Checks if bot answered prayers is active (for visual effects)
      */
     public boolean isBotAnsweredPrayersActive() {
-        return System.currentTimeMillis() < botAnsweredPrayersEndTime;
+        return GameClock.currentTimeMillis() < botAnsweredPrayersEndTime;
     }
 
     /**
@@ -445,7 +538,7 @@ public class Bot extends Operator {
      */
     public boolean isBotCurseActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
-        return !abilityManager.getOperatorCursedPlanets(this).isEmpty() || System.currentTimeMillis() < botCurseEndTime;
+        return !abilityManager.getOperatorCursedPlanets(this).isEmpty() || GameClock.currentTimeMillis() < botCurseEndTime;
     }
 
     /**
@@ -454,7 +547,7 @@ public class Bot extends Operator {
     public boolean isBotUnstoppableShipsActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
         return abilityManager.isOperatorUnstoppableShipsActive(this)
-                || System.currentTimeMillis() < botUnstoppableShipsEndTime;
+                || GameClock.currentTimeMillis() < botUnstoppableShipsEndTime;
     }
 
     /**
@@ -463,26 +556,7 @@ public class Bot extends Operator {
     public boolean isBotOrbitalFreezeActive() {
         AbilityManager abilityManager = getGame().getAbilityManager();
         return !abilityManager.getOperatorOrbitalFrozenPlanets(this).isEmpty()
-                || System.currentTimeMillis() < botOrbitalFreezeEndTime;
-    }
-
-    /**
-     * Attempts to use a random ability if available and not on cooldown
-     */
-    public void tryUseAbility() {
-        long currentTime = System.currentTimeMillis();
-
-        if (botAbilities.isEmpty() || currentTime - lastAbilityUse < ABILITY_COOLDOWN) {
-            return; // No abilities or still on cooldown
-        }
-
-        // Randomly select an ability to use
-        Random random = new Random();
-        AbilityType selectedAbility = botAbilities.get(random.nextInt(botAbilities.size()));
-
-        // Use bot-specific ability activation (doesn't affect player cooldowns)
-        useBotAbility(selectedAbility);
-        lastAbilityUse = currentTime;
+                || GameClock.currentTimeMillis() < botOrbitalFreezeEndTime;
     }
 
     /**
@@ -495,7 +569,7 @@ public class Bot extends Operator {
         }
 
         AbilityManager abilityManager = getGame().getAbilityManager();
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
 
         // Set visual effect timings for rendering
         switch (ability) {
@@ -0,0 +1,53 @@
+package home.game.operators;
+
+import home.game.abilities.AbilityType;
+import home.game.planets.Planet;
+
+/**
+ * A single action a bot wants to take, produced by a planner thread and applied
+ * by the engine at the next tick boundary. Commands are validated against the
+ * live world when applied since it may have changed while the bot was planning.
+ */
+public class BotCommand {
+
+    public enum Type {
+        TARGET, // Connect a source planet to a target planet
+        ABILITY // Activate one of the bot's abilities
+    }
+
+    private final Type type;
+    private final Planet source;
+    private final Planet target;
+    private final AbilityType ability;
+
+    private BotCommand(Type type, Planet source, Planet target, AbilityType ability) {
+        this.type = type;
+        this.source = source;
+        this.target = target;
+        this.ability = ability;
+    }
+
+    public static BotCommand target(Planet source, Planet target) {
+        return new BotCommand(Type.TARGET, source, target, null);
+    }
+
+    public static BotCommand ability(AbilityType ability) {
+        return new BotCommand(Type.ABILITY, null, null, ability);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Planet getSource() {
+        return source;
+    }
+
+    public Planet getTarget() {
+        return target;
+    }
+
+    public AbilityType getAbility() {
+        return ability;
+    }
+}
@@ -0,0 +1,139 @@
+package home.game.operators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import home.game.Game;
+
+/**
+ * Runs bot decision making on a small worker pool so AI cost doesn't add to
+ * tick latency.
+ *
+ * Flow per decision: the engine thread takes (or reuses) a {@link WorldSnapshot}
+ * for the current tick and submits the bot's plan to the pool. The worker
+ * produces a list of {@link BotCommand}s which are queued and applied by the
+ * engine at the start of the next tick it runs. A bot never has more than one
+ * plan in flight. When the planner runs inline, plans are made and applied on
+ * the engine thread in the tick they are submitted, so the outcome doesn't
+ * depend on thread timing.
+ */
+public class BotPlanner {
+
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 5;
+
+    private final Game game;
+    private final ThreadPoolExecutor executor;
+    private final Queue<CompletedPlan> completedPlans = new ConcurrentLinkedQueue<>();
+    private WorldSnapshot currentSnapshot;
+    private boolean inline;
+
+    public BotPlanner(Game game) {
+        this.game = game;
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "Bot Planner " + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Let idle workers die so an abandoned game doesn't keep threads around
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Makes bots plan on the engine thread and applies each plan straight away,
+     * used by the frame exporter so a seeded game plays out the same way on every
+     * run. Must be called from the engine thread.
+     */
+    public void setInline(boolean inline) {
+        this.inline = inline;
+    }
+
+    /**
+     * Queues a planning pass for the bot. Must be called from the engine thread.
+     */
+    public void submit(Bot bot, boolean abilityReady) {
+        WorldSnapshot snapshot = getSnapshot();
+        if (inline) {
+            apply(new CompletedPlan(bot, plan(bot, snapshot, abilityReady)));
+            return;
+        }
+        try {
+            executor.execute(() -> completedPlans.add(new CompletedPlan(bot, plan(bot, snapshot, abilityReady))));
+        } catch (RejectedExecutionException e) {
+            // Planner was shut down, release the bot so it isn't stuck waiting
+            bot.onPlanApplied();
+        }
+    }
+
+    /**
+     * Applies every plan that finished since the last call. Must be called from
+     * the engine thread at a tick boundary.
+     */
+    public void applyCompletedPlans() {
+        CompletedPlan plan;
+        while ((plan = completedPlans.poll()) != null) {
+            apply(plan);
+        }
+    }
+
+    private List<BotCommand> plan(Bot bot, WorldSnapshot snapshot, boolean abilityReady) {
+        try {
+            return bot.plan(snapshot, abilityReady);
+        } catch (RuntimeException e) {
+            System.err.println("Bot planning failed: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private void apply(CompletedPlan plan) {
+        if (game.getBots().contains(plan.bot)) {
+            for (BotCommand command : plan.commands) {
+                plan.bot.applyCommand(command);
+            }
+        }
+        plan.bot.onPlanApplied();
+    }
+
+    /**
+     * Gets the snapshot for the current tick, taking one if this is the first bot
+     * to plan this tick. All bots planning in the same tick share it.
+     */
+    public WorldSnapshot getSnapshot() {
+        if (currentSnapshot == null || currentSnapshot.getTick() != game.getTickCount()) {
+            currentSnapshot = new WorldSnapshot(game);
+        }
+        return currentSnapshot;
+    }
+
+    /**
+     * Drops all finished plans that haven't been applied yet (game reset)
+     */
+    public void clear() {
+        completedPlans.clear();
+        currentSnapshot = null;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        completedPlans.clear();
+    }
+
+    private static class CompletedPlan {
+        private final Bot bot;
+        private final List<BotCommand> commands;
+
+        private CompletedPlan(Bot bot, List<BotCommand> commands) {
+            this.bot = bot;
+            this.commands = commands;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package home.game.operators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import home.game.Game;
+import home.game.GameConstants;
+import home.game.combat.ArrivalForecast;
+import home.game.combat.InfluenceMap;
+import home.game.planets.Planet;
+
+/**
+ * Read-only copy of the world state that bots plan against. Built on the engine
+ * thread and then handed to planner threads, so nothing in here may be changed
+ * after construction and planners must never call back into live entities.
+ *
+ * Planets are kept only as handles so that commands can name them; all values a
+ * planner needs are copied into {@link PlanetState}.
+ *
+ * The snapshot doubles as the strategic summary every bot reads from: ownership,
+ * health ratios, pairwise distances and travel times, incoming damage and
+ * frontier planets are worked out once per tick here instead of once per bot.
+ */
+public class WorldSnapshot {
+
+    private final long tick;
+    private final Operator player;
+    private final List<PlanetState> planets;
+    private final Map<Operator, List<PlanetState>> planetsByOwner;
+    private final double[][] distances;
+    private final double[][] etaTicks;
+    private final int[] incomingHostileDamage;
+    private final long[] nextHostileArrival; // Tick, -1 when nothing hostile is incoming
+    private final boolean[] frontier;
+    private final int[] defenceNear;
+    private final Map<Operator, int[]> botStrengthNear;
+
+    public WorldSnapshot(Game game) {
+        this.tick = game.getTickCount();
+        this.player = game.getPlayer();
+
+        List<Planet> livePlanets = game.getPlanets();
+        List<PlanetState> states = new ArrayList<>(livePlanets.size());
+        for (int i = 0; i < livePlanets.size(); i++) {
+            states.add(new PlanetState(livePlanets.get(i), i));
+        }
+        this.planets = Collections.unmodifiableList(states);
+
+        int count = states.size();
+        Map<Operator, List<PlanetState>> byOwner = new HashMap<>();
+        for (PlanetState state : states) {
+            byOwner.computeIfAbsent(state.operator, owner -> new ArrayList<>()).add(state);
+        }
+        for (Map.Entry<Operator, List<PlanetState>> entry : byOwner.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        this.planetsByOwner = byOwner;
+
+        // Pairwise distances and travel time at base ship speed
+        double shipSpeed = GameConstants.getDefaultShipSpeed();
+        this.distances = new double[count][count];
+        this.etaTicks = new double[count][count];
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                double distance = Math.hypot(states.get(i).x - states.get(j).x, states.get(i).y - states.get(j).y);
+                distances[i][j] = distance;
+                distances[j][i] = distance;
+                etaTicks[i][j] = distance / shipSpeed;
+                etaTicks[j][i] = distance / shipSpeed;
+            }
+        }
+
+        // Damage currently heading for each planet and when it lands, read from the arrival forecast
+        ArrivalForecast forecast = game.getArrivalForecast();
+        this.incomingHostileDamage = new int[count];
+        this.nextHostileArrival = new long[count];
+        for (int i = 0; i < count; i++) {
+            Planet planet = livePlanets.get(i);
+            incomingHostileDamage[i] = forecast.getHostileIncomingDamage(planet);
+            nextHostileArrival[i] = forecast.getNextHostileArrivalTick(planet);
+        }
+
+        // A frontier planet is closer to a foreign planet than to any friendly one
+        this.frontier = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            double nearestFriendly = Double.MAX_VALUE;
+            double nearestForeign = Double.MAX_VALUE;
+            for (int j = 0; j < count; j++) {
+                if (i == j) {
+                    continue;
+                }
+                if (states.get(j).operator == states.get(i).operator) {
+                    nearestFriendly = Math.min(nearestFriendly, distances[i][j]);
+                } else {
+                    nearestForeign = Math.min(nearestForeign, distances[i][j]);
+                }
+            }
+            frontier[i] = nearestForeign < nearestFriendly;
+        }
+
+        // Firepower around each planet, read from the influence map
+        InfluenceMap influenceMap = game.getInfluenceMap();
+        this.defenceNear = new int[count];
+        this.botStrengthNear = new HashMap<>();
+        for (Bot bot : game.getBots()) {
+            botStrengthNear.put(bot, new int[count]);
+        }
+        for (int i = 0; i < count; i++) {
+            PlanetState state = states.get(i);
+            if (state.operator != null) {
+                defenceNear[i] = influenceMap.getStrength(state.operator, state.x, state.y, InfluenceMap.Range.WIDE);
+            }
+            for (Map.Entry<Operator, int[]> entry : botStrengthNear.entrySet()) {
+                entry.getValue()[i] = influenceMap.getStrength(entry.getKey(), state.x, state.y,
+                        InfluenceMap.Range.WIDE);
+            }
+        }
+    }
+
+    /**
+     * Gets the engine tick this snapshot was taken on
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public Operator getPlayer() {
+        return player;
+    }
+
+    public List<PlanetState> getPlanets() {
+        return planets;
+    }
+
+    /**
+     * Gets the planets owned by an operator (empty if it owns none)
+     */
+    public List<PlanetState> getPlanetsOwnedBy(Operator operator) {
+        List<PlanetState> owned = planetsByOwner.get(operator);
+        return owned != null ? owned : Collections.emptyList();
+    }
+
+    public double getDistance(PlanetState from, PlanetState to) {
+        return distances[from.index][to.index];
+    }
+
+    /**
+     * Gets the travel time between two planets in ticks at base ship speed
+     */
+    public double getEtaTicks(PlanetState from, PlanetState to) {
+        return etaTicks[from.index][to.index];
+    }
+
+    /**
+     * Gets the damage carried by hostile ships heading to the planet
+     */
+    public int getIncomingHostileDamage(PlanetState planet) {
+        return incomingHostileDamage[planet.index];
+    }
+
+    /**
+     * Gets the ticks until the first hostile group heading to the planet is
+     * expected to land, or Long.MAX_VALUE if nothing hostile is incoming
+     */
+    public long getTicksUntilHostileArrival(PlanetState planet) {
+        long arrival = nextHostileArrival[planet.index];
+        return arrival < 0 ? Long.MAX_VALUE : Math.max(0, arrival - tick);
+    }
+
+    /**
+     * Gets the planet's health ratio once every hostile ship heading to it has
+     * landed
+     */
+    public double getProjectedHealthRatio(PlanetState planet) {
+        if (planet.maxHealth <= 0) {
+            return 0;
+        }
+        return (double) (planet.health - incomingHostileDamage[planet.index]) / planet.maxHealth;
+    }
+
+    /**
+     * Checks if the planet's nearest neighbour belongs to someone else
+     */
+    public boolean isFrontier(PlanetState planet) {
+        return frontier[planet.index];
+    }
+
+    /**
+     * Gets the combined damage of the planet owner's ships around the planet
+     */
+    public int getDefenceNear(PlanetState planet) {
+        return defenceNear[planet.index];
+    }
+
+    /**
+     * Gets the combined damage of a bot's ships around the planet
+     */
+    public int getBotStrengthNear(PlanetState planet, Operator bot) {
+        int[] near = botStrengthNear.get(bot);
+        return near != null ? near[planet.index] : 0;
+    }
+
+    /**
+     * Frozen copy of the planet values bots make decisions on
+     */
+    public static class PlanetState {
+        private final Planet planet;
+        private final int index;
+        private final Operator operator;
+        private final double x;
+        private final double y;
+        private final int health;
+        private final int maxHealth;
+        private final double healthRatio;
+        private final double healthRegenPerSecond;
+        private final List<Planet> targets;
+
+        private PlanetState(Planet planet, int index) {
+            this.planet = planet;
+            this.index = index;
+            this.operator = planet.getOperator();
+            this.x = planet.getX();
+            this.y = planet.getY();
+            this.health = planet.getHealth();
+            this.maxHealth = planet.getMaxHealth();
+            this.healthRatio = maxHealth > 0 ? (double) health / maxHealth : 0;
+            this.healthRegenPerSecond = planet.getHealthRegenPerSecond();
+            this.targets = Collections.unmodifiableList(new ArrayList<>(planet.getTargets()));
+        }
+
+        /**
+         * Gets the live planet this state was copied from. Only use it as a handle
+         * for commands, never read it from a planner thread.
+         */
+        public Planet getPlanet() {
+            return planet;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public int getHealth() {
+            return health;
+        }
+
+        public int getMaxHealth() {
+            return maxHealth;
+        }
+
+        /**
+         * Gets health as a fraction of max health
+         */
+        public double getHealthRatio() {
+            return healthRatio;
+        }
+
+        /**
+         * Gets the planet's health after regenerating for the given number of ticks
+         */
+        public double getHealthAfter(double ticks) {
+            double regenerated = healthRegenPerSecond * ticks / GameConstants.getTargetTPS();
+            return Math.min(maxHealth, health + regenerated);
+        }
+
+        public List<Planet> getTargets() {
+            return targets;
+        }
+
+        public boolean isTargeting(Planet planet) {
+            return targets.contains(planet);
+        }
+    }
+}
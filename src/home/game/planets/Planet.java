@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import home.game.Game;
+import home.game.GameClock;
 import home.game.GameConstants;
+import home.game.GameRandom;
 import home.game.Ship;
 import home.game.abilities.AbilityType;
 import home.game.challenges.ChallengeManager;
@@ -27,11 +29,12 @@ public class Planet {
     private long lastShipTime;
     private long shipInterval = (long) (1000 / GameConstants.getDefaultShipsPerSecond());
     private List<Planet> targets;
+    private volatile int targetsVersion; // Bumped whenever targets change
     private int maxTargets = 1;
     private int targetIndex = 0;
     private int maxHealth = GameConstants.getMaxPlanetHealth();
     private int healthRegenRate = GameConstants.getPlanetHealthRegenRate(); // Health per second
-    private long lastRegenTime = System.currentTimeMillis();
+    private long lastRegenTime = GameClock.currentTimeMillis();
     private List<Ship> stationedShips;
     private double rotationAngle = 0; // For visual rotation effect
     private PlanetFeatures features; // Visual features like craters, rings, moons
@@ -53,7 +56,7 @@ public class Planet {
         this.y = y;
         this.health = health;
         this.planetType = planetType;
-        this.lastShipTime = System.currentTimeMillis();
+        this.lastShipTime = GameClock.currentTimeMillis();
         this.stationedShips = new ArrayList<>();
         this.targets = new ArrayList<>();
         this.features = new PlanetFeatures(x, y, planetType);
@@ -66,7 +69,7 @@ public class Planet {
         this.operator = operator;
         this.health = health;
         this.planetType = planetType;
-        this.lastShipTime = System.currentTimeMillis();
+        this.lastShipTime = GameClock.currentTimeMillis();
         this.stationedShips = new ArrayList<>();
         this.targets = new ArrayList<>();
 
@@ -146,20 +149,57 @@ public class Planet {
         return planetType;
     }
 
+    /**
+     * Gets the health the planet regenerates every second
+     */
+    public double getHealthRegenPerSecond() {
+        return healthRegenRate * planetType.getHealthRegenMultiplier();
+    }
+
     public void setOperator(Operator operator) {
         this.operator = operator;
     }
 
     public void takeDamage(Ship ship) {
-        int damage = ship.getDamage();
-        if (ship.getOperator() == this.operator && damage > 0) {
+        int damage = resolveDamage(ship.getOperator(), ship.getDamage());
+        int effectiveMaxHealth = getMaxHealth();
+        if (this.health == effectiveMaxHealth && damage < 0) {
+            // Station the ship if planet is at full health
+            stationedShips.add(ship);
+            ship.getOperator().removeShip(ship);
+            setMaxTargets();
+            return;
+        }
+        applyDamage(damage);
+    }
+
+    /**
+     * Deals damage from an ability effect that has no ship behind it (infection
+     * ticks). Same rules as ship damage, but nothing is ever stationed.
+     */
+    public void takeDamage(Operator attacker, int damage) {
+        damage = resolveDamage(attacker, damage);
+        if (this.health == getMaxHealth() && damage < 0) {
+            return; // Nothing to heal
+        }
+        applyDamage(damage);
+    }
+
+    /**
+     * Applies shields, upgrades and planet type to incoming damage and handles a
+     * takeover by the attacker.
+     * 
+     * @return the damage to subtract from health (negative heals)
+     */
+    private int resolveDamage(Operator attacker, int damage) {
+        if (attacker == this.operator && damage > 0) {
             damage = -damage; // Heal if same operator
         } else {
             // Check shield ability for player planets
             if (this.operator instanceof Player && game != null) {
                 if (game.getAbilityManager().isShieldActive() || GameConstants.arePlayerPlanetsInvincible()) {
                     if (damage > 0) {
-                        return; // No damage when shield is active
+                        return 0; // No damage when shield is active
                     }
                 }
             }
@@ -189,8 +229,9 @@ public class Planet {
             if (this.health < 0) {
                 this.health = Math.abs(health);
                 Operator previousOperator = this.operator;
-                this.operator = ship.getOperator();
+                this.operator = attacker;
                 this.targets.clear(); // Clear targets on takeover
+                targetsVersion++;
                 this.stationedShips.clear(); // Clear stationed ships on takeover
                 if (this.operator instanceof Player) {
                     game.getAbilityManager().removeInfection(this);
@@ -202,7 +243,7 @@ public class Planet {
                     ChallengeManager challengeManager = ChallengeManager.getInstance();
 
                     // Track planet capture if player captured it
-                    if (ship.getOperator() instanceof Player) {
+                    if (attacker instanceof Player) {
                         challengeManager.onPlanetCaptured(this.planetType);
                     }
 
@@ -213,15 +254,10 @@ public class Planet {
                 }
             }
         }
-        int effectiveMaxHealth = getMaxHealth();
-        if (this.health == effectiveMaxHealth && damage < 0) {
-            // Station the ship if planet is at full health
-            stationedShips.add(ship);
-            ship.getOperator().removeShip(ship);
-            setMaxTargets();
-            return;
-        }
+        return damage;
+    }
 
+    private void applyDamage(int damage) {
         // Play planet damage sound if damage > 0 and game is available
         if (damage > 0 && game != null) {
             game.getSoundManager().play(Sound.PLANET_DAMAGE);
@@ -236,7 +272,7 @@ public class Planet {
     }
 
     public void tick() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         if (stationedShips.size() > 0 && targets.size() > 0) {
             Ship ship = stationedShips.remove(0);
             ship.resetCreationTime();
@@ -290,7 +326,7 @@ public class Planet {
 
                 // Handle double ship chance
                 double doubleShipChance = playerData.getUpgradePercentage(UpgradeType.DOUBLE_SHIP_CHANCE);
-                boolean createDoubleShip = Math.random() < (doubleShipChance / 100.0);
+                boolean createDoubleShip = GameRandom.nextDouble() < (doubleShipChance / 100.0);
 
                 Planet targetPlanet = isInfected ? chooseTargetForOperator(shipOperator) : chooseTarget();
                 Ship newShip = new Ship(shipOperator, this, targetPlanet, shipSpeed, shipHealth, shipDamage);
@@ -330,14 +366,18 @@ public class Planet {
         }
         // Regenerate health
         if (currentTime - lastRegenTime >= 1000) {
-            double healthToRegen = healthRegenRate * planetType.getHealthRegenMultiplier();
+            double healthToRegen = getHealthRegenPerSecond();
             healthToRegen = Math.min(healthToRegen, getMaxHealth() - health);
             this.health += healthToRegen;
             lastRegenTime = currentTime;
         }
 
-        // Update visual features (moons orbiting)
+        // Update visual features (moons orbiting, surface spinning)
         features.updateMoons();
+        rotationAngle += features.getRotationSpeed();
+        if (rotationAngle >= 2 * Math.PI) {
+            rotationAngle -= 2 * Math.PI;
+        }
 
         // Update orbital position
         updateOrbitalPosition();
@@ -372,18 +412,21 @@ public class Planet {
         }
 
         // Choose a random enemy planet
-        int randomIndex = (int) (Math.random() * enemyPlanets.size());
+        int randomIndex = (int) (GameRandom.nextDouble() * enemyPlanets.size());
         return enemyPlanets.get(randomIndex);
     }
 
     private void addTarget(Planet planet) {
         if (targets.size() < maxTargets && !targets.contains(planet) && planet != this) {
             targets.add(planet);
+            targetsVersion++;
         }
     }
 
     public void removeTarget(Planet planet) {
-        targets.remove(planet);
+        if (targets.remove(planet)) {
+            targetsVersion++;
+        }
     }
 
     public int getHealth() {
@@ -394,6 +437,14 @@ public class Planet {
         return targets;
     }
 
+    /**
+     * Gets a number that changes whenever the targets change, so readers on
+     * other threads can tell when to copy them again
+     */
+    public int getTargetsVersion() {
+        return targetsVersion;
+    }
+
     public int getMaxTargets() {
         return maxTargets;
     }
@@ -409,10 +460,6 @@ public class Planet {
     }
 
     public double getRotationAngle() {
-        rotationAngle += features.getRotationSpeed();
-        if (rotationAngle >= 2 * Math.PI) {
-            rotationAngle -= 2 * Math.PI;
-        }
         return rotationAngle;
     }
 
@@ -587,7 +634,7 @@ public class Planet {
         }
 
         // Set last ship time to allow immediate creation on next tick
-        lastShipTime = System.currentTimeMillis() - getAdjustedShipInterval() - 100;
+        lastShipTime = GameClock.currentTimeMillis() - getAdjustedShipInterval() - 100;
     }
 
     /**
@@ -0,0 +1,131 @@
+package home.game.planets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import home.game.GameConstants;
+
+/**
+ * Keeps a list of nearby planets for every planet so proximity effects such as
+ * infection spread only have to look at a handful of neighbours instead of the
+ * whole planet list.
+ *
+ * Neighbour lists are built with an extra margin around the effect range and
+ * are only rebuilt once a planet has drifted more than half of that margin
+ * since the last build, so most ticks cost a single pass over the planets.
+ */
+public class PlanetProximityGraph {
+
+    private final Map<Planet, List<Planet>> neighbours = new HashMap<>();
+    private final List<Planet> indexedPlanets = new ArrayList<>();
+    private double[] anchorX = new double[0];
+    private double[] anchorY = new double[0];
+    private double linkRange;
+
+    /**
+     * Refreshes the graph for the current planet positions. Called once per tick
+     * after the planets have moved.
+     */
+    public void update(List<Planet> planets) {
+        if (hasStructureChanged(planets) || hasDriftedPastMargin()) {
+            rebuild(planets);
+        }
+    }
+
+    /**
+     * Gets every planet within the link range of the given planet. The returned
+     * list is owned by the graph and must not be modified.
+     */
+    public List<Planet> getNeighbours(Planet planet) {
+        List<Planet> result = neighbours.get(planet);
+        return result != null ? result : Collections.emptyList();
+    }
+
+    /**
+     * Gets the distance up to which planets are guaranteed to be linked
+     */
+    public double getLinkRange() {
+        return linkRange;
+    }
+
+    public void clear() {
+        neighbours.clear();
+        indexedPlanets.clear();
+        anchorX = new double[0];
+        anchorY = new double[0];
+    }
+
+    private boolean hasStructureChanged(List<Planet> planets) {
+        if (planets.size() != indexedPlanets.size()) {
+            return true;
+        }
+        for (int i = 0; i < planets.size(); i++) {
+            if (planets.get(i) != indexedPlanets.get(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasDriftedPastMargin() {
+        double maxDrift = GameConstants.getProximityGraphMargin() / 2.0;
+        double maxDriftSquared = maxDrift * maxDrift;
+        for (int i = 0; i < indexedPlanets.size(); i++) {
+            Planet planet = indexedPlanets.get(i);
+            double dx = planet.getX() - anchorX[i];
+            double dy = planet.getY() - anchorY[i];
+            if (dx * dx + dy * dy > maxDriftSquared) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuild(List<Planet> planets) {
+        int count = planets.size();
+        if (hasStructureChanged(planets)) {
+            neighbours.keySet().retainAll(planets);
+            indexedPlanets.clear();
+            indexedPlanets.addAll(planets);
+            anchorX = new double[count];
+            anchorY = new double[count];
+        }
+
+        // Link range covers the largest effect range, including touching planets
+        double largestRadius = 0;
+        for (Planet planet : planets) {
+            largestRadius = Math.max(largestRadius, planet.getActualRadius());
+        }
+        linkRange = Math.max(GameConstants.getInfectionSpreadRange(), largestRadius * 2);
+        double cutoff = linkRange + GameConstants.getProximityGraphMargin();
+        double cutoffSquared = cutoff * cutoff;
+
+        for (int i = 0; i < count; i++) {
+            Planet planet = planets.get(i);
+            anchorX[i] = planet.getX();
+            anchorY[i] = planet.getY();
+            List<Planet> list = neighbours.get(planet);
+            if (list == null) {
+                list = new ArrayList<>();
+                neighbours.put(planet, list);
+            }
+            list.clear();
+        }
+
+        for (int i = 0; i < count; i++) {
+            Planet a = planets.get(i);
+            for (int j = i + 1; j < count; j++) {
+                Planet b = planets.get(j);
+                double dx = anchorX[i] - anchorX[j];
+                double dy = anchorY[i] - anchorY[j];
+                if (dx * dx + dy * dy <= cutoffSquared) {
+                    neighbours.get(a).add(b);
+                    neighbours.get(b).add(a);
+                }
+            }
+        }
+    }
+}
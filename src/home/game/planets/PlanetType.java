@@ -1,5 +1,6 @@
 package home.game.planets;
 
+import home.game.GameRandom;
 import home.game.operators.Difficulty;
 
 public enum PlanetType {
@@ -51,11 +52,11 @@ public enum PlanetType {
     }
 
     public static PlanetType getRandomPlanetType(Difficulty difficulty) {
-        double chance = Math.random();
+        double chance = GameRandom.nextDouble();
         if (chance < difficulty.getAdvancedPlanetChance()) {
             // Randomly return one of the advanced types
             PlanetType[] advancedTypes = { ATTACK, DEFENCE, SPEED };
-            int index = (int) (Math.random() * advancedTypes.length);
+            int index = (int) (GameRandom.nextDouble() * advancedTypes.length);
             return advancedTypes[index];
         }
         return STANDARD;